@@ -4,15 +4,17 @@ import io.neow3j.constants.NeoConstants;
 import io.neow3j.crypto.Hash;
 import io.neow3j.io.BinaryReader;
 import io.neow3j.io.BinaryWriter;
+import io.neow3j.io.ByteBufferReader;
 import io.neow3j.io.IOUtils;
 import io.neow3j.io.NeoSerializable;
 import io.neow3j.io.exceptions.DeserializationException;
 import io.neow3j.utils.ArrayUtils;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.Objects;
 
@@ -106,8 +108,8 @@ public class NefFile extends NeoSerializable {
             }
             byte[] compilerBytes = ArrayUtils.trimTrailingBytes(reader.readBytes(32), (byte)0);
             this.compiler = new String(compilerBytes, StandardCharsets.UTF_8);
-            this.version = reader.readSerializable(Version.class);
-            this.scriptHash = reader.readSerializable(ScriptHash.class);
+            this.version = reader.readSerializable(Version::new);
+            this.scriptHash = reader.readSerializable(ScriptHash::new);
             this.checkSum = reader.readBytes(4);
             if (!Arrays.equals(this.checkSum, computeChecksum(this))) {
                 throw new DeserializationException("The checksums did not match");
@@ -119,17 +121,9 @@ public class NefFile extends NeoSerializable {
     }
 
     public static byte[] computeChecksum(NefFile file) {
-        byte[] serialized = new byte[]{};
-        try (ByteArrayOutputStream stream = new ByteArrayOutputStream()) {
-            BinaryWriter writer = new BinaryWriter(stream);
-            writer.writeSerializableFixed(file);
-            serialized = stream.toByteArray();
-        } catch (IOException e) {
-            // Doesn't happen because we're not writing to anywhere.
-        }
-        // Get header without the checksum.
-        byte[] header = ArrayUtils.getFirstNBytes(serialized, HEADER_SIZE - 4);
-        return ArrayUtils.getFirstNBytes(Hash.hash256(header), 4);
+        byte[] serialized = file.toArray();
+        // Hash the header without the checksum.
+        return ArrayUtils.getFirstNBytes(Hash.hash256(serialized, 0, HEADER_SIZE - 4), 4);
     }
 
     public static NefFile readFromFile(File nefFile) throws DeserializationException, IOException {
@@ -139,9 +133,9 @@ public class NefFile extends NeoSerializable {
             throw new IllegalArgumentException("The given NEF file is too large. File was "
                     + nefFileSize + " bytes, but a max of 2^20 bytes is allowed.");
         }
-        try (FileInputStream nefStream = new FileInputStream(nefFile)) {
-            BinaryReader reader = new BinaryReader(nefStream);
-            return reader.readSerializable(NefFile.class);
+        try (FileChannel channel = FileChannel.open(nefFile.toPath(), StandardOpenOption.READ)) {
+            ByteBuffer content = channel.map(FileChannel.MapMode.READ_ONLY, 0, nefFileSize);
+            return new ByteBufferReader(content).readSerializable(NefFile::new);
         }
     }
 
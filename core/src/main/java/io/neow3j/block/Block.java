@@ -0,0 +1,181 @@
+package io.neow3j.block;
+
+import static io.neow3j.crypto.Hash.hash256;
+
+import io.neow3j.contract.ScriptHash;
+import io.neow3j.io.BinaryReader;
+import io.neow3j.io.BinaryWriter;
+import io.neow3j.io.IOUtils;
+import io.neow3j.io.exceptions.DeserializationException;
+import io.neow3j.transaction.Transaction;
+import io.neow3j.transaction.Witness;
+import io.neow3j.utils.ArrayUtils;
+import io.neow3j.utils.Numeric;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p>A block in its binary form, e.g., as returned by the {@code getblock} RPC in
+ * non-verbose mode.</p>
+ * <br>
+ * <p>The block hash and the Merkle root are computed locally, so the integrity of a block can
+ * be verified without requesting it in its JSON form. Deserialization does not check the Merkle
+ * root. Use {@link #verifyMerkleRoot()} for that.</p>
+ */
+public class Block extends BlockBase {
+
+    /**
+     * The maximum number of entries in the content of a block, i.e., the consensus data and the
+     * transactions.
+     */
+    public static final int MAX_CONTENTS_PER_BLOCK = 0xFFFF;
+
+    private ConsensusData consensusData;
+    private List<Transaction> transactions;
+    // The hashes of the transactions if they were computed while decoding the block
+    private List<byte[]> transactionHashes;
+
+    public Block() {
+        transactions = new ArrayList<>();
+    }
+
+    public Block(long version, byte[] prevHash, byte[] merkleRoot, long timestamp, long index,
+            ScriptHash nextConsensus, Witness witness, ConsensusData consensusData,
+            List<Transaction> transactions) {
+        super(version, prevHash, merkleRoot, timestamp, index, nextConsensus, witness);
+        this.consensusData = consensusData;
+        this.transactions = transactions;
+    }
+
+    public ConsensusData getConsensusData() {
+        return consensusData;
+    }
+
+    public List<Transaction> getTransactions() {
+        return transactions;
+    }
+
+    /**
+     * Gets the header of this block.
+     *
+     * @return the header.
+     */
+    public Header getHeader() {
+        return new Header(getVersion(), getPrevHashBytes(), getMerkleRootBytes(),
+                getTimestamp(), getIndex(), getNextConsensus(), getWitness());
+    }
+
+    /**
+     * Computes the Merkle root of the consensus data and the transactions of this block.
+     *
+     * @return the Merkle root in big-endian order without the '0x' prefix.
+     */
+    public String computeMerkleRoot() {
+        return Numeric.toHexStringNoPrefix(ArrayUtils.reverseArray(computeMerkleRootBytes()));
+    }
+
+    /**
+     * Checks if the Merkle root of this block matches its consensus data and transactions.
+     *
+     * @return true if the content of the block is consistent with its Merkle root. False,
+     * otherwise.
+     */
+    public boolean verifyMerkleRoot() {
+        return Arrays.equals(getMerkleRootBytes(), computeMerkleRootBytes());
+    }
+
+    /**
+     * Gets the ids of the transactions of this block.
+     *
+     * @return the transaction ids in big-endian order without the '0x' prefix.
+     */
+    public List<String> getTransactionIds() {
+        List<String> txIds = new ArrayList<>(transactions.size());
+        for (byte[] hash : getTransactionHashes()) {
+            txIds.add(Numeric.toHexStringNoPrefix(ArrayUtils.reverseArray(hash)));
+        }
+        return txIds;
+    }
+
+    private List<byte[]> getTransactionHashes() {
+        if (transactionHashes != null) {
+            return transactionHashes;
+        }
+        List<byte[]> hashes = new ArrayList<>(transactions.size());
+        for (Transaction tx : transactions) {
+            hashes.add(hash256(tx.getHashData()));
+        }
+        return hashes;
+    }
+
+    private byte[] computeMerkleRootBytes() {
+        List<byte[]> hashes = new ArrayList<>(transactions.size() + 1);
+        hashes.add(consensusData.getHashBytes());
+        hashes.addAll(getTransactionHashes());
+        return MerkleTree.computeRoot(hashes);
+    }
+
+    @Override
+    public int getSize() {
+        int size = super.getSize() + IOUtils.getVarSize(transactions.size() + 1)
+                + consensusData.getSize();
+        for (Transaction tx : transactions) {
+            size += tx.getSize();
+        }
+        return size;
+    }
+
+    @Override
+    public void deserialize(BinaryReader reader) throws DeserializationException {
+        int count = deserializeWithoutTransactions(reader);
+        List<Transaction> transactions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            transactions.add(reader.readSerializable(Transaction::new));
+        }
+        setTransactions(transactions, null);
+    }
+
+    /**
+     * Deserializes the header and the consensus data of a block.
+     *
+     * @param reader the reader positioned at the start of the block.
+     * @return the number of transactions that follow.
+     * @throws DeserializationException if the header or the consensus data are invalid.
+     */
+    int deserializeWithoutTransactions(BinaryReader reader) throws DeserializationException {
+        super.deserialize(reader);
+        try {
+            int count = (int) reader.readVarInt(MAX_CONTENTS_PER_BLOCK);
+            if (count == 0) {
+                throw new DeserializationException("A block must contain consensus data.");
+            }
+            this.consensusData = reader.readSerializable(ConsensusData::new);
+            return count - 1;
+        } catch (IOException e) {
+            throw new DeserializationException(e);
+        }
+    }
+
+    /**
+     * Sets the transactions of this block.
+     *
+     * @param transactions      the transactions.
+     * @param transactionHashes the hashes of the transactions in little-endian order if they are
+     *                          already known, or null.
+     */
+    void setTransactions(List<Transaction> transactions, List<byte[]> transactionHashes) {
+        this.transactions = transactions;
+        this.transactionHashes = transactionHashes;
+    }
+
+    @Override
+    public void serialize(BinaryWriter writer) throws IOException {
+        super.serialize(writer);
+        writer.writeVarInt(transactions.size() + 1);
+        writer.writeSerializableFixed(consensusData);
+        writer.writeSerializableFixed(transactions);
+    }
+}
@@ -0,0 +1,184 @@
+package io.neow3j.block;
+
+import io.neow3j.constants.NeoConstants;
+import io.neow3j.contract.ScriptHash;
+import io.neow3j.crypto.HashWriter;
+import io.neow3j.io.BinaryReader;
+import io.neow3j.io.BinaryWriter;
+import io.neow3j.io.ByteBufferWriter;
+import io.neow3j.io.NeoSerializable;
+import io.neow3j.io.exceptions.DeserializationException;
+import io.neow3j.model.NeoConfig;
+import io.neow3j.transaction.Witness;
+import io.neow3j.utils.ArrayUtils;
+import io.neow3j.utils.Numeric;
+
+import java.io.IOException;
+
+/**
+ * <p>The fields that blocks and block headers have in common.</p>
+ * <br>
+ * <p>The block hash is computed from these fields without the witness. It is the same for a
+ * block and its header.</p>
+ */
+public abstract class BlockBase extends NeoSerializable {
+
+    /**
+     * The size of a 256-bit hash, e.g., a block hash or a Merkle root.
+     */
+    public static final int HASH_SIZE = 32;
+
+    protected static final int BASE_SIZE = 4 + // Version uint32
+            HASH_SIZE + // Previous block hash
+            HASH_SIZE + // Merkle root
+            8 + // Timestamp uint64
+            4 + // Index uint32
+            NeoConstants.SCRIPTHASH_SIZE + // Next consensus
+            1; // Witness count
+
+    private long version;
+    // The hashes are stored in little-endian order.
+    private byte[] prevHash;
+    private byte[] merkleRoot;
+    private long timestamp;
+    private long index;
+    private ScriptHash nextConsensus;
+    private Witness witness;
+
+    protected BlockBase() {
+    }
+
+    protected BlockBase(long version, byte[] prevHash, byte[] merkleRoot, long timestamp,
+            long index, ScriptHash nextConsensus, Witness witness) {
+        this.version = version;
+        this.prevHash = prevHash;
+        this.merkleRoot = merkleRoot;
+        this.timestamp = timestamp;
+        this.index = index;
+        this.nextConsensus = nextConsensus;
+        this.witness = witness;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * @return the hash of the previous block in big-endian order without the '0x' prefix.
+     */
+    public String getPrevHash() {
+        return Numeric.toHexStringNoPrefix(ArrayUtils.reverseArray(prevHash));
+    }
+
+    /**
+     * @return the hash of the previous block in little-endian order.
+     */
+    protected byte[] getPrevHashBytes() {
+        return prevHash;
+    }
+
+    /**
+     * @return the Merkle root of the block's content in big-endian order without the '0x' prefix.
+     */
+    public String getMerkleRoot() {
+        return Numeric.toHexStringNoPrefix(ArrayUtils.reverseArray(merkleRoot));
+    }
+
+    /**
+     * @return the Merkle root of the block's content in little-endian order.
+     */
+    protected byte[] getMerkleRootBytes() {
+        return merkleRoot;
+    }
+
+    /**
+     * @return the time the block was created in milliseconds since the Unix epoch.
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public long getIndex() {
+        return index;
+    }
+
+    public ScriptHash getNextConsensus() {
+        return nextConsensus;
+    }
+
+    public Witness getWitness() {
+        return witness;
+    }
+
+    /**
+     * Computes the hash of this block from its fields.
+     *
+     * @return the block hash in big-endian order without the '0x' prefix.
+     */
+    public String getHash() {
+        HashWriter writer = new HashWriter();
+        try {
+            writer.write(NeoConfig.magicNumber());
+            serializeUnsigned(writer);
+        } catch (IOException ex) {
+            throw new UnsupportedOperationException(ex);
+        }
+        return Numeric.toHexStringNoPrefix(ArrayUtils.reverseArray(writer.hash256()));
+    }
+
+    /**
+     * Gets this block's data in the format used to produce the block hash, i.e., the network
+     * magic number followed by the fields of the block without the witness.
+     *
+     * @return the data.
+     */
+    public byte[] getHashData() {
+        try {
+            return ByteBufferWriter.toByteArray(writer -> {
+                writer.write(NeoConfig.magicNumber());
+                serializeUnsigned(writer);
+            });
+        } catch (IOException ex) {
+            throw new UnsupportedOperationException(ex);
+        }
+    }
+
+    @Override
+    public int getSize() {
+        return BASE_SIZE + witness.getSize();
+    }
+
+    @Override
+    public void deserialize(BinaryReader reader) throws DeserializationException {
+        try {
+            this.version = reader.readUInt32();
+            this.prevHash = reader.readBytes(HASH_SIZE);
+            this.merkleRoot = reader.readBytes(HASH_SIZE);
+            this.timestamp = reader.readInt64();
+            this.index = reader.readUInt32();
+            this.nextConsensus = reader.readSerializable(ScriptHash::new);
+            if (reader.readByte() != 1) {
+                throw new DeserializationException("A block must have exactly one witness.");
+            }
+            this.witness = reader.readSerializable(Witness::new);
+        } catch (IOException e) {
+            throw new DeserializationException(e);
+        }
+    }
+
+    private void serializeUnsigned(BinaryWriter writer) throws IOException {
+        writer.writeUInt32(this.version);
+        writer.write(this.prevHash);
+        writer.write(this.merkleRoot);
+        writer.writeInt64(this.timestamp);
+        writer.writeUInt32(this.index);
+        writer.writeSerializableFixed(this.nextConsensus);
+    }
+
+    @Override
+    public void serialize(BinaryWriter writer) throws IOException {
+        serializeUnsigned(writer);
+        writer.writeByte((byte) 1);
+        writer.writeSerializableFixed(this.witness);
+    }
+}
@@ -0,0 +1,287 @@
+package io.neow3j.block;
+
+import static io.neow3j.crypto.Hash.hash256;
+
+import io.neow3j.constants.NeoConstants;
+import io.neow3j.io.BinaryReader;
+import io.neow3j.io.ByteBufferReader;
+import io.neow3j.io.exceptions.DeserializationException;
+import io.neow3j.model.NeoConfig;
+import io.neow3j.transaction.Transaction;
+import io.neow3j.transaction.WitnessScope;
+import io.neow3j.utils.Numeric;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * <p>Decodes serialized blocks and computes the hashes of their transactions.</p>
+ * <br>
+ * <p>The serialized transactions of a block are first split into byte ranges by reading only
+ * their length prefixes. If a {@link ForkJoinPool} is given and the block has enough
+ * transactions, the ranges are then decoded and hashed in parallel on the pool. The
+ * transactions of the decoded block are always in the order of the serialized block.</p>
+ * <br>
+ * <p>The transaction hashes are kept in the decoded {@link Block}, so that
+ * {@link Block#getTransactionIds()} and {@link Block#verifyMerkleRoot()} do not hash the
+ * transactions again.</p>
+ */
+public class BlockDecoder {
+
+    /**
+     * The minimum number of transactions of a block for which decoding is split into parallel
+     * tasks.
+     */
+    public static final int DEFAULT_PARALLELISM_THRESHOLD = 64;
+
+    // The number of transactions below which a task does not split any further.
+    private static final int MIN_TASK_SIZE = 16;
+
+    private final ForkJoinPool pool;
+    private final int parallelismThreshold;
+
+    /**
+     * Creates a {@link BlockDecoder} that decodes blocks on the calling thread.
+     */
+    public BlockDecoder() {
+        this(null, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a {@link BlockDecoder} that decodes the transactions of large blocks in parallel.
+     *
+     * @param pool the pool to decode transactions on.
+     */
+    public BlockDecoder(ForkJoinPool pool) {
+        this(pool, DEFAULT_PARALLELISM_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@link BlockDecoder} that decodes the transactions of large blocks in parallel.
+     *
+     * @param pool                 the pool to decode transactions on.
+     * @param parallelismThreshold the minimum number of transactions of a block to decode them
+     *                             in parallel.
+     */
+    public BlockDecoder(ForkJoinPool pool, int parallelismThreshold) {
+        this.pool = pool;
+        this.parallelismThreshold = parallelismThreshold;
+    }
+
+    /**
+     * Decodes the given hexadecimal serialized block.
+     *
+     * @param block the serialized block.
+     * @return the block.
+     * @throws DeserializationException if the block is invalid.
+     */
+    public Block decode(String block) throws DeserializationException {
+        return decode(Numeric.hexStringToByteArray(block));
+    }
+
+    /**
+     * Decodes the given serialized block.
+     *
+     * @param block the serialized block.
+     * @return the block.
+     * @throws DeserializationException if the block is invalid.
+     */
+    public Block decode(byte[] block) throws DeserializationException {
+        Block result = new Block();
+        BinaryReader reader = new ByteBufferReader(block);
+        int count = result.deserializeWithoutTransactions(reader);
+
+        // The start offsets of the transactions, the end offsets of their unsigned parts and
+        // the end of the last transaction.
+        int[] offsets = new int[count + 1];
+        int[] unsignedEnds = new int[count];
+        int offset = reader.getPosition();
+        for (int i = 0; i < count; i++) {
+            offsets[i] = offset;
+            unsignedEnds[i] = skipUnsignedTransaction(block, offset);
+            offset = skipWitnesses(block, unsignedEnds[i]);
+        }
+        offsets[count] = offset;
+        if (offset != block.length) {
+            throw new DeserializationException("Unexpected data after the serialized block.");
+        }
+
+        Transaction[] transactions = new Transaction[count];
+        byte[][] hashes = new byte[count][];
+        DecodeTask task = new DecodeTask(block, offsets, unsignedEnds, transactions, hashes,
+                0, count);
+        try {
+            if (pool != null && count >= parallelismThreshold) {
+                pool.invoke(task);
+            } else {
+                task.decodeRange();
+            }
+        } catch (DecodeException e) {
+            throw e.getCause();
+        }
+        result.setTransactions(Arrays.asList(transactions), Arrays.asList(hashes));
+        return result;
+    }
+
+    // Returns the offset after the unsigned part of the transaction starting at the given offset.
+    private static int skipUnsignedTransaction(byte[] block, int offset)
+            throws DeserializationException {
+
+        offset = checkBounds(block, offset, Transaction.HEADER_SIZE);
+        long signers = readVarInt(block, offset);
+        offset += varIntSize(block, offset);
+        for (long i = 0; i < signers; i++) {
+            offset = checkBounds(block, offset, NeoConstants.SCRIPTHASH_SIZE);
+            checkBounds(block, offset, 1);
+            byte scopes = block[offset++];
+            if ((scopes & WitnessScope.CUSTOM_CONTRACTS.byteValue()) != 0) {
+                offset = skipFixedSizeList(block, offset, NeoConstants.SCRIPTHASH_SIZE);
+            }
+            if ((scopes & WitnessScope.CUSTOM_GROUPS.byteValue()) != 0) {
+                offset = skipFixedSizeList(block, offset, NeoConstants.PUBLIC_KEY_SIZE);
+            }
+        }
+        if (readVarInt(block, offset) != 0) {
+            // No attribute types are defined yet, so their size is unknown.
+            throw new DeserializationException("Transactions with attributes are not supported.");
+        }
+        offset += varIntSize(block, offset);
+        return skipVarBytes(block, offset);
+    }
+
+    private static int skipWitnesses(byte[] block, int offset) throws DeserializationException {
+        long witnesses = readVarInt(block, offset);
+        offset += varIntSize(block, offset);
+        for (long i = 0; i < witnesses; i++) {
+            // Invocation and verification script
+            offset = skipVarBytes(block, skipVarBytes(block, offset));
+        }
+        return offset;
+    }
+
+    private static int skipFixedSizeList(byte[] block, int offset, int elementSize)
+            throws DeserializationException {
+        long count = readVarInt(block, offset);
+        offset += varIntSize(block, offset);
+        if (count > block.length) {
+            throw new DeserializationException("Unexpected end of the serialized block.");
+        }
+        return checkBounds(block, offset, count * elementSize);
+    }
+
+    private static int skipVarBytes(byte[] block, int offset) throws DeserializationException {
+        long length = readVarInt(block, offset);
+        offset += varIntSize(block, offset);
+        return checkBounds(block, offset, length);
+    }
+
+    private static long readVarInt(byte[] block, int offset) throws DeserializationException {
+        checkBounds(block, offset, 1);
+        int size = varIntSize(block, offset);
+        checkBounds(block, offset, size);
+        if (size == 1) {
+            return Byte.toUnsignedLong(block[offset]);
+        }
+        long value = 0;
+        for (int i = size - 1; i > 0; i--) {
+            value = (value << 8) | Byte.toUnsignedLong(block[offset + i]);
+        }
+        if (value < 0) {
+            throw new DeserializationException("Invalid variable length integer.");
+        }
+        return value;
+    }
+
+    private static int varIntSize(byte[] block, int offset) {
+        switch (block[offset]) {
+            case (byte) 0xFD:
+                return 3;
+            case (byte) 0xFE:
+                return 5;
+            case (byte) 0xFF:
+                return 9;
+            default:
+                return 1;
+        }
+    }
+
+    // Returns the offset after the given number of bytes if they are within the block.
+    private static int checkBounds(byte[] block, int offset, long length)
+            throws DeserializationException {
+        if (length < 0 || length > block.length - offset) {
+            throw new DeserializationException("Unexpected end of the serialized block.");
+        }
+        return offset + (int) length;
+    }
+
+    private static class DecodeTask extends RecursiveAction {
+
+        private final byte[] block;
+        private final int[] offsets;
+        private final int[] unsignedEnds;
+        private final Transaction[] transactions;
+        private final byte[][] hashes;
+        private final int from;
+        private final int to;
+
+        DecodeTask(byte[] block, int[] offsets, int[] unsignedEnds, Transaction[] transactions,
+                byte[][] hashes, int from, int to) {
+            this.block = block;
+            this.offsets = offsets;
+            this.unsignedEnds = unsignedEnds;
+            this.transactions = transactions;
+            this.hashes = hashes;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= MIN_TASK_SIZE) {
+                decodeRange();
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new DecodeTask(block, offsets, unsignedEnds, transactions, hashes,
+                            from, middle),
+                    new DecodeTask(block, offsets, unsignedEnds, transactions, hashes,
+                            middle, to));
+        }
+
+        void decodeRange() {
+            byte[] magic = NeoConfig.magicNumber();
+            for (int i = from; i < to; i++) {
+                int start = offsets[i];
+                int length = offsets[i + 1] - start;
+                BinaryReader reader = new ByteBufferReader(block, start, length);
+                try {
+                    transactions[i] = reader.readSerializable(Transaction::new);
+                    if (reader.getPosition() != length) {
+                        throw new DeserializationException(
+                                "Transaction " + i + " does not match its serialized length.");
+                    }
+                } catch (DeserializationException e) {
+                    throw new DecodeException(e);
+                }
+                byte[] hashData = new byte[magic.length + unsignedEnds[i] - start];
+                System.arraycopy(magic, 0, hashData, 0, magic.length);
+                System.arraycopy(block, start, hashData, magic.length, unsignedEnds[i] - start);
+                hashes[i] = hash256(hashData);
+            }
+        }
+    }
+
+    // Carries a deserialization exception out of a fork-join task.
+    private static class DecodeException extends RuntimeException {
+
+        DecodeException(DeserializationException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized DeserializationException getCause() {
+            return (DeserializationException) super.getCause();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package io.neow3j.block;
+
+import static io.neow3j.crypto.Hash.hash256;
+
+import io.neow3j.io.BinaryReader;
+import io.neow3j.io.BinaryWriter;
+import io.neow3j.io.NeoSerializable;
+import io.neow3j.io.exceptions.DeserializationException;
+import io.neow3j.utils.ArrayUtils;
+import io.neow3j.utils.Numeric;
+
+import java.io.IOException;
+
+/**
+ * The consensus data of a block, i.e., the index of the primary consensus node that proposed
+ * the block and the nonce of the block.
+ */
+public class ConsensusData extends NeoSerializable {
+
+    public static final int SIZE = 1 + // Primary index byte
+            8; // Nonce uint64
+
+    private int primaryIndex;
+    private long nonce;
+
+    public ConsensusData() {
+    }
+
+    public ConsensusData(int primaryIndex, long nonce) {
+        this.primaryIndex = primaryIndex;
+        this.nonce = nonce;
+    }
+
+    public int getPrimaryIndex() {
+        return primaryIndex;
+    }
+
+    public long getNonce() {
+        return nonce;
+    }
+
+    /**
+     * Computes the hash of this consensus data, which is the first leaf of a block's Merkle tree.
+     *
+     * @return the hash in big-endian order without the '0x' prefix.
+     */
+    public String getHash() {
+        return Numeric.toHexStringNoPrefix(ArrayUtils.reverseArray(getHashBytes()));
+    }
+
+    byte[] getHashBytes() {
+        return hash256(toArray());
+    }
+
+    @Override
+    public void deserialize(BinaryReader reader) throws DeserializationException {
+        try {
+            this.primaryIndex = reader.readUnsignedByte();
+            this.nonce = reader.readInt64();
+        } catch (IOException e) {
+            throw new DeserializationException(e);
+        }
+    }
+
+    @Override
+    public void serialize(BinaryWriter writer) throws IOException {
+        writer.writeByte((byte) this.primaryIndex);
+        writer.writeInt64(this.nonce);
+    }
+
+    @Override
+    public int getSize() {
+        return SIZE;
+    }
+}
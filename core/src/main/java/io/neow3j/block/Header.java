@@ -0,0 +1,48 @@
+package io.neow3j.block;
+
+import io.neow3j.contract.ScriptHash;
+import io.neow3j.io.BinaryReader;
+import io.neow3j.io.BinaryWriter;
+import io.neow3j.io.exceptions.DeserializationException;
+import io.neow3j.transaction.Witness;
+
+import java.io.IOException;
+
+/**
+ * <p>A block header, i.e., a block without its consensus data and transactions.</p>
+ * <br>
+ * <p>A serialized header ends with a transaction count of zero.</p>
+ */
+public class Header extends BlockBase {
+
+    public Header() {
+    }
+
+    public Header(long version, byte[] prevHash, byte[] merkleRoot, long timestamp, long index,
+            ScriptHash nextConsensus, Witness witness) {
+        super(version, prevHash, merkleRoot, timestamp, index, nextConsensus, witness);
+    }
+
+    @Override
+    public int getSize() {
+        return super.getSize() + 1;
+    }
+
+    @Override
+    public void deserialize(BinaryReader reader) throws DeserializationException {
+        super.deserialize(reader);
+        try {
+            if (reader.readByte() != 0) {
+                throw new DeserializationException("A block header must not contain transactions.");
+            }
+        } catch (IOException e) {
+            throw new DeserializationException(e);
+        }
+    }
+
+    @Override
+    public void serialize(BinaryWriter writer) throws IOException {
+        super.serialize(writer);
+        writer.writeByte((byte) 0);
+    }
+}
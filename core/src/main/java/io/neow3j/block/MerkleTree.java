@@ -0,0 +1,46 @@
+package io.neow3j.block;
+
+import static io.neow3j.crypto.Hash.hash256;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>Computes the Merkle root of the hashes of a block's content.</p>
+ * <br>
+ * <p>Each inner node is the {@code hash256} of its two children concatenated. If a level has an
+ * odd number of nodes, the last node is paired with itself. The root of a single hash is the
+ * hash itself.</p>
+ */
+public final class MerkleTree {
+
+    private MerkleTree() {
+    }
+
+    /**
+     * Computes the Merkle root of the given hashes.
+     *
+     * @param hashes the hashes of the leaves in little-endian order.
+     * @return the Merkle root in little-endian order.
+     * @throws IllegalArgumentException if no hashes are given.
+     */
+    public static byte[] computeRoot(List<byte[]> hashes) {
+        if (hashes.isEmpty()) {
+            throw new IllegalArgumentException("Cannot compute the Merkle root of no hashes.");
+        }
+        List<byte[]> level = hashes;
+        while (level.size() > 1) {
+            List<byte[]> parents = new ArrayList<>((level.size() + 1) / 2);
+            byte[] pair = new byte[2 * BlockBase.HASH_SIZE];
+            for (int i = 0; i < level.size(); i += 2) {
+                byte[] left = level.get(i);
+                byte[] right = i + 1 < level.size() ? level.get(i + 1) : left;
+                System.arraycopy(left, 0, pair, 0, BlockBase.HASH_SIZE);
+                System.arraycopy(right, 0, pair, BlockBase.HASH_SIZE, BlockBase.HASH_SIZE);
+                parents.add(hash256(pair));
+            }
+            level = parents;
+        }
+        return level.get(0);
+    }
+}
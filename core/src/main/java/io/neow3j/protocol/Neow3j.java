@@ -1,5 +1,6 @@
 package io.neow3j.protocol;
 
+import io.neow3j.protocol.core.Batcher;
 import io.neow3j.protocol.core.JsonRpc2_0Neow3j;
 import io.neow3j.protocol.core.Neo;
 import io.neow3j.protocol.rx.Neow3jRx;
@@ -9,7 +10,7 @@ import java.util.concurrent.ScheduledExecutorService;
 /**
  * JSON-RPC Request object building factory.
  */
-public interface Neow3j extends Neo, Neow3jRx {
+public interface Neow3j extends Neo, Neow3jRx, Batcher {
 
     /**
      * Construct a new Neow3j instance.
@@ -1,15 +1,28 @@
 package io.neow3j.protocol;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
 import io.neow3j.protocol.core.Request;
 import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.exceptions.ClientConnectionException;
+import io.neow3j.protocol.metrics.RequestListener;
+import io.neow3j.protocol.metrics.RequestRecorder;
 import io.neow3j.protocol.notifications.Notification;
 import io.neow3j.utils.Async;
 import io.reactivex.Observable;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 
 /**
@@ -21,6 +34,10 @@ public abstract class Service implements Neow3jService {
 
     protected ExecutorService asyncExecutorService;
 
+    protected final List<RequestListener> requestListeners = new CopyOnWriteArrayList<>();
+
+    private final boolean includeRawResponses;
+
     /**
      * Create a Service.
      *
@@ -30,6 +47,7 @@ public abstract class Service implements Neow3jService {
     public Service(ExecutorService executorService, boolean includeRawResponses) {
         objectMapper = ObjectMapperFactory.getObjectMapper(includeRawResponses);
         asyncExecutorService = executorService;
+        this.includeRawResponses = includeRawResponses;
     }
 
     /**
@@ -39,21 +57,102 @@ public abstract class Service implements Neow3jService {
      */
     public Service(boolean includeRawResponses) {
         objectMapper = ObjectMapperFactory.getObjectMapper(includeRawResponses);
+        this.includeRawResponses = includeRawResponses;
     }
 
     protected abstract InputStream performIO(String payload) throws IOException;
 
+    /**
+     * Performs the IO for the given request object, i.e., a single {@link Request} or a list of
+     * requests.
+     * <p>
+     * The default implementation serializes the request into a String and passes it on to
+     * {@link #performIO(String)}. Implementations that can write JSON directly to their
+     * transport should override this to avoid the intermediate String.
+     * <p>
+     * Implementations mark the end of the serialization with
+     * {@link RequestRecorder#serialized(long)} and pass the response stream through
+     * {@link RequestRecorder#recordResponse(InputStream)}.
+     *
+     * @param request  the request object to serialize and send.
+     * @param recorder the recorder of the request's metrics.
+     * @return the response stream.
+     * @throws IOException if the request could not be serialized or sent.
+     */
+    protected InputStream performRequestIO(Object request, RequestRecorder recorder)
+            throws IOException {
+        String payload;
+        if (recorder.isEnabled()) {
+            byte[] bytes = objectMapper.writeValueAsBytes(request);
+            recorder.serialized(bytes.length);
+            payload = new String(bytes, StandardCharsets.UTF_8);
+        } else {
+            payload = objectMapper.writeValueAsString(request);
+        }
+        return recorder.recordResponse(performIO(payload));
+    }
+
+    /**
+     * Sets the executor on which asynchronous requests are run.
+     *
+     * @param executorService the executor, or null to use the default executor of
+     *                        {@link Async}.
+     * @see Async#setDefaultExecutor(ExecutorService)
+     */
+    public void setAsyncExecutorService(ExecutorService executorService) {
+        this.asyncExecutorService = executorService;
+    }
+
+    /**
+     * <p>Adds a listener that is notified about every request sent by this service.</p>
+     * <br>
+     * <p>Recording the metrics of requests is skipped as long as no listener is added.</p>
+     *
+     * @param listener the listener.
+     * @see io.neow3j.protocol.metrics.InMemoryMetrics
+     */
+    public void addRequestListener(RequestListener listener) {
+        requestListeners.add(listener);
+    }
+
+    /**
+     * Removes a listener that was added with {@link #addRequestListener(RequestListener)}.
+     *
+     * @param listener the listener.
+     */
+    public void removeRequestListener(RequestListener listener) {
+        requestListeners.remove(listener);
+    }
+
     @Override
     public <T extends Response> T send(
             Request request, Class<T> responseType) throws IOException {
-        String payload = objectMapper.writeValueAsString(request);
+        RequestRecorder recorder = RequestRecorder.start(requestListeners, request);
+        try (InputStream result = performRequestIO(request, recorder)) {
+            T response = readResponse(result, responseType);
+            recorder.completed(response);
+            return response;
+        } catch (IOException | RuntimeException e) {
+            recorder.failed(e);
+            throw e;
+        }
+    }
 
-        try (InputStream result = performIO(payload)) {
-            if (result != null) {
-                return objectMapper.readValue(result, responseType);
-            } else {
-                return null;
-            }
+    /**
+     * Deserializes the response to a single request.
+     *
+     * @param result       the response stream, or null.
+     * @param responseType the type of the response.
+     * @param <T>          the type of the response.
+     * @return the response, or null if the stream was null.
+     * @throws IOException if the response could not be read.
+     */
+    protected <T extends Response> T readResponse(InputStream result, Class<T> responseType)
+            throws IOException {
+        if (result != null) {
+            return objectMapper.readValue(result, responseType);
+        } else {
+            return null;
         }
     }
 
@@ -64,6 +163,68 @@ public abstract class Service implements Neow3jService {
                 send(jsonRpc20Request, responseType), asyncExecutorService);
     }
 
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        List<Request<?, ? extends Response<?>>> requests = batchRequest.getRequests();
+        if (requests.isEmpty()) {
+            return new BatchResponse(Collections.emptyList(), Collections.emptyList());
+        }
+        RequestRecorder recorder = RequestRecorder.start(requestListeners, requests);
+        try (InputStream result = performRequestIO(requests, recorder)) {
+            BatchResponse response = readBatchResponse(result, requests);
+            recorder.completed(response);
+            return response;
+        } catch (IOException | RuntimeException e) {
+            recorder.failed(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Deserializes the response to a batch request.
+     *
+     * @param result   the response stream, or null.
+     * @param requests the requests of the batch.
+     * @return the batch response, or null if the stream was null.
+     * @throws IOException if the response could not be read.
+     */
+    protected BatchResponse readBatchResponse(InputStream result,
+            List<Request<?, ? extends Response<?>>> requests) throws IOException {
+        if (result == null) {
+            return null;
+        }
+        JsonNode nodes = objectMapper.readTree(result);
+        if (!nodes.isArray()) {
+            throw new ClientConnectionException("Invalid batch response received: " + nodes);
+        }
+        // The node is free to return the responses in any order. Match them to their
+        // requests by id.
+        Map<Long, JsonNode> nodesById = new HashMap<>();
+        for (JsonNode node : nodes) {
+            nodesById.put(node.path("id").asLong(), node);
+        }
+        List<Response<?>> responses = new ArrayList<>(requests.size());
+        for (Request<?, ? extends Response<?>> request : requests) {
+            JsonNode node = nodesById.get(request.getId());
+            if (node == null) {
+                throw new ClientConnectionException("No response received for request with "
+                        + "id " + request.getId() + " in batch.");
+            }
+            Response<?> response = objectMapper.treeToValue(node, request.getResponseType());
+            if (includeRawResponses) {
+                // Binding from a tree has no source text, so the raw response is set here.
+                response.setRawResponse(node.toString());
+            }
+            responses.add(response);
+        }
+        return new BatchResponse(requests, responses);
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        return Async.run(() -> sendBatch(batchRequest), asyncExecutorService);
+    }
+
     @Override
     public <T extends Notification<?>> Observable<T> subscribe(
             Request request, String unsubscribeMethod, Class<T> responseType) {
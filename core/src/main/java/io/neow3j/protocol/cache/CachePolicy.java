@@ -0,0 +1,29 @@
+package io.neow3j.protocol.cache;
+
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+
+/**
+ * Decides which responses a {@link CachingService} may cache.
+ */
+public interface CachePolicy {
+
+    /**
+     * Checks if the given request can be answered from the cache. Only requests for which this
+     * returns true are looked up in the cache.
+     *
+     * @param request the request.
+     * @return true if the response to the request may be cached.
+     */
+    boolean isCacheable(Request<?, ?> request);
+
+    /**
+     * Checks if the given response to a cacheable request may be stored in the cache.
+     *
+     * @param request  the request.
+     * @param response the response received for the request.
+     * @return true if the response may be stored.
+     */
+    boolean isCacheable(Request<?, ?> request, Response<?> response);
+
+}
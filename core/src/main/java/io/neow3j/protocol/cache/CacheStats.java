@@ -0,0 +1,93 @@
+package io.neow3j.protocol.cache;
+
+/**
+ * A snapshot of the statistics of a {@link CachingService}.
+ */
+public class CacheStats {
+
+    private final long memoryHitCount;
+    private final long diskHitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final int entryCount;
+    private final long memorySize;
+
+    CacheStats(long memoryHitCount, long diskHitCount, long missCount, long evictionCount,
+            int entryCount, long memorySize) {
+        this.memoryHitCount = memoryHitCount;
+        this.diskHitCount = diskHitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.entryCount = entryCount;
+        this.memorySize = memorySize;
+    }
+
+    /**
+     * @return the number of cacheable requests answered from the cache.
+     */
+    public long getHitCount() {
+        return memoryHitCount + diskHitCount;
+    }
+
+    /**
+     * @return the number of cacheable requests answered from memory.
+     */
+    public long getMemoryHitCount() {
+        return memoryHitCount;
+    }
+
+    /**
+     * @return the number of cacheable requests answered from disk.
+     */
+    public long getDiskHitCount() {
+        return diskHitCount;
+    }
+
+    /**
+     * @return the number of cacheable requests that were sent to the node.
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * @return the ratio of cacheable requests answered from the cache.
+     */
+    public double getHitRate() {
+        long requestCount = getHitCount() + missCount;
+        return requestCount == 0 ? 0 : (double) getHitCount() / requestCount;
+    }
+
+    /**
+     * @return the number of entries evicted from memory to stay within the size limit.
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * @return the number of entries in memory.
+     */
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    /**
+     * @return the size of the entries in memory in bytes.
+     */
+    public long getMemorySize() {
+        return memorySize;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{" +
+                "memoryHitCount=" + memoryHitCount +
+                ", diskHitCount=" + diskHitCount +
+                ", missCount=" + missCount +
+                ", evictionCount=" + evictionCount +
+                ", entryCount=" + entryCount +
+                ", memorySize=" + memorySize +
+                '}';
+    }
+}
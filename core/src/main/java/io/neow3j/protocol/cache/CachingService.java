@@ -0,0 +1,275 @@
+package io.neow3j.protocol.cache;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.ObjectMapperFactory;
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.notifications.Notification;
+import io.reactivex.Observable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>A service that caches the responses of another service.</p>
+ * <br>
+ * <p>Which requests are cached is decided by a {@link CachePolicy}. By default, only the results
+ * of requests that never change are cached (see {@link ImmutableResultsPolicy}). Responses are
+ * cached by JSON-RPC method and parameters.</p>
+ * <br>
+ * <p>The JSON replies of the underlying service are cached as they were received. They are kept
+ * in memory, and the least recently used ones are evicted once the total size of the cache
+ * exceeds its limit. Every cache hit is deserialized into a new
+ * {@link Response} instance that carries the id of the current request. Cached replies that
+ * cannot be parsed anymore are evicted and requested again. Optionally, responses are also written to a directory on disk,
+ * where they are looked up if they are not in memory anymore. The disk cache is not bounded in
+ * size.</p>
+ * <br>
+ * <p>Batch requests and subscriptions are passed through to the underlying service without
+ * caching.</p>
+ */
+public class CachingService implements Neow3jService {
+
+    private static final Logger log = LoggerFactory.getLogger(CachingService.class);
+
+    private final Neow3jService service;
+    private final MemoryCache memoryCache;
+    private final DiskCache diskCache;
+    private final ObjectMapper objectMapper;
+    private CachePolicy cachePolicy = new ImmutableResultsPolicy();
+
+    private final AtomicLong memoryHitCount = new AtomicLong();
+    private final AtomicLong diskHitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * Create a {@link CachingService} instance that caches in memory.
+     *
+     * @param service       the service to send requests to on a cache miss.
+     * @param maxMemorySize the maximum size of the cached responses in memory in bytes.
+     */
+    public CachingService(Neow3jService service, long maxMemorySize) {
+        this(service, new MemoryCache(maxMemorySize), null);
+    }
+
+    /**
+     * Create a {@link CachingService} instance that caches in memory and on disk.
+     *
+     * @param service        the service to send requests to on a cache miss.
+     * @param maxMemorySize  the maximum size of the cached responses in memory in bytes.
+     * @param cacheDirectory the directory to cache responses in, or null to only cache in
+     *                       memory.
+     * @throws IOException if the cache directory cannot be created.
+     */
+    public CachingService(Neow3jService service, long maxMemorySize, Path cacheDirectory)
+            throws IOException {
+        this(service, new MemoryCache(maxMemorySize),
+                cacheDirectory == null ? null : new DiskCache(cacheDirectory));
+    }
+
+    private CachingService(Neow3jService service, MemoryCache memoryCache, DiskCache diskCache) {
+        this.service = service;
+        this.memoryCache = memoryCache;
+        this.diskCache = diskCache;
+        this.objectMapper = ObjectMapperFactory.getObjectMapper();
+    }
+
+    /**
+     * Sets the policy that decides which responses are cached. Defaults to an
+     * {@link ImmutableResultsPolicy}.
+     *
+     * @param cachePolicy the policy.
+     */
+    public void setCachePolicy(CachePolicy cachePolicy) {
+        this.cachePolicy = cachePolicy;
+    }
+
+    /**
+     * Gets the current statistics of this cache.
+     *
+     * @return the statistics.
+     */
+    public CacheStats getStats() {
+        return new CacheStats(memoryHitCount.get(), diskHitCount.get(), missCount.get(),
+                memoryCache.getEvictionCount(), memoryCache.getEntryCount(),
+                memoryCache.getSize());
+    }
+
+    /**
+     * Removes all responses from the cache, including the ones on disk.
+     *
+     * @throws IOException if the cached files cannot be deleted.
+     */
+    public void invalidateAll() throws IOException {
+        memoryCache.clear();
+        if (diskCache != null) {
+            diskCache.clear();
+        }
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType)
+            throws IOException {
+        if (!cachePolicy.isCacheable(request)) {
+            return service.send(request, responseType);
+        }
+        String key = cacheKey(request);
+        T cached = lookup(request, key, responseType);
+        if (cached != null) {
+            return cached;
+        }
+        return store(request, key, service.send(request, JsonReply.class), responseType);
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(Request request,
+            Class<T> responseType) {
+        if (!cachePolicy.isCacheable(request)) {
+            return service.sendAsync(request, responseType);
+        }
+        String key;
+        T cached;
+        try {
+            key = cacheKey(request);
+            cached = lookup(request, key, responseType);
+        } catch (IOException e) {
+            CompletableFuture<T> result = new CompletableFuture<>();
+            result.completeExceptionally(e);
+            return result;
+        }
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        return service.sendAsync(request, JsonReply.class).thenApply(reply -> {
+            try {
+                return store(request, key, reply, responseType);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        return service.sendBatch(batchRequest);
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        return service.sendBatchAsync(batchRequest);
+    }
+
+    @Override
+    public <T extends Notification<?>> Observable<T> subscribe(Request request,
+            String unsubscribeMethod, Class<T> responseType) {
+        return service.subscribe(request, unsubscribeMethod, responseType);
+    }
+
+    @Override
+    public void close() throws IOException {
+        service.close();
+    }
+
+    private String cacheKey(Request<?, ?> request) throws JsonProcessingException {
+        return request.getMethod() + objectMapper.writeValueAsString(request.getParams());
+    }
+
+    private <T extends Response> T lookup(Request<?, ?> request, String key,
+            Class<T> responseType) {
+
+        boolean fromDisk = false;
+        byte[] cached = memoryCache.get(key);
+        if (cached == null && diskCache != null) {
+            cached = readFromDisk(key);
+            fromDisk = true;
+        }
+        if (cached != null) {
+            T response = parse(key, cached, responseType);
+            if (response != null) {
+                if (fromDisk) {
+                    diskHitCount.incrementAndGet();
+                    memoryCache.put(key, cached);
+                } else {
+                    memoryHitCount.incrementAndGet();
+                }
+                // The cached reply carries the id of the request that filled the cache.
+                response.setId(request.getId());
+                return response;
+            }
+        }
+        missCount.incrementAndGet();
+        return null;
+    }
+
+    // Deserializes a cached reply. A reply that cannot be parsed, e.g., a truncated file on
+    // disk, is evicted and treated as a cache miss.
+    private <T extends Response> T parse(String key, byte[] cached, Class<T> responseType) {
+        try {
+            return objectMapper.readValue(cached, responseType);
+        } catch (IOException e) {
+            log.warn("Failed to parse cached response, evicting it.", e);
+            memoryCache.remove(key);
+            if (diskCache != null) {
+                try {
+                    diskCache.remove(key);
+                } catch (IOException removeError) {
+                    log.warn("Failed to remove cached response from disk.", removeError);
+                }
+            }
+            return null;
+        }
+    }
+
+    private <T extends Response> T store(Request<?, ?> request, String key, JsonReply reply,
+            Class<T> responseType) throws IOException {
+
+        T response = objectMapper.treeToValue(reply.json, responseType);
+        if (reply.getRawResponse() != null) {
+            response.setRawResponse(reply.getRawResponse());
+        }
+        if (!cachePolicy.isCacheable(request, response)) {
+            return response;
+        }
+        try {
+            byte[] serialized = objectMapper.writeValueAsBytes(reply.json);
+            memoryCache.put(key, serialized);
+            if (diskCache != null) {
+                diskCache.put(key, serialized);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to cache response of request {}.", request.getMethod(), e);
+        }
+        return response;
+    }
+
+    private byte[] readFromDisk(String key) {
+        try {
+            return diskCache.get(key);
+        } catch (IOException e) {
+            log.warn("Failed to read cached response from disk.", e);
+            return null;
+        }
+    }
+
+    // Holds the JSON reply of the underlying service as it was received.
+    private static class JsonReply extends Response<Void> {
+
+        private final JsonNode json;
+
+        @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+        JsonReply(JsonNode json) {
+            this.json = json;
+        }
+    }
+}
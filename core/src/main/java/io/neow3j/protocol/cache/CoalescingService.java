@@ -0,0 +1,197 @@
+package io.neow3j.protocol.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.ObjectMapperFactory;
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.notifications.Notification;
+import io.reactivex.Observable;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>A service that merges identical requests that are in flight at the same time.</p>
+ * <br>
+ * <p>Requests are identical if they have the same JSON-RPC method, parameters and response type.
+ * While a request is in flight, every identical request waits for it instead of being sent to
+ * the underlying service, and all of them receive the same {@link Response} instance. Therefore,
+ * the id of the response is the one of the request that was sent. Responses should not be
+ * modified by their receivers.</p>
+ * <br>
+ * <p>Requests are only merged while they are in flight. A request that is sent after the reply
+ * to an identical request arrived is sent to the underlying service again. Combine this service
+ * with a {@link CachingService} to also reuse completed responses.</p>
+ * <br>
+ * <p>Requests that change the state of the node or of its wallet, e.g., {@code sendtoaddress}
+ * or {@code getnewaddress}, are never merged. Batch requests and subscriptions are passed through
+ * to the underlying service as well.</p>
+ */
+public class CoalescingService implements Neow3jService {
+
+    private final Neow3jService service;
+    private final ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+
+    // The replies of the requests in flight by request key
+    private final Map<String, CompletableFuture<Response<?>>> inFlight =
+            new ConcurrentHashMap<>();
+
+    private final AtomicLong coalescedCount = new AtomicLong();
+
+    /**
+     * Create a {@link CoalescingService} instance.
+     *
+     * @param service the service to send requests to.
+     */
+    public CoalescingService(Neow3jService service) {
+        this.service = service;
+    }
+
+    /**
+     * Gets the number of requests that were not sent because an identical request was in
+     * flight.
+     *
+     * @return the number of requests.
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    /**
+     * Gets the number of distinct requests that are currently in flight.
+     *
+     * @return the number of requests.
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType)
+            throws IOException {
+
+        if (request.isStateChanging()) {
+            return service.send(request, responseType);
+        }
+        String key = requestKey(request, responseType);
+        CompletableFuture<Response<?>> reply = new CompletableFuture<>();
+        CompletableFuture<Response<?>> existing = inFlight.putIfAbsent(key, reply);
+        if (existing != null) {
+            coalescedCount.incrementAndGet();
+            return responseType.cast(waitFor(existing));
+        }
+        try {
+            T response = service.send(request, responseType);
+            reply.complete(response);
+            return response;
+        } catch (Throwable e) {
+            reply.completeExceptionally(e);
+            throw e;
+        } finally {
+            // Also reached if the underlying service throws an Error, such that later identical
+            // requests do not wait for a reply that never arrives.
+            inFlight.remove(key, reply);
+        }
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(Request request,
+            Class<T> responseType) {
+
+        if (request.isStateChanging()) {
+            return service.sendAsync(request, responseType);
+        }
+        String key;
+        try {
+            key = requestKey(request, responseType);
+        } catch (IOException e) {
+            CompletableFuture<T> result = new CompletableFuture<>();
+            result.completeExceptionally(e);
+            return result;
+        }
+        CompletableFuture<Response<?>> reply = new CompletableFuture<>();
+        CompletableFuture<Response<?>> existing = inFlight.putIfAbsent(key, reply);
+        if (existing != null) {
+            coalescedCount.incrementAndGet();
+            // A dependent future, such that cancelling it does not affect other receivers.
+            return existing.thenApply(responseType::cast);
+        }
+        CompletableFuture<T> response;
+        try {
+            response = service.sendAsync(request, responseType);
+        } catch (Throwable e) {
+            // E.g., the executor of the underlying service rejected the request.
+            inFlight.remove(key, reply);
+            reply.completeExceptionally(e);
+            return reply.thenApply(responseType::cast);
+        }
+        response.whenComplete((result, error) -> {
+            inFlight.remove(key, reply);
+            if (error != null) {
+                reply.completeExceptionally(error);
+            } else {
+                reply.complete(result);
+            }
+        });
+        return reply.thenApply(responseType::cast);
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        return service.sendBatch(batchRequest);
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        return service.sendBatchAsync(batchRequest);
+    }
+
+    @Override
+    public <T extends Notification<?>> Observable<T> subscribe(Request request,
+            String unsubscribeMethod, Class<T> responseType) {
+        return service.subscribe(request, unsubscribeMethod, responseType);
+    }
+
+    @Override
+    public void close() throws IOException {
+        service.close();
+    }
+
+    private String requestKey(Request<?, ?> request, Class<?> responseType) throws IOException {
+        return responseType.getName() + request.getMethod()
+                + objectMapper.writeValueAsString(request.getParams());
+    }
+
+    private static Response<?> waitFor(CompletableFuture<Response<?>> reply)
+            throws IOException {
+        try {
+            return reply.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for an identical request", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException("Unexpected exception", cause);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package io.neow3j.protocol.cache;
+
+import io.neow3j.crypto.Hash;
+import io.neow3j.utils.Numeric;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * A cache that stores each value in a file named after the hash of its key.
+ */
+class DiskCache {
+
+    private static final String SUFFIX = ".json";
+
+    private final Path directory;
+
+    DiskCache(Path directory) throws IOException {
+        this.directory = Files.createDirectories(directory);
+    }
+
+    byte[] get(String key) throws IOException {
+        try {
+            return Files.readAllBytes(fileFor(key));
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    void put(String key, byte[] value) throws IOException {
+        Path file = fileFor(key);
+        // Write to a temporary file first, so that readers never see a partially written file.
+        Path tempFile = Files.createTempFile(directory, null, ".tmp");
+        try {
+            Files.write(tempFile, value);
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    void remove(String key) throws IOException {
+        Files.deleteIfExists(fileFor(key));
+    }
+
+    void clear() throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private Path fileFor(String key) {
+        byte[] hash = Hash.sha256(key.getBytes(StandardCharsets.UTF_8));
+        return directory.resolve(Numeric.toHexStringNoPrefix(hash) + SUFFIX);
+    }
+}
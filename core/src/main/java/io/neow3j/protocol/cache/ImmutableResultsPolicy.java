@@ -0,0 +1,69 @@
+package io.neow3j.protocol.cache;
+
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+import io.neow3j.protocol.core.methods.response.Transaction;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * <p>A {@link CachePolicy} that caches the results of requests that never change once they are
+ * available, i.e., blocks, block headers, block hashes, transactions and application logs.</p>
+ * <br>
+ * <p>Requests that depend on the current state of the blockchain, like {@code getblockcount},
+ * are never cached. Error responses and responses without result are never cached either.
+ * Blocks are only cached once their successor exists, i.e., once their next block hash is known,
+ * and verbose transactions are only cached once they are included in a block.</p>
+ * <br>
+ * <p>Note that the number of confirmations contained in cached blocks and transactions is the
+ * one at the time they were fetched.</p>
+ */
+public class ImmutableResultsPolicy implements CachePolicy {
+
+    private static final Set<String> IMMUTABLE_METHODS = new HashSet<>(Arrays.asList(
+            "getblock", "getblockheader", "getblockhash", "getrawtransaction",
+            "getapplicationlog"));
+
+    private final Set<String> cacheableMethods = new HashSet<>(IMMUTABLE_METHODS);
+
+    /**
+     * <p>Adds a method whose results are cached.</p>
+     * <br>
+     * <p>For example, {@code getcontractstate} is not cached by default, because a contract can
+     * be updated or destroyed. Applications that know that the contracts they look up do not
+     * change can add it.</p>
+     *
+     * @param method the JSON-RPC method name.
+     * @return this policy.
+     */
+    public ImmutableResultsPolicy addCacheableMethod(String method) {
+        cacheableMethods.add(method);
+        return this;
+    }
+
+    @Override
+    public boolean isCacheable(Request<?, ?> request) {
+        return cacheableMethods.contains(request.getMethod());
+    }
+
+    @Override
+    public boolean isCacheable(Request<?, ?> request, Response<?> response) {
+        if (response == null || response.hasError() || response.getResult() == null) {
+            return false;
+        }
+        Object result = response.getResult();
+        if (result instanceof NeoBlock) {
+            // The next block hash of the latest block is only set once the next block exists.
+            return ((NeoBlock) result).getNextBlockHash() != null;
+        }
+        if (result instanceof Transaction) {
+            // Transactions in the memory pool might never be included in a block.
+            return ((Transaction) result).getBlockHash() != null;
+        }
+        return true;
+    }
+
+}
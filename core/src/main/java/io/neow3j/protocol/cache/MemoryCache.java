@@ -0,0 +1,63 @@
+package io.neow3j.protocol.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * An in-memory least-recently-used cache that is bounded by the total size of its values in
+ * bytes.
+ */
+class MemoryCache {
+
+    private final long maxSize;
+    private final LinkedHashMap<String, byte[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long size = 0;
+    private long evictionCount = 0;
+
+    MemoryCache(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    synchronized byte[] get(String key) {
+        return entries.get(key);
+    }
+
+    synchronized void put(String key, byte[] value) {
+        if (value.length > maxSize) {
+            return;
+        }
+        byte[] previous = entries.put(key, value);
+        size += value.length - (previous == null ? 0 : previous.length);
+        Iterator<Map.Entry<String, byte[]>> eldest = entries.entrySet().iterator();
+        while (size > maxSize) {
+            size -= eldest.next().getValue().length;
+            eldest.remove();
+            evictionCount++;
+        }
+    }
+
+    synchronized void remove(String key) {
+        byte[] previous = entries.remove(key);
+        if (previous != null) {
+            size -= previous.length;
+        }
+    }
+
+    synchronized void clear() {
+        entries.clear();
+        size = 0;
+    }
+
+    synchronized long getSize() {
+        return size;
+    }
+
+    synchronized int getEntryCount() {
+        return entries.size();
+    }
+
+    synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+}
@@ -0,0 +1,44 @@
+package io.neow3j.protocol.core;
+
+import io.neow3j.protocol.Neow3jService;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A JSON-RPC 2.0 batch of {@link Request}s that are sent to the node in one single call.
+ */
+public class BatchRequest {
+
+    private Neow3jService neow3jService;
+    private List<Request<?, ? extends Response<?>>> requests = new ArrayList<>();
+
+    public BatchRequest(Neow3jService neow3jService) {
+        this.neow3jService = neow3jService;
+    }
+
+    /**
+     * Adds a request to this batch.
+     *
+     * @param request the request to add.
+     * @return this batch.
+     */
+    public BatchRequest add(Request<?, ? extends Response<?>> request) {
+        requests.add(request);
+        return this;
+    }
+
+    public List<Request<?, ? extends Response<?>>> getRequests() {
+        return requests;
+    }
+
+    public BatchResponse send() throws IOException {
+        return neow3jService.sendBatch(this);
+    }
+
+    public CompletableFuture<BatchResponse> sendAsync() {
+        return neow3jService.sendBatchAsync(this);
+    }
+}
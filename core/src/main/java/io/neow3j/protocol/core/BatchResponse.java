@@ -0,0 +1,49 @@
+package io.neow3j.protocol.core;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The responses to a {@link BatchRequest}.
+ * <p>
+ * The responses are ordered like the requests of the batch, independent of the order in which
+ * the node returned them.
+ */
+public class BatchResponse {
+
+    private List<Request<?, ? extends Response<?>>> requests;
+    private List<? extends Response<?>> responses;
+    private Map<Long, Response<?>> responsesById;
+
+    public BatchResponse(List<Request<?, ? extends Response<?>>> requests,
+            List<? extends Response<?>> responses) {
+
+        this.requests = requests;
+        this.responses = responses;
+        this.responsesById = new HashMap<>();
+        for (Response<?> response : responses) {
+            responsesById.put(response.getId(), response);
+        }
+    }
+
+    public List<Request<?, ? extends Response<?>>> getRequests() {
+        return requests;
+    }
+
+    public List<? extends Response<?>> getResponses() {
+        return responses;
+    }
+
+    /**
+     * Gets the response to the given request of the batch.
+     *
+     * @param request the request.
+     * @param <T>     the response type of the request.
+     * @return the response or null if the request was not part of the batch.
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Response<?>> T getResponse(Request<?, T> request) {
+        return (T) responsesById.get(request.getId());
+    }
+}
@@ -0,0 +1,15 @@
+package io.neow3j.protocol.core;
+
+/**
+ * Factory for JSON-RPC 2.0 batch requests.
+ */
+public interface Batcher {
+
+    /**
+     * Creates a new empty batch to which requests can be added before sending them all in one
+     * single call.
+     *
+     * @return the new batch.
+     */
+    BatchRequest newBatch();
+}
@@ -15,7 +15,9 @@ import io.neow3j.protocol.core.methods.response.NeoConnectionCount;
 import io.neow3j.protocol.core.methods.response.NeoDumpPrivKey;
 import io.neow3j.protocol.core.methods.response.NeoGetApplicationLog;
 import io.neow3j.protocol.core.methods.response.NeoGetBlock;
+import io.neow3j.protocol.core.methods.response.NeoGetBlockDecoded;
 import io.neow3j.protocol.core.methods.response.NeoGetContractState;
+import io.neow3j.protocol.core.methods.response.NeoGetLazyBlock;
 import io.neow3j.protocol.core.methods.response.NeoGetMemPool;
 import io.neow3j.protocol.core.methods.response.NeoGetNep5Balances;
 import io.neow3j.protocol.core.methods.response.NeoGetNep5Transfers;
@@ -26,6 +28,7 @@ import io.neow3j.protocol.core.methods.response.NeoGetRawMemPool;
 import io.neow3j.protocol.core.methods.response.NeoGetRawTransaction;
 import io.neow3j.protocol.core.methods.response.NeoGetStorage;
 import io.neow3j.protocol.core.methods.response.NeoGetTransaction;
+import io.neow3j.protocol.core.methods.response.NeoGetTransactionDecoded;
 import io.neow3j.protocol.core.methods.response.NeoGetTransactionHeight;
 import io.neow3j.protocol.core.methods.response.NeoGetUnclaimedGas;
 import io.neow3j.protocol.core.methods.response.NeoGetValidators;
@@ -43,12 +46,19 @@ import io.neow3j.protocol.core.methods.response.NeoSendMany;
 import io.neow3j.protocol.core.methods.response.NeoSendRawTransaction;
 import io.neow3j.protocol.core.methods.response.NeoSendToAddress;
 import io.neow3j.protocol.core.methods.response.NeoSubmitBlock;
+import io.neow3j.protocol.core.methods.response.NeoSubscribe;
 import io.neow3j.protocol.core.methods.response.NeoValidateAddress;
+import io.neow3j.protocol.core.methods.response.Transaction;
 import io.neow3j.protocol.core.methods.response.TransactionSendAsset;
 import io.neow3j.protocol.core.methods.response.TransactionSigner;
+import io.neow3j.protocol.notifications.BlockNotification;
+import io.neow3j.protocol.notifications.ContractNotification;
+import io.neow3j.protocol.notifications.Notification;
+import io.neow3j.protocol.notifications.TransactionNotification;
 import io.neow3j.protocol.rx.JsonRpc2_0Rx;
 import io.neow3j.transaction.Signer;
 import io.neow3j.utils.Async;
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -66,6 +76,9 @@ public class JsonRpc2_0Neow3j implements Neow3j {
 
     public static final int DEFAULT_BLOCK_TIME = 15 * 1000;
 
+    static final String SUBSCRIBE_METHOD = "subscribe";
+    static final String UNSUBSCRIBE_METHOD = "unsubscribe";
+
     protected final Neow3jService neow3jService;
     private final JsonRpc2_0Rx neow3jRx;
     private final long blockTime;
@@ -149,6 +162,42 @@ public class JsonRpc2_0Neow3j implements Neow3j {
                 NeoGetRawBlock.class);
     }
 
+    @Override
+    public Request<?, NeoGetBlockDecoded> getBlockDecoded(String hash) {
+        return new Request<>(
+                "getblock",
+                asList(hash, 0),
+                neow3jService,
+                NeoGetBlockDecoded.class);
+    }
+
+    @Override
+    public Request<?, NeoGetBlockDecoded> getBlockDecoded(BlockParameterIndex blockIndex) {
+        return new Request<>(
+                "getblock",
+                asList(blockIndex.getBlockIndex(), 0),
+                neow3jService,
+                NeoGetBlockDecoded.class);
+    }
+
+    @Override
+    public Request<?, NeoGetLazyBlock> getLazyBlock(String hash) {
+        return new Request<>(
+                "getblock",
+                asList(hash, 1),
+                neow3jService,
+                NeoGetLazyBlock.class);
+    }
+
+    @Override
+    public Request<?, NeoGetLazyBlock> getLazyBlock(BlockParameterIndex blockIndex) {
+        return new Request<>(
+                "getblock",
+                asList(blockIndex.getBlockIndex(), 1),
+                neow3jService,
+                NeoGetLazyBlock.class);
+    }
+
     @Override
     public Request<?, NeoBlockCount> getBlockCount() {
         return new Request<>(
@@ -239,6 +288,15 @@ public class JsonRpc2_0Neow3j implements Neow3j {
                 NeoGetRawTransaction.class);
     }
 
+    @Override
+    public Request<?, NeoGetTransactionDecoded> getTransactionDecoded(String txId) {
+        return new Request<>(
+                "getrawtransaction",
+                asList(txId, 0),
+                neow3jService,
+                NeoGetTransactionDecoded.class);
+    }
+
     @Override
     public Request<?, NeoGetStorage> getStorage(String contractAddress, HexParameter keyToLookUp) {
         return getStorage(contractAddress, keyToLookUp.getHexValue());
@@ -570,6 +628,13 @@ public class JsonRpc2_0Neow3j implements Neow3j {
                 NeoGetNep5Transfers.class);
     }
 
+    // Batch Requests
+
+    @Override
+    public BatchRequest newBatch() {
+        return new BatchRequest(neow3jService);
+    }
+
     // Neow3j Rx Convenience methods:
 
     @Override
@@ -592,6 +657,15 @@ public class JsonRpc2_0Neow3j implements Neow3j {
                 fullTransactionObjects, ascending);
     }
 
+    @Override
+    public Flowable<NeoGetBlock> replayBlocksFlowable(
+            BlockParameter startBlock, BlockParameter endBlock,
+            boolean fullTransactionObjects, boolean ascending,
+            int maxConcurrency, boolean ordered) {
+        return neow3jRx.replayBlocksFlowable(startBlock, endBlock, fullTransactionObjects,
+                ascending, maxConcurrency, ordered);
+    }
+
     @Override
     public Observable<NeoGetBlock> catchUpToLatestBlockObservable(
             BlockParameter startBlock, boolean fullTransactionObjects,
@@ -613,6 +687,79 @@ public class JsonRpc2_0Neow3j implements Neow3j {
                 startBlock, fullTransactionObjects, blockTime);
     }
 
+    @Override
+    public Flowable<NeoGetBlock> blockFlowable(boolean fullTransactionObjects) {
+        return neow3jRx.blockFlowable(fullTransactionObjects, blockTime);
+    }
+
+    @Override
+    public Flowable<NeoGetBlock> replayBlocksFlowable(
+            BlockParameter startBlock, BlockParameter endBlock,
+            boolean fullTransactionObjects) {
+        return neow3jRx.replayBlocksFlowable(startBlock, endBlock, fullTransactionObjects);
+    }
+
+    @Override
+    public Flowable<NeoGetBlock> replayBlocksFlowable(
+            BlockParameter startBlock, BlockParameter endBlock,
+            boolean fullTransactionObjects, boolean ascending) {
+        return neow3jRx.replayBlocksFlowable(startBlock, endBlock,
+                fullTransactionObjects, ascending);
+    }
+
+    @Override
+    public Flowable<NeoGetBlock> catchUpToLatestBlockFlowable(
+            BlockParameter startBlock, boolean fullTransactionObjects,
+            Flowable<NeoGetBlock> onCompleteFlowable) {
+        return neow3jRx.catchUpToLatestBlockFlowable(
+                startBlock, fullTransactionObjects, onCompleteFlowable);
+    }
+
+    @Override
+    public Flowable<NeoGetBlock> catchUpToLatestBlockFlowable(
+            BlockParameter startBlock, boolean fullTransactionObjects) {
+        return neow3jRx.catchUpToLatestBlockFlowable(startBlock, fullTransactionObjects);
+    }
+
+    @Override
+    public Flowable<Transaction> catchUpToLatestTransactionFlowable(BlockParameter startBlock) {
+        return neow3jRx.catchUpToLatestTransactionFlowable(startBlock);
+    }
+
+    @Override
+    public Flowable<NeoGetBlock> catchUpToLatestAndSubscribeToNewBlocksFlowable(
+            BlockParameter startBlock, boolean fullTransactionObjects) {
+        return neow3jRx.catchUpToLatestAndSubscribeToNewBlocksFlowable(
+                startBlock, fullTransactionObjects, blockTime);
+    }
+
+    @Override
+    public Observable<BlockNotification> blockNotifications() {
+        return subscribe("block_added", BlockNotification.class);
+    }
+
+    @Override
+    public Observable<TransactionNotification> transactionNotifications() {
+        return subscribe("transaction_added", TransactionNotification.class);
+    }
+
+    @Override
+    public Observable<ContractNotification> contractNotifications() {
+        return subscribe("notification_from_execution", ContractNotification.class);
+    }
+
+    private <T extends Notification<?>> Observable<T> subscribe(String event,
+            Class<T> notificationType) {
+        return neow3jService.subscribe(
+                new Request<>(
+                        SUBSCRIBE_METHOD,
+                        asList(event),
+                        neow3jService,
+                        NeoSubscribe.class),
+                UNSUBSCRIBE_METHOD,
+                notificationType);
+    }
+
     @Override
     public void shutdown() {
         scheduledExecutorService.shutdown();
@@ -10,7 +10,9 @@ import io.neow3j.protocol.core.methods.response.NeoGetApplicationLog;
 import io.neow3j.protocol.core.methods.response.NeoGetUnclaimedGas;
 import io.neow3j.protocol.core.methods.response.NeoGetWalletBalance;
 import io.neow3j.protocol.core.methods.response.NeoGetBlock;
+import io.neow3j.protocol.core.methods.response.NeoGetBlockDecoded;
 import io.neow3j.protocol.core.methods.response.NeoGetContractState;
+import io.neow3j.protocol.core.methods.response.NeoGetLazyBlock;
 import io.neow3j.protocol.core.methods.response.NeoGetMemPool;
 import io.neow3j.protocol.core.methods.response.NeoGetNep5Balances;
 import io.neow3j.protocol.core.methods.response.NeoGetNep5Transfers;
@@ -21,6 +23,7 @@ import io.neow3j.protocol.core.methods.response.NeoGetRawMemPool;
 import io.neow3j.protocol.core.methods.response.NeoGetRawTransaction;
 import io.neow3j.protocol.core.methods.response.NeoGetStorage;
 import io.neow3j.protocol.core.methods.response.NeoGetTransaction;
+import io.neow3j.protocol.core.methods.response.NeoGetTransactionDecoded;
 import io.neow3j.protocol.core.methods.response.NeoGetTransactionHeight;
 import io.neow3j.protocol.core.methods.response.NeoGetWalletUnclaimedGas;
 import io.neow3j.protocol.core.methods.response.NeoGetValidators;
@@ -63,6 +66,42 @@ public interface Neo {
 
     Request<?, NeoGetRawBlock> getRawBlock(BlockParameterIndex blockIndex);
 
+    /**
+     * Gets the raw block with the given hash and decodes it directly from the hexadecimal
+     * response into a {@link io.neow3j.block.Block}.
+     *
+     * @param hash the block hash.
+     * @return the request.
+     */
+    Request<?, NeoGetBlockDecoded> getBlockDecoded(String hash);
+
+    /**
+     * Gets the raw block with the given index and decodes it directly from the hexadecimal
+     * response into a {@link io.neow3j.block.Block}.
+     *
+     * @param blockIndex the block index.
+     * @return the request.
+     */
+    Request<?, NeoGetBlockDecoded> getBlockDecoded(BlockParameterIndex blockIndex);
+
+    /**
+     * Gets the block with the given hash with its transactions, but only deserializes a
+     * transaction when it is accessed. Use this if only a few of the transactions are needed.
+     *
+     * @param hash the block hash.
+     * @return the request.
+     */
+    Request<?, NeoGetLazyBlock> getLazyBlock(String hash);
+
+    /**
+     * Gets the block with the given index with its transactions, but only deserializes a
+     * transaction when it is accessed. Use this if only a few of the transactions are needed.
+     *
+     * @param blockIndex the block index.
+     * @return the request.
+     */
+    Request<?, NeoGetLazyBlock> getLazyBlock(BlockParameterIndex blockIndex);
+
     Request<?, NeoBlockCount> getBlockCount();
 
     Request<?, NeoGetBlock> getBlockHeader(String hash);
@@ -83,6 +122,15 @@ public interface Neo {
 
     Request<?, NeoGetRawTransaction> getRawTransaction(String txId);
 
+    /**
+     * Gets the raw transaction with the given id and decodes it directly from the hexadecimal
+     * response into a {@link io.neow3j.transaction.Transaction}.
+     *
+     * @param txId the transaction id.
+     * @return the request.
+     */
+    Request<?, NeoGetTransactionDecoded> getTransactionDecoded(String txId);
+
     Request<?, NeoGetStorage> getStorage(String contractAddress, HexParameter keyToLookUp);
 
     Request<?, NeoGetStorage> getStorage(String contractAddress, String keyToLookUpAsHexString);
@@ -1,16 +1,27 @@
 package io.neow3j.protocol.core;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.neow3j.protocol.Neow3jService;
 import io.reactivex.Observable;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicLong;
 
 public class Request<S, T extends Response> {
     private static AtomicLong nextId = new AtomicLong(0);
 
+    // Methods that change the state of the node or of its wallet.
+    private static final Set<String> STATE_CHANGING_METHODS = Collections.unmodifiableSet(
+            new HashSet<>(Arrays.asList("sendrawtransaction", "submitblock", "sendfrom",
+                    "sendmany", "sendtoaddress", "getnewaddress", "importprivkey", "openwallet",
+                    "closewallet")));
+
     private String jsonrpc = "2.0";
     private String method;
     private List<S> params;
@@ -66,6 +77,23 @@ public class Request<S, T extends Response> {
         this.id = id;
     }
 
+    @JsonIgnore
+    public Class<T> getResponseType() {
+        return responseType;
+    }
+
+    /**
+     * Checks if this request changes the state of the node or of its wallet, e.g., by sending a
+     * transaction or creating a new address. Such requests must not be retried or merged with
+     * identical requests.
+     *
+     * @return true if this request changes state. False, otherwise.
+     */
+    @JsonIgnore
+    public boolean isStateChanging() {
+        return STATE_CHANGING_METHODS.contains(method);
+    }
+
     public T send() throws IOException {
         return neow3jService.send(this, responseType);
     }
@@ -1,10 +1,13 @@
 package io.neow3j.protocol.core;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.neow3j.protocol.deserializer.KeepAsJsonDeserialzier;
 import io.neow3j.protocol.exceptions.ErrorResponseException;
 
+import java.util.function.Supplier;
+
 /**
  * JSON-RPC response type.
  *
@@ -17,6 +20,7 @@ public class Response<T> {
     private T result;
     private Error error;
     private String rawResponse;
+    private Supplier<String> lazyRawResponse;
 
     public Response() {
     }
@@ -58,11 +62,28 @@ public class Response<T> {
     }
 
     public String getRawResponse() {
+        if (rawResponse == null && lazyRawResponse != null) {
+            rawResponse = lazyRawResponse.get();
+            lazyRawResponse = null;
+        }
         return rawResponse;
     }
 
     public void setRawResponse(String rawResponse) {
         this.rawResponse = rawResponse;
+        this.lazyRawResponse = null;
+    }
+
+    /**
+     * Sets the raw response such that it is only materialized when it is accessed the first
+     * time via {@link #getRawResponse()}.
+     *
+     * @param lazyRawResponse the supplier of the raw response.
+     */
+    @JsonIgnore
+    public void setLazyRawResponse(Supplier<String> lazyRawResponse) {
+        this.rawResponse = null;
+        this.lazyRawResponse = lazyRawResponse;
     }
 
     public void throwOnError() throws ErrorResponseException {
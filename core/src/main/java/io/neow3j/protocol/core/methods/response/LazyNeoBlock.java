@@ -0,0 +1,311 @@
+package io.neow3j.protocol.core.methods.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fasterxml.jackson.annotation.Nulls;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * <p>A block that only deserializes its transactions when they are accessed.</p>
+ * <br>
+ * <p>The JSON of each transaction is buffered as tokens while the block is read. Only the hash
+ * and the sender of the transactions are read eagerly, so that transactions can be filtered
+ * without deserializing them into {@link Transaction} objects. A transaction is deserialized the
+ * first time it is accessed through {@link TransactionEntry#getTransaction()}, e.g., while
+ * iterating over {@link #transactionIterator()}.</p>
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class LazyNeoBlock {
+
+    @JsonProperty("hash")
+    private String hash;
+
+    @JsonProperty("size")
+    private long size;
+
+    @JsonProperty("version")
+    private int version;
+
+    @JsonProperty("previousblockhash")
+    private String prevBlockHash;
+
+    @JsonProperty("merkleroot")
+    private String merkleRootHash;
+
+    @JsonProperty("time")
+    private long time;
+
+    @JsonProperty("index")
+    private long index;
+
+    @JsonProperty("nextconsensus")
+    private String nextConsensus;
+
+    @JsonProperty("witnesses")
+    @JsonSetter(nulls = Nulls.AS_EMPTY)
+    private List<NeoWitness> witnesses;
+
+    @JsonProperty("consensusdata")
+    private ConsensusData consensusData;
+
+    @JsonProperty("tx")
+    @JsonDeserialize(using = TransactionsDeserializer.class)
+    private List<TransactionEntry> transactions;
+
+    @JsonProperty("confirmations")
+    private int confirmations;
+
+    @JsonProperty("nextblockhash")
+    private String nextBlockHash;
+
+    public LazyNeoBlock() {
+    }
+
+    public String getHash() {
+        return hash;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public String getPrevBlockHash() {
+        return prevBlockHash;
+    }
+
+    public String getMerkleRootHash() {
+        return merkleRootHash;
+    }
+
+    public long getTime() {
+        return time;
+    }
+
+    public long getIndex() {
+        return index;
+    }
+
+    public String getNextConsensus() {
+        return nextConsensus;
+    }
+
+    public List<NeoWitness> getWitnesses() {
+        return witnesses;
+    }
+
+    public ConsensusData getConsensusData() {
+        return consensusData;
+    }
+
+    public int getConfirmations() {
+        return confirmations;
+    }
+
+    public String getNextBlockHash() {
+        return nextBlockHash;
+    }
+
+    /**
+     * Gets the not yet deserialized transactions of this block.
+     *
+     * @return the transactions in the order of the block.
+     */
+    public List<TransactionEntry> getTransactionEntries() {
+        return transactions == null
+                ? Collections.emptyList()
+                : Collections.unmodifiableList(transactions);
+    }
+
+    public int getTransactionCount() {
+        return getTransactionEntries().size();
+    }
+
+    /**
+     * Gets the hashes of the transactions of this block without deserializing them.
+     *
+     * @return the transaction hashes in the order of the block.
+     */
+    public List<String> getTransactionHashes() {
+        return getTransactionEntries().stream()
+                .map(TransactionEntry::getHash)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the transaction at the given position in this block and deserializes it if it was
+     * not accessed before.
+     *
+     * @param i the position of the transaction.
+     * @return the transaction.
+     * @throws UncheckedIOException if the transaction cannot be deserialized.
+     */
+    public Transaction getTransaction(int i) {
+        return getTransactionEntries().get(i).getTransaction();
+    }
+
+    /**
+     * Gets an iterator over the transactions of this block that deserializes each transaction
+     * when it is reached.
+     *
+     * @return the iterator.
+     */
+    public Iterator<Transaction> transactionIterator() {
+        Iterator<TransactionEntry> entries = getTransactionEntries().iterator();
+        return new Iterator<Transaction>() {
+            @Override
+            public boolean hasNext() {
+                return entries.hasNext();
+            }
+
+            @Override
+            public Transaction next() {
+                return entries.next().getTransaction();
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "LazyNeoBlock{" +
+                "hash='" + hash + '\'' +
+                ", size=" + size +
+                ", version=" + version +
+                ", prevBlockHash='" + prevBlockHash + '\'' +
+                ", merkleRootHash='" + merkleRootHash + '\'' +
+                ", time=" + time +
+                ", index=" + index +
+                ", nextConsensus='" + nextConsensus + '\'' +
+                ", witnesses=" + witnesses +
+                ", consensusData=" + consensusData +
+                ", transactions=" + getTransactionHashes() +
+                ", confirmations=" + confirmations +
+                ", nextBlockHash='" + nextBlockHash + '\'' +
+                '}';
+    }
+
+    /**
+     * A transaction of a {@link LazyNeoBlock} that is deserialized on first access.
+     */
+    public static class TransactionEntry {
+
+        private final TokenBuffer json;
+        private final String hash;
+        private final String sender;
+        private volatile Transaction transaction;
+
+        private TransactionEntry(TokenBuffer json, String hash, String sender) {
+            this.json = json;
+            this.hash = hash;
+            this.sender = sender;
+        }
+
+        public String getHash() {
+            return hash;
+        }
+
+        public String getSender() {
+            return sender;
+        }
+
+        /**
+         * @return true if the transaction was already deserialized. False, otherwise.
+         */
+        public boolean isDeserialized() {
+            return transaction != null;
+        }
+
+        /**
+         * Gets the transaction and deserializes it if it was not accessed before.
+         *
+         * @return the transaction.
+         * @throws UncheckedIOException if the transaction cannot be deserialized.
+         */
+        public Transaction getTransaction() {
+            Transaction result = transaction;
+            if (result == null) {
+                try (JsonParser parser = json.asParser()) {
+                    result = parser.readValueAs(Transaction.class);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to deserialize transaction " + hash, e);
+                }
+                transaction = result;
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Buffers the JSON of each transaction and reads only its hash and sender.
+     */
+    public static class TransactionsDeserializer extends StdDeserializer<List<TransactionEntry>> {
+
+        public TransactionsDeserializer() {
+            super(List.class);
+        }
+
+        @Override
+        public List<TransactionEntry> deserialize(JsonParser p, DeserializationContext ctxt)
+                throws IOException {
+
+            if (!p.isExpectedStartArrayToken()) {
+                ctxt.handleUnexpectedToken(List.class, p);
+                return null;
+            }
+            List<TransactionEntry> entries = new ArrayList<>();
+            while (p.nextToken() != JsonToken.END_ARRAY) {
+                if (p.getCurrentToken() != JsonToken.START_OBJECT) {
+                    ctxt.handleUnexpectedToken(Transaction.class, p);
+                    continue;
+                }
+                TokenBuffer json = new TokenBuffer(p, ctxt);
+                json.copyCurrentStructure(p);
+                entries.add(readEntry(json));
+            }
+            return entries;
+        }
+
+        @Override
+        public List<TransactionEntry> getNullValue(DeserializationContext ctxt) {
+            return new ArrayList<>();
+        }
+
+        private static TransactionEntry readEntry(TokenBuffer json) throws IOException {
+            String hash = null;
+            String sender = null;
+            try (JsonParser parser = json.asParser()) {
+                // Skip the start of the object
+                parser.nextToken();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = parser.getCurrentName();
+                    JsonToken value = parser.nextToken();
+                    if ("hash".equals(name) && value == JsonToken.VALUE_STRING) {
+                        hash = parser.getText();
+                    } else if ("sender".equals(name) && value == JsonToken.VALUE_STRING) {
+                        sender = parser.getText();
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            }
+            return new TransactionEntry(json, hash, sender);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package io.neow3j.protocol.core.methods.response;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.neow3j.block.Block;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.deserializer.HexSerializableDeserializer;
+
+/**
+ * The response to a request for a raw block, decoded into a {@link Block}.
+ */
+public class NeoGetBlockDecoded extends Response<Block> {
+
+    @Override
+    @JsonDeserialize(using = BlockDeserializer.class)
+    public void setResult(Block result) {
+        super.setResult(result);
+    }
+
+    public Block getBlock() {
+        return getResult();
+    }
+
+    public static class BlockDeserializer extends HexSerializableDeserializer<Block> {
+
+        public BlockDeserializer() {
+            super(Block.class);
+        }
+
+        @Override
+        protected Block createInstance() {
+            return new Block();
+        }
+    }
+}
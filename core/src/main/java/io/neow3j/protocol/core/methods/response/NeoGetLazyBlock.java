@@ -0,0 +1,14 @@
+package io.neow3j.protocol.core.methods.response;
+
+import io.neow3j.protocol.core.Response;
+
+/**
+ * The response to a request for a block whose transactions are deserialized on demand.
+ */
+public class NeoGetLazyBlock extends Response<LazyNeoBlock> {
+
+    public LazyNeoBlock getBlock() {
+        return getResult();
+    }
+
+}
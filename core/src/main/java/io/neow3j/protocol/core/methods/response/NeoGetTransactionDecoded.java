@@ -0,0 +1,34 @@
+package io.neow3j.protocol.core.methods.response;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.deserializer.HexSerializableDeserializer;
+import io.neow3j.transaction.Transaction;
+
+/**
+ * The response to a request for a raw transaction, decoded into a {@link Transaction}.
+ */
+public class NeoGetTransactionDecoded extends Response<Transaction> {
+
+    @Override
+    @JsonDeserialize(using = TransactionDeserializer.class)
+    public void setResult(Transaction result) {
+        super.setResult(result);
+    }
+
+    public Transaction getTransaction() {
+        return getResult();
+    }
+
+    public static class TransactionDeserializer extends HexSerializableDeserializer<Transaction> {
+
+        public TransactionDeserializer() {
+            super(Transaction.class);
+        }
+
+        @Override
+        protected Transaction createInstance() {
+            return new Transaction();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package io.neow3j.protocol.core.methods.response;
+
+import io.neow3j.protocol.core.Response;
+
+public class NeoSubscribe extends Response<String> {
+
+    public String getSubscriptionId() {
+        return getResult();
+    }
+
+}
@@ -0,0 +1,11 @@
+package io.neow3j.protocol.core.methods.response;
+
+import io.neow3j.protocol.core.Response;
+
+public class NeoUnsubscribe extends Response<Boolean> {
+
+    public Boolean isUnsubscribed() {
+        return getResult();
+    }
+
+}
@@ -0,0 +1,27 @@
+package io.neow3j.protocol.core.polling;
+
+import java.io.IOException;
+
+/**
+ * Stores the index of the last block that was handled by a {@link BlockPolling}, so that polling
+ * can be resumed from there after a restart.
+ */
+public interface BlockCheckpoint {
+
+    /**
+     * Loads the index of the last handled block.
+     *
+     * @return the block index, or -1 if no block index was stored yet.
+     * @throws IOException if the checkpoint cannot be read.
+     */
+    long load() throws IOException;
+
+    /**
+     * Stores the index of the last handled block.
+     *
+     * @param blockIndex the block index.
+     * @throws IOException if the checkpoint cannot be written.
+     */
+    void store(long blockIndex) throws IOException;
+
+}
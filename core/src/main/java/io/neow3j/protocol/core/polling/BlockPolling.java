@@ -1,7 +1,7 @@
 package io.neow3j.protocol.core.polling;
 
 import io.neow3j.protocol.Neow3j;
-import io.reactivex.Observable;
+import io.neow3j.protocol.core.methods.response.NeoBlockCount;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -10,61 +10,290 @@ import java.math.BigInteger;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.IntStream;
 
+/**
+ * <p>Polls the block count of a node and reports the index of every new block.</p>
+ * <br>
+ * <p>Every block index is reported exactly once and in order, even if a callback takes longer
+ * than the polling interval. The next poll is only scheduled once all new blocks of the
+ * previous poll were handled. If the block count of the node goes back, e.g., because requests
+ * are routed to another node that is lagging behind, already reported blocks are not reported
+ * again.</p>
+ * <br>
+ * <p>The polling interval adapts to the observed block time. The node is polled when the next
+ * block is expected and more frequently if it is late.</p>
+ * <br>
+ * <p>If a {@link BlockCheckpoint} is given, the index of every handled block is stored in it,
+ * and polling resumes after the stored block when it is started again. Otherwise, polling starts
+ * after the latest block.</p>
+ * <br>
+ * <p>If the block count cannot be fetched, the error is passed to the error callback and the
+ * node is polled again with an exponential backoff that is capped at the maximum retry
+ * interval. Polling stops if the error callback throws, or on the first error if
+ * {@link #setStopOnError(boolean)} is set. An error in the block callback or in the checkpoint
+ * always stops the polling and is passed to the error callback.</p>
+ */
 public class BlockPolling {
 
     private static final Logger LOG = LoggerFactory.getLogger(BlockPolling.class);
 
-    private BigInteger currentBlock;
+    /**
+     * The minimum time between two polls in milliseconds.
+     */
+    public static final long DEFAULT_MIN_POLLING_INTERVAL = 100;
+
+    /**
+     * The maximum time between two polls after failed polls in milliseconds.
+     */
+    public static final long DEFAULT_MAX_RETRY_INTERVAL = 30 * 1000;
+
+    // Weight of the latest observed block time in the block time estimate.
+    private static final double BLOCK_TIME_WEIGHT = 0.2;
+
+    // Fraction of the block time to wait before polling again if no new block was found.
+    private static final int RETRY_FRACTION = 4;
 
     private final Neow3j neow3j;
     private final Callback<BigInteger> callback;
+    private final Callback<Throwable> errorCallback;
+    private final BlockCheckpoint checkpoint;
+
+    private long minPollingInterval = DEFAULT_MIN_POLLING_INTERVAL;
+    private long maxRetryInterval = DEFAULT_MAX_RETRY_INTERVAL;
+    private boolean stopOnError = false;
+
+    private volatile long currentBlock = -1;
+    private boolean initialized = false;
+    private double blockTime;
+    private long lastNewBlockTime = -1;
+    private int failedPolls = 0;
 
-    private ScheduledFuture<?> schedule;
+    private ScheduledExecutorService executorService;
+    private volatile ScheduledFuture<?> schedule;
+    private volatile boolean cancelled = false;
 
     public BlockPolling(Neow3j neow3j, Callback<BigInteger> callback) {
+        this(neow3j, callback, e -> LOG.error("Error on polling.", e));
+    }
+
+    public BlockPolling(Neow3j neow3j, Callback<BigInteger> callback,
+            Callback<Throwable> errorCallback) {
+        this(neow3j, callback, errorCallback, null);
+    }
+
+    /**
+     * Creates a {@link BlockPolling} instance.
+     *
+     * @param neow3j        the neow3j instance used to poll the block count.
+     * @param callback      the callback for the index of every new block.
+     * @param errorCallback the callback for errors while polling.
+     * @param checkpoint    the checkpoint to store handled blocks in and resume from, or null.
+     */
+    public BlockPolling(Neow3j neow3j, Callback<BigInteger> callback,
+            Callback<Throwable> errorCallback, BlockCheckpoint checkpoint) {
         this.neow3j = neow3j;
         this.callback = callback;
+        this.errorCallback = errorCallback;
+        this.checkpoint = checkpoint;
     }
 
-    public BigInteger getCurrentBlock() {
+    /**
+     * Sets the minimum time between two polls. Defaults to
+     * {@link #DEFAULT_MIN_POLLING_INTERVAL}.
+     *
+     * @param minPollingInterval the time in milliseconds.
+     */
+    public void setMinPollingInterval(long minPollingInterval) {
+        this.minPollingInterval = minPollingInterval;
+    }
+
+    /**
+     * Sets the maximum time between two polls while the block count cannot be fetched. Defaults
+     * to {@link #DEFAULT_MAX_RETRY_INTERVAL}.
+     *
+     * @param maxRetryInterval the time in milliseconds.
+     */
+    public void setMaxRetryInterval(long maxRetryInterval) {
+        this.maxRetryInterval = maxRetryInterval;
+    }
+
+    /**
+     * Sets whether polling stops on the first error instead of retrying failed polls. Defaults
+     * to false.
+     *
+     * @param stopOnError true to stop on the first error.
+     */
+    public void setStopOnError(boolean stopOnError) {
+        this.stopOnError = stopOnError;
+    }
+
+    /**
+     * Gets the index of the last reported block.
+     *
+     * @return the block index, or -1 if no block was reported yet.
+     */
+    public long getCurrentBlockIndex() {
         return currentBlock;
     }
 
+    /**
+     * Gets the index of the last reported block.
+     *
+     * @return the block index, or null if no block was reported yet.
+     * @deprecated Use {@link #getCurrentBlockIndex()} instead.
+     */
+    @Deprecated
+    public BigInteger getCurrentBlock() {
+        long block = currentBlock;
+        return block < 0 ? null : BigInteger.valueOf(block);
+    }
+
+    /**
+     * Skips the next block, i.e., marks it as reported without calling the callback.
+     *
+     * @deprecated Blocks are marked as reported by the polling itself. Use a
+     * {@link BlockCheckpoint} to control where polling resumes.
+     */
+    @Deprecated
     public synchronized void nextBlock() {
-        this.currentBlock = this.currentBlock.add(BigInteger.ONE);
+        currentBlock++;
     }
 
-    private BigInteger getLatestBlockIndex() throws IOException {
-        return neow3j.getBlockCount().send().getBlockIndex();
+    /**
+     * Gets the current estimate of the time between two blocks.
+     *
+     * @return the block time in milliseconds.
+     */
+    public long getBlockTime() {
+        return Math.round(blockTime);
     }
 
+    /**
+     * Starts polling.
+     *
+     * @param scheduledExecutorService the executor to poll on.
+     * @param pollingInterval          the expected block time in milliseconds, which is used
+     *                                 as the initial polling interval.
+     */
     public void run(ScheduledExecutorService scheduledExecutorService, long pollingInterval) {
-        this.schedule = scheduledExecutorService.scheduleAtFixedRate(
-                () -> {
-                    try {
-                        BigInteger latestBlockNumber = getLatestBlockIndex().subtract(BigInteger.ONE);
-                        if (this.currentBlock == null) {
-                            this.currentBlock = latestBlockNumber;
-                        }
-                        if (latestBlockNumber.compareTo(getCurrentBlock()) == 1) {
-                            IntStream.rangeClosed(getCurrentBlock().add(BigInteger.ONE).intValue(), latestBlockNumber.intValue())
-                                    .forEachOrdered((blockIndex) -> {
-                                        callback.onEvent(BigInteger.valueOf(blockIndex));
-                                        nextBlock();
-                                    });
-                        }
-                    } catch (Throwable e) {
-                        LOG.error("Error on polling: {}", e);
-                        Observable.error(e);
-                    }
-                },
-                0, pollingInterval, TimeUnit.MILLISECONDS);
+        this.executorService = scheduledExecutorService;
+        this.blockTime = pollingInterval;
+        scheduleNext(0);
     }
 
     public void cancel() {
-        schedule.cancel(false);
+        cancelled = true;
+        if (schedule != null) {
+            schedule.cancel(false);
+        }
+    }
+
+    private void poll() {
+        if (cancelled) {
+            return;
+        }
+        long latestBlock;
+        try {
+            latestBlock = getLatestBlockIndex();
+        } catch (Throwable e) {
+            retryAfterFailedPoll(e);
+            return;
+        }
+        failedPolls = 0;
+        long nextPollTime;
+        try {
+            nextPollTime = reportNewBlocks(latestBlock, System.currentTimeMillis());
+        } catch (Throwable e) {
+            cancelled = true;
+            errorCallback.onEvent(e);
+            return;
+        }
+        scheduleNext(Math.max(minPollingInterval, nextPollTime - System.currentTimeMillis()));
+    }
+
+    private void retryAfterFailedPoll(Throwable error) {
+        if (stopOnError) {
+            cancelled = true;
+        }
+        try {
+            errorCallback.onEvent(error);
+        } catch (Throwable e) {
+            LOG.error("Error callback failed, stopping the polling.", e);
+            cancelled = true;
+            return;
+        }
+        failedPolls++;
+        scheduleNext(retryDelay());
+    }
+
+    // Doubles the delay with every failed poll in a row, up to the maximum retry interval.
+    private long retryDelay() {
+        long delay = Math.max(minPollingInterval, Math.round(blockTime / RETRY_FRACTION));
+        int doublings = Math.min(failedPolls - 1, 30);
+        if (delay > maxRetryInterval >> doublings) {
+            return Math.max(minPollingInterval, maxRetryInterval);
+        }
+        return delay << doublings;
+    }
+
+    private synchronized void scheduleNext(long delay) {
+        if (!cancelled) {
+            schedule = executorService.schedule(this::poll, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Polls the block count once and reports all new blocks.
+     *
+     * @param now the time of the poll in milliseconds.
+     * @return the time at which to poll next in milliseconds.
+     * @throws IOException if the block count cannot be fetched or the checkpoint cannot be
+     *                     accessed.
+     */
+    long pollOnce(long now) throws IOException {
+        return reportNewBlocks(getLatestBlockIndex(), now);
+    }
+
+    private long reportNewBlocks(long latestBlock, long now) throws IOException {
+        if (!initialized) {
+            long storedBlock = checkpoint == null ? -1 : checkpoint.load();
+            currentBlock = storedBlock >= 0 ? storedBlock : latestBlock;
+            initialized = true;
+        }
+
+        int newBlocks = 0;
+        for (long i = currentBlock + 1; i <= latestBlock && !cancelled; i++) {
+            callback.onEvent(BigInteger.valueOf(i));
+            currentBlock = i;
+            if (checkpoint != null) {
+                checkpoint.store(i);
+            }
+            newBlocks++;
+        }
+        return nextPollTime(now, newBlocks);
+    }
+
+    private long nextPollTime(long now, int newBlocks) {
+        if (newBlocks == 0) {
+            // The next block is late, so check back more frequently.
+            return now + Math.round(blockTime / RETRY_FRACTION);
+        }
+        if (lastNewBlockTime >= 0) {
+            double observedBlockTime = (double) (now - lastNewBlockTime) / newBlocks;
+            blockTime = BLOCK_TIME_WEIGHT * observedBlockTime
+                    + (1 - BLOCK_TIME_WEIGHT) * blockTime;
+        }
+        lastNewBlockTime = now;
+        return now + Math.round(blockTime);
+    }
+
+    private long getLatestBlockIndex() throws IOException {
+        NeoBlockCount blockCount = neow3j.getBlockCount().send();
+        if (blockCount.hasError()) {
+            throw new IOException(String.format("Failed to get the block count: %s",
+                    blockCount.getError().getMessage()));
+        }
+        return blockCount.getBlockIndex().longValueExact() - 1;
     }
 
 }
@@ -0,0 +1,45 @@
+package io.neow3j.protocol.core.polling;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * <p>A {@link BlockCheckpoint} that keeps the block index in a file.</p>
+ * <br>
+ * <p>The index is written to a temporary file first, which then replaces the checkpoint file.
+ * A crash while storing therefore never leaves a corrupt checkpoint behind.</p>
+ */
+public class FileBlockCheckpoint implements BlockCheckpoint {
+
+    private final Path file;
+    private final Path tempFile;
+
+    public FileBlockCheckpoint(Path file) {
+        this.file = file;
+        this.tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+    }
+
+    @Override
+    public long load() throws IOException {
+        if (!Files.exists(file)) {
+            return -1;
+        }
+        String content = new String(Files.readAllBytes(file), StandardCharsets.UTF_8).trim();
+        try {
+            return Long.parseLong(content);
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid block checkpoint in file " + file, e);
+        }
+    }
+
+    @Override
+    public void store(long blockIndex) throws IOException {
+        Files.write(tempFile, Long.toString(blockIndex).getBytes(StandardCharsets.UTF_8));
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+}
@@ -0,0 +1,60 @@
+package io.neow3j.protocol.deserializer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import io.neow3j.io.BinaryReader;
+import io.neow3j.io.HexInputStream;
+import io.neow3j.io.NeoSerializable;
+import io.neow3j.io.exceptions.DeserializationException;
+
+import java.io.IOException;
+
+/**
+ * <p>Deserializes a JSON string containing a hexadecimal serialized {@link NeoSerializable}.</p>
+ * <br>
+ * <p>The hexadecimal characters are decoded from the buffer of the JSON parser while the object
+ * is read from them, without creating a String or a byte array of the serialized object.</p>
+ *
+ * @param <T> the type of the serialized object.
+ */
+public abstract class HexSerializableDeserializer<T extends NeoSerializable>
+        extends StdDeserializer<T> {
+
+    private final Class<T> type;
+
+    protected HexSerializableDeserializer(Class<T> type) {
+        super(type);
+        this.type = type;
+    }
+
+    /**
+     * Creates an empty instance to deserialize the object into.
+     *
+     * @return the instance.
+     */
+    protected abstract T createInstance();
+
+    @Override
+    public T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.getCurrentToken() != JsonToken.VALUE_STRING) {
+            return type.cast(ctxt.handleUnexpectedToken(type, p));
+        }
+        T value = createInstance();
+        HexInputStream stream = new HexInputStream(p.getTextCharacters(), p.getTextOffset(),
+                p.getTextLength());
+        try {
+            value.deserialize(new BinaryReader(stream));
+        } catch (DeserializationException e) {
+            throw JsonMappingException.from(p, "Failed to deserialize "
+                    + type.getSimpleName() + ".", e);
+        }
+        if (stream.available() > 0) {
+            throw JsonMappingException.from(p, "Unexpected data after serialized "
+                    + type.getSimpleName() + ".");
+        }
+        return value;
+    }
+}
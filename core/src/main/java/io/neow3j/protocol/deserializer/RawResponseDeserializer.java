@@ -28,9 +28,15 @@ public class RawResponseDeserializer
 
     @Override
     public Response deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
-        Response deserializedResponse = (Response) defaultDeserializer.deserialize(jp, ctxt);
+        Response<?> deserializedResponse = (Response<?>) defaultDeserializer.deserialize(jp, ctxt);
 
-        deserializedResponse.setRawResponse(getRawResponse(jp));
+        Object inputSource = jp.getInputSource();
+        if (inputSource instanceof RawResponseInputStream) {
+            deserializedResponse.setLazyRawResponse(
+                    ((RawResponseInputStream) inputSource).getRawResponse());
+        } else {
+            deserializedResponse.setRawResponse(getRawResponse(jp));
+        }
         return deserializedResponse;
     }
 
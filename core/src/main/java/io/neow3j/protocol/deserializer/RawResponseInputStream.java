@@ -0,0 +1,79 @@
+package io.neow3j.protocol.deserializer;
+
+import okio.Buffer;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Supplier;
+
+/**
+ * An input stream that keeps a copy of all bytes read through it, so that the raw response can
+ * be provided without buffering the whole response before parsing it.
+ * <p>
+ * The recorded bytes are only decoded into a String when the raw response is actually requested.
+ */
+public class RawResponseInputStream extends FilterInputStream {
+
+    private final Buffer recorded = new Buffer();
+
+    public RawResponseInputStream(InputStream in) {
+        super(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b != -1) {
+            recorded.writeByte(b);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int read = super.read(b, off, len);
+        if (read > 0) {
+            recorded.write(b, off, read);
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        byte[] skipped = new byte[(int) Math.min(n, 8192)];
+        int read = read(skipped, 0, skipped.length);
+        return read < 0 ? 0 : read;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    /**
+     * Reads the rest of the stream, so that the raw response is complete, and closes it.
+     *
+     * @throws IOException if reading the remaining bytes fails.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            byte[] rest = new byte[512];
+            while (read(rest, 0, rest.length) != -1) {
+                // Only trailing whitespace is expected after the JSON document.
+            }
+        } finally {
+            super.close();
+        }
+    }
+
+    /**
+     * Gets the raw response, which is decoded from the recorded bytes on first access.
+     *
+     * @return the raw response supplier.
+     */
+    public Supplier<String> getRawResponse() {
+        return () -> recorded.clone().readUtf8();
+    }
+}
@@ -1,17 +1,28 @@
 package io.neow3j.protocol.http;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import io.neow3j.protocol.Service;
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
 import io.neow3j.protocol.core.Request;
 import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.deserializer.RawResponseInputStream;
 import io.neow3j.protocol.exceptions.ClientConnectionException;
+import io.neow3j.protocol.metrics.RequestRecorder;
 import io.neow3j.utils.Async;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.Headers;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import okhttp3.RequestBody;
 import okhttp3.ResponseBody;
 import okhttp3.logging.HttpLoggingInterceptor;
 import okio.Buffer;
+import okio.BufferedSink;
 import okio.BufferedSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,9 +30,13 @@ import org.slf4j.LoggerFactory;
 import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * HTTP implementation of the Service API.
@@ -35,6 +50,8 @@ public class HttpService extends Service {
     private static final Logger log = LoggerFactory.getLogger(HttpService.class);
     private final String url;
     private final boolean includeRawResponses;
+    private boolean streaming = false;
+    private boolean nonBlocking = false;
     private OkHttpClient httpClient;
     private HashMap<String, String> headers = new HashMap<>();
 
@@ -263,23 +280,128 @@ public class HttpService extends Service {
 
     @Override
     protected InputStream performIO(String request) throws IOException {
+        return performIO(RequestBody.create(JSON_MEDIA_TYPE, request),
+                RequestRecorder.disabled());
+    }
+
+    @Override
+    protected InputStream performRequestIO(Object request, RequestRecorder recorder)
+            throws IOException {
+        return performIO(createRequestBody(request, recorder), recorder);
+    }
 
-        RequestBody requestBody = RequestBody.create(JSON_MEDIA_TYPE, request);
-        Headers headers = buildHeaders();
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(
+            Request jsonRpc20Request, Class<T> responseType) {
+        if (!nonBlocking) {
+            return super.sendAsync(jsonRpc20Request, responseType);
+        }
+        return performAsyncIO(jsonRpc20Request,
+                RequestRecorder.start(requestListeners, jsonRpc20Request),
+                result -> readResponse(result, responseType));
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        List<Request<?, ? extends Response<?>>> requests = batchRequest.getRequests();
+        if (!nonBlocking || requests.isEmpty()) {
+            return super.sendBatchAsync(batchRequest);
+        }
+        return performAsyncIO(requests, RequestRecorder.start(requestListeners, requests),
+                result -> readBatchResponse(result, requests));
+    }
+
+    private RequestBody createRequestBody(Object request, RequestRecorder recorder)
+            throws IOException {
+        if (streaming) {
+            return createStreamingRequestBody(request, recorder);
+        }
+        byte[] payload = objectMapper.writeValueAsBytes(request);
+        recorder.serialized(payload.length);
+        return RequestBody.create(JSON_MEDIA_TYPE, payload);
+    }
+
+    private RequestBody createStreamingRequestBody(Object request, RequestRecorder recorder) {
+        return new RequestBody() {
+            @Override
+            public MediaType contentType() {
+                return JSON_MEDIA_TYPE;
+            }
+
+            @Override
+            public void writeTo(BufferedSink sink) throws IOException {
+                // The sink is closed by OkHttp once the body is written.
+                objectMapper.writer()
+                        .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                        .writeValue(recorder.recordRequest(sink.outputStream()), request);
+                recorder.serialized();
+            }
+        };
+    }
+
+    private InputStream performIO(RequestBody requestBody, RequestRecorder recorder)
+            throws IOException {
+        okhttp3.Response response = httpClient.newCall(buildHttpRequest(requestBody)).execute();
+        return processResponse(response, recorder);
+    }
+
+    private <T> CompletableFuture<T> performAsyncIO(Object request, RequestRecorder recorder,
+            ResponseReader<T> responseReader) {
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        RequestBody requestBody;
+        try {
+            requestBody = createRequestBody(request, recorder);
+        } catch (IOException | RuntimeException e) {
+            recorder.failed(e);
+            result.completeExceptionally(e);
+            return result;
+        }
+
+        Call call = httpClient.newCall(buildHttpRequest(requestBody));
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                recorder.failed(e);
+                result.completeExceptionally(e);
+            }
 
-        okhttp3.Request httpRequest = new okhttp3.Request.Builder()
+            @Override
+            public void onResponse(Call call, okhttp3.Response response) {
+                try (InputStream inputStream = processResponse(response, recorder)) {
+                    T reply = responseReader.read(inputStream);
+                    recorder.completed(reply);
+                    result.complete(reply);
+                } catch (Throwable e) {
+                    recorder.failed(e);
+                    result.completeExceptionally(e);
+                }
+            }
+        });
+        result.whenComplete((response, error) -> {
+            if (result.isCancelled()) {
+                call.cancel();
+            }
+        });
+        return result;
+    }
+
+    private okhttp3.Request buildHttpRequest(RequestBody requestBody) {
+        return new okhttp3.Request.Builder()
                 .url(url)
-                .headers(headers)
+                .headers(buildHeaders())
                 .post(requestBody)
                 .build();
+    }
 
-        okhttp3.Response response = httpClient.newCall(httpRequest).execute();
+    private InputStream processResponse(okhttp3.Response response, RequestRecorder recorder)
+            throws IOException {
         ResponseBody responseBody = response.body();
         if (response.isSuccessful()) {
             if (responseBody != null) {
-                return buildInputStream(responseBody);
+                return buildInputStream(responseBody, recorder);
             } else {
-                return null;
+                return recorder.recordResponse(null);
             }
         } else {
             int code = response.code();
@@ -289,10 +411,15 @@ public class HttpService extends Service {
         }
     }
 
-    private InputStream buildInputStream(ResponseBody responseBody) throws IOException {
-        InputStream inputStream = responseBody.byteStream();
+    private InputStream buildInputStream(ResponseBody responseBody, RequestRecorder recorder)
+            throws IOException {
+        InputStream inputStream = recorder.recordResponse(responseBody.byteStream());
 
-        if (includeRawResponses) {
+        if (includeRawResponses && streaming) {
+            // the raw response is recorded while the response is parsed and only decoded
+            // when it is accessed.
+            return new RawResponseInputStream(inputStream);
+        } else if (includeRawResponses) {
             // we have to buffer the entire input payload, so that after processing
             // it can be re-read and used to populate the rawResponse field.
 
@@ -342,6 +469,59 @@ public class HttpService extends Service {
         headers.putAll(headersToAdd);
     }
 
+    /**
+     * <p>Enables or disables the streaming mode of this service.</p>
+     * <br>
+     * <p>In streaming mode requests are serialized directly into the HTTP request body instead
+     * of building the whole payload as a String first. If raw responses are included, the
+     * response is not buffered before parsing it. Instead, the raw response is recorded while
+     * parsing and only decoded when {@link Response#getRawResponse()} is called.</p>
+     * <br>
+     * <p>Because the size of a streamed request is not known in advance, requests are sent
+     * with chunked transfer encoding.</p>
+     *
+     * @param streaming true to enable streaming mode, false otherwise.
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    /**
+     * <p>Enables or disables the non-blocking mode of this service.</p>
+     * <br>
+     * <p>In non-blocking mode asynchronous requests are handed to OkHttp with
+     * {@link Call#enqueue(Callback)} instead of running a blocking call on the executor of this
+     * service. The returned future is completed from OkHttp's callback. The number of
+     * concurrent calls is then limited by the {@link okhttp3.Dispatcher} of the HTTP client
+     * (see {@link okhttp3.Dispatcher#setMaxRequestsPerHost(int)}), and further calls are
+     * queued without occupying a thread.</p>
+     *
+     * @param nonBlocking true to enable non-blocking mode, false otherwise.
+     */
+    public void setNonBlocking(boolean nonBlocking) {
+        this.nonBlocking = nonBlocking;
+    }
+
+    /**
+     * Checks if this service is in non-blocking mode.
+     *
+     * @return true if non-blocking mode is enabled, false otherwise.
+     * @see #setNonBlocking(boolean)
+     */
+    public boolean isNonBlocking() {
+        return nonBlocking;
+    }
+
+    /**
+     * Checks if this service is in streaming mode.
+     *
+     * @return true if streaming is enabled, false otherwise.
+     * @see #setStreaming(boolean)
+     */
+    public boolean isStreaming() {
+        return streaming;
+    }
+
     /**
      * Get all custom headers set to this service.
      *
@@ -355,4 +535,270 @@ public class HttpService extends Service {
     public void close() {
 
     }
+
+    /**
+     * <p>Builder for an {@link HttpService} with a tuned HTTP client.</p>
+     * <br>
+     * <p>Options that are not set keep the defaults of OkHttp, i.e., 5 idle connections that are
+     * kept alive for 5 minutes, at most 64 concurrent requests and 5 per host, and 10 second
+     * timeouts.</p>
+     * <br>
+     * <p>Responses are compressed if the node supports it, because OkHttp requests gzip
+     * encoded responses and decodes them transparently. Verbose blocks typically compress by a
+     * factor of 5 to 10, which matters if the node is not on the local network.</p>
+     */
+    public static class Builder {
+
+        /**
+         * The minimum size of a request body in bytes to compress it.
+         */
+        public static final long DEFAULT_MIN_COMPRESSED_REQUEST_SIZE = 1024;
+
+        private final String url;
+        private OkHttpClient httpClient;
+        private ExecutorService executorService;
+        private boolean includeRawResponses = false;
+        private boolean streaming = false;
+        private boolean nonBlocking = false;
+        private int maxIdleConnections = -1;
+        private long keepAliveDuration = -1;
+        private int maxRequests = -1;
+        private int maxRequestsPerHost = -1;
+        private long connectTimeout = -1;
+        private long readTimeout = -1;
+        private long writeTimeout = -1;
+        private boolean http2 = true;
+        private boolean compressResponses = true;
+        private long minCompressedRequestSize = -1;
+
+        /**
+         * Creates a builder for a service that sends requests to the given URL.
+         *
+         * @param url the URL to the HTTP service (JSON-RPC).
+         */
+        public Builder(String url) {
+            this.url = url;
+        }
+
+        /**
+         * Sets the HTTP client on which the client of the service is based. The new client
+         * shares the connection pool and dispatcher of the given client, unless they are
+         * configured on this builder.
+         *
+         * @param httpClient the HTTP client.
+         * @return this builder.
+         */
+        public Builder httpClient(OkHttpClient httpClient) {
+            this.httpClient = httpClient;
+            return this;
+        }
+
+        /**
+         * Sets the executor on which asynchronous requests are run.
+         *
+         * @param executorService the executor.
+         * @return this builder.
+         */
+        public Builder executorService(ExecutorService executorService) {
+            this.executorService = executorService;
+            return this;
+        }
+
+        /**
+         * Sets whether raw responses are included on the {@link Response} objects.
+         *
+         * @param includeRawResponses true to include raw responses.
+         * @return this builder.
+         */
+        public Builder includeRawResponses(boolean includeRawResponses) {
+            this.includeRawResponses = includeRawResponses;
+            return this;
+        }
+
+        /**
+         * Sets whether requests and responses are streamed.
+         *
+         * @param streaming true to enable streaming mode.
+         * @return this builder.
+         * @see HttpService#setStreaming(boolean)
+         */
+        public Builder streaming(boolean streaming) {
+            this.streaming = streaming;
+            return this;
+        }
+
+        /**
+         * Sets whether asynchronous requests are sent without blocking a thread.
+         *
+         * @param nonBlocking true to enable non-blocking mode.
+         * @return this builder.
+         * @see HttpService#setNonBlocking(boolean)
+         */
+        public Builder nonBlocking(boolean nonBlocking) {
+            this.nonBlocking = nonBlocking;
+            return this;
+        }
+
+        /**
+         * Sets the size of the connection pool, i.e., the number of idle connections that are
+         * kept open, and how long they are kept open.
+         *
+         * @param maxIdleConnections the maximum number of idle connections.
+         * @param keepAliveDuration  the time in milliseconds after which an idle connection is
+         *                           closed.
+         * @return this builder.
+         */
+        public Builder connectionPool(int maxIdleConnections, long keepAliveDuration) {
+            this.maxIdleConnections = maxIdleConnections;
+            this.keepAliveDuration = keepAliveDuration;
+            return this;
+        }
+
+        /**
+         * <p>Sets the maximum number of concurrent requests of non-blocking and asynchronous
+         * OkHttp calls. Further calls are queued.</p>
+         * <br>
+         * <p>For blocking requests, the number of concurrent requests is limited by the number
+         * of threads that send them.</p>
+         *
+         * @param maxRequests        the maximum number of concurrent requests.
+         * @param maxRequestsPerHost the maximum number of concurrent requests per host.
+         * @return this builder.
+         * @throws IllegalArgumentException if a maximum is less than 1.
+         */
+        public Builder maxRequests(int maxRequests, int maxRequestsPerHost) {
+            if (maxRequests < 1 || maxRequestsPerHost < 1) {
+                throw new IllegalArgumentException("The maximum number of requests must be at "
+                        + "least 1.");
+            }
+            this.maxRequests = maxRequests;
+            this.maxRequestsPerHost = maxRequestsPerHost;
+            return this;
+        }
+
+        /**
+         * Sets the timeouts of the HTTP client.
+         *
+         * @param connectTimeout the connect timeout in milliseconds.
+         * @param readTimeout    the read timeout in milliseconds.
+         * @param writeTimeout   the write timeout in milliseconds.
+         * @return this builder.
+         */
+        public Builder timeouts(long connectTimeout, long readTimeout, long writeTimeout) {
+            this.connectTimeout = connectTimeout;
+            this.readTimeout = readTimeout;
+            this.writeTimeout = writeTimeout;
+            return this;
+        }
+
+        /**
+         * <p>Sets whether HTTP/2 is used if the server supports it. Enabled by default.</p>
+         * <br>
+         * <p>With HTTP/2, all requests to a host are multiplexed over a single connection.
+         * HTTP/2 is negotiated during the TLS handshake, so it is only used for HTTPS URLs.
+         * Unencrypted HTTP/2 (h2c) is not supported by the HTTP client. Connections to HTTP URLs
+         * use HTTP/1.1 and a pool of connections.</p>
+         *
+         * @param http2 true to enable HTTP/2.
+         * @return this builder.
+         */
+        public Builder http2(boolean http2) {
+            this.http2 = http2;
+            return this;
+        }
+
+        /**
+         * Sets whether compressed responses are requested. Enabled by default.
+         *
+         * @param compressResponses true to request gzip encoded responses.
+         * @return this builder.
+         */
+        public Builder compressResponses(boolean compressResponses) {
+            this.compressResponses = compressResponses;
+            return this;
+        }
+
+        /**
+         * <p>Enables gzip compression of request bodies that are at least
+         * {@link #DEFAULT_MIN_COMPRESSED_REQUEST_SIZE} bytes large.</p>
+         * <br>
+         * <p>Only enable this if the node or a proxy in front of it accepts gzip encoded
+         * requests.</p>
+         *
+         * @return this builder.
+         */
+        public Builder compressRequests() {
+            return compressRequests(DEFAULT_MIN_COMPRESSED_REQUEST_SIZE);
+        }
+
+        /**
+         * <p>Enables gzip compression of request bodies that are at least the given size.
+         * Streamed request bodies are always compressed, because their size is not known in
+         * advance.</p>
+         * <br>
+         * <p>Only enable this if the node or a proxy in front of it accepts gzip encoded
+         * requests.</p>
+         *
+         * @param minSize the minimum size of a request body in bytes to compress it.
+         * @return this builder.
+         */
+        public Builder compressRequests(long minSize) {
+            this.minCompressedRequestSize = minSize;
+            return this;
+        }
+
+        /**
+         * Builds the service.
+         *
+         * @return the service.
+         */
+        public HttpService build() {
+            HttpService httpService = new HttpService(url, buildHttpClient(), executorService,
+                    includeRawResponses);
+            httpService.setStreaming(streaming);
+            httpService.setNonBlocking(nonBlocking);
+            if (!compressResponses) {
+                // OkHttp only requests gzip encoded responses if no encoding is set.
+                httpService.addHeader("Accept-Encoding", "identity");
+            }
+            return httpService;
+        }
+
+        private OkHttpClient buildHttpClient() {
+            OkHttpClient.Builder builder;
+            if (httpClient != null) {
+                builder = httpClient.newBuilder();
+            } else {
+                builder = new OkHttpClient.Builder();
+                configureLogging(builder);
+            }
+            if (maxIdleConnections >= 0) {
+                builder.connectionPool(new ConnectionPool(maxIdleConnections, keepAliveDuration,
+                        TimeUnit.MILLISECONDS));
+            }
+            if (maxRequests > 0) {
+                Dispatcher dispatcher = new Dispatcher();
+                dispatcher.setMaxRequests(maxRequests);
+                dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+                builder.dispatcher(dispatcher);
+            }
+            if (connectTimeout >= 0) {
+                builder.connectTimeout(connectTimeout, TimeUnit.MILLISECONDS)
+                        .readTimeout(readTimeout, TimeUnit.MILLISECONDS)
+                        .writeTimeout(writeTimeout, TimeUnit.MILLISECONDS);
+            }
+            builder.protocols(http2
+                    ? Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1)
+                    : Arrays.asList(Protocol.HTTP_1_1));
+            if (minCompressedRequestSize >= 0) {
+                builder.addInterceptor(new GzipRequestInterceptor(minCompressedRequestSize));
+            }
+            return builder.build();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ResponseReader<T> {
+        T read(InputStream result) throws IOException;
+    }
 }
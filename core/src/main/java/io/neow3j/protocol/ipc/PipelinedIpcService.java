@@ -0,0 +1,374 @@
+package io.neow3j.protocol.ipc;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.ObjectMapperFactory;
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.notifications.Notification;
+import io.reactivex.Observable;
+import jnr.unixsocket.UnixSocketAddress;
+import jnr.unixsocket.UnixSocketChannel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * <p>IPC implementation of the Service API that keeps one connection open and sends all requests
+ * over it.</p>
+ * <br>
+ * <p>Messages are JSON objects or arrays separated by newlines. Each request is serialized into
+ * a byte array and then written to the socket through a reused direct {@link ByteBuffer}.
+ * Replies are parsed from the bytes read from the socket without decoding them into Strings
+ * first.</p>
+ * <br>
+ * <p>Any number of requests can be in flight at the same time. A single reader thread matches
+ * the replies to their requests by id, so {@link #sendAsync(Request, Class)} does not block a
+ * thread while waiting for the reply. Requests that are not replied to within
+ * {@value #REQUEST_TIMEOUT} seconds fail with an {@link IOException}.</p>
+ */
+public class PipelinedIpcService implements Neow3jService {
+
+    private static final Logger log = LoggerFactory.getLogger(PipelinedIpcService.class);
+
+    static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    // Timeout for JSON-RPC requests in seconds
+    static final long REQUEST_TIMEOUT = 60;
+
+    private static final byte DELIMITER = '\n';
+
+    private final ReadableByteChannel readChannel;
+    private final WritableByteChannel writeChannel;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter objectWriter;
+    private final boolean includeRawResponses;
+
+    private final ByteBuffer readBuffer;
+    private final ByteBufferChannelOutputStream output;
+    private final ScheduledThreadPoolExecutor timeoutExecutor;
+    private long requestTimeout = TimeUnit.SECONDS.toMillis(REQUEST_TIMEOUT);
+
+    // Requests that are waiting for a reply by request id
+    private final Map<Long, IpcRequest<?>> requestForId = new ConcurrentHashMap<>();
+
+    // The bytes of the message that is currently read
+    private byte[] message;
+    private int messageLength = 0;
+
+    private volatile boolean closed = false;
+
+    /**
+     * Create a {@link PipelinedIpcService} instance connected to the given Unix domain socket.
+     *
+     * @param ipcSocketPath       the path of the socket file.
+     * @param includeRawResponses option to include or not raw responses on the {@link Response}
+     *                            object.
+     */
+    public PipelinedIpcService(String ipcSocketPath, boolean includeRawResponses) {
+        this(openChannel(ipcSocketPath), includeRawResponses);
+    }
+
+    /**
+     * Create a {@link PipelinedIpcService} instance.
+     *
+     * @param channel             the connected channel to send requests over.
+     * @param includeRawResponses option to include or not raw responses on the {@link Response}
+     *                            object.
+     */
+    public PipelinedIpcService(ByteChannel channel, boolean includeRawResponses) {
+        this(channel, channel, includeRawResponses, DEFAULT_BUFFER_SIZE);
+    }
+
+    PipelinedIpcService(ReadableByteChannel readChannel, WritableByteChannel writeChannel,
+            boolean includeRawResponses, int bufferSize) {
+        this.readChannel = readChannel;
+        this.writeChannel = writeChannel;
+        this.objectMapper = ObjectMapperFactory.getObjectMapper(includeRawResponses);
+        this.objectWriter = objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        this.includeRawResponses = includeRawResponses;
+        this.readBuffer = ByteBuffer.allocateDirect(bufferSize);
+        this.output = new ByteBufferChannelOutputStream(
+                writeChannel, ByteBuffer.allocateDirect(bufferSize));
+        this.message = new byte[bufferSize];
+        this.timeoutExecutor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "neow3j-ipc-timeouts");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Remove the timeouts of completed requests from the queue right away.
+        this.timeoutExecutor.setRemoveOnCancelPolicy(true);
+
+        Thread reader = new Thread(this::readMessages, "neow3j-ipc-reader");
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType)
+            throws IOException {
+        return waitFor(sendAsync(request, responseType),
+                Collections.singletonList(request.getId()));
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(Request request,
+            Class<T> responseType) {
+
+        CompletableFuture<T> result = registerRequest(request.getId(), responseType);
+        try {
+            sendPayload(request);
+        } catch (IOException e) {
+            closeRequest(request.getId(), e);
+        }
+        return result;
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        return waitFor(sendBatchAsync(batchRequest), batchRequest.getRequests().stream()
+                .map(Request::getId)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        List<Request<?, ? extends Response<?>>> requests = batchRequest.getRequests();
+        if (requests.isEmpty()) {
+            return CompletableFuture.completedFuture(
+                    new BatchResponse(Collections.emptyList(), Collections.emptyList()));
+        }
+
+        List<CompletableFuture<? extends Response<?>>> replies = new ArrayList<>();
+        for (Request<?, ? extends Response<?>> request : requests) {
+            replies.add(registerRequest(request.getId(), request.getResponseType()));
+        }
+        try {
+            sendPayload(requests);
+        } catch (IOException e) {
+            requests.forEach(r -> closeRequest(r.getId(), e));
+        }
+        return CompletableFuture.allOf(replies.toArray(new CompletableFuture<?>[0]))
+                .thenApply(v -> new BatchResponse(requests, replies.stream()
+                        .map(CompletableFuture::join)
+                        .collect(Collectors.toList())));
+    }
+
+    @Override
+    public <T extends Notification<?>> Observable<T> subscribe(Request request,
+            String unsubscribeMethod, Class<T> responseType) {
+        throw new UnsupportedOperationException(
+                String.format("Service %s does not support subscriptions",
+                        this.getClass().getSimpleName()));
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        try {
+            readChannel.close();
+        } finally {
+            writeChannel.close();
+            failPendingRequests(new IOException("IPC connection was closed"));
+            timeoutExecutor.shutdownNow();
+        }
+    }
+
+    // Sets the time after which requests fail if they are not replied to. Used in tests.
+    void setRequestTimeout(long requestTimeout) {
+        this.requestTimeout = requestTimeout;
+    }
+
+    // The number of requests that wait for a reply. Used in tests.
+    int getPendingRequestCount() {
+        return requestForId.size();
+    }
+
+    private void sendPayload(Object request) throws IOException {
+        // Serialized before writing, such that a failing serialization does not leave partial
+        // JSON in the shared output.
+        byte[] payload = objectWriter.writeValueAsBytes(request);
+        synchronized (output) {
+            output.write(payload);
+            output.write(DELIMITER);
+            output.flush();
+        }
+    }
+
+    private void readMessages() {
+        try {
+            while (!closed && readChannel.read(readBuffer) >= 0) {
+                readBuffer.flip();
+                for (int i = readBuffer.position(); i < readBuffer.limit(); i++) {
+                    if (readBuffer.get(i) == DELIMITER) {
+                        appendToMessage(i - readBuffer.position());
+                        // Skip the delimiter
+                        readBuffer.get();
+                        processMessage();
+                        messageLength = 0;
+                    }
+                }
+                appendToMessage(readBuffer.remaining());
+                readBuffer.clear();
+            }
+            failPendingRequests(new IOException("IPC connection was closed"));
+        } catch (IOException e) {
+            if (!closed) {
+                log.error("Failed to read from IPC connection", e);
+            }
+            failPendingRequests(new IOException("IPC connection was closed", e));
+        }
+    }
+
+    private void appendToMessage(int length) {
+        if (messageLength + length > message.length) {
+            message = Arrays.copyOf(message, Math.max(message.length * 2,
+                    messageLength + length));
+        }
+        readBuffer.get(message, messageLength, length);
+        messageLength += length;
+    }
+
+    private void processMessage() {
+        JsonNode messageJson;
+        try (JsonParser parser = objectMapper.getFactory()
+                .createParser(message, 0, messageLength)) {
+            messageJson = objectMapper.readTree(parser);
+        } catch (IOException e) {
+            log.error("Received invalid message over IPC connection", e);
+            return;
+        }
+        if (messageJson == null) {
+            // Blank line
+            return;
+        }
+        if (messageJson.isArray()) {
+            // Reply to a batch request
+            for (JsonNode reply : messageJson) {
+                processReply(reply, includeRawResponses ? reply.toString() : null);
+            }
+        } else {
+            processReply(messageJson, includeRawResponses
+                    ? new String(message, 0, messageLength, StandardCharsets.UTF_8).trim()
+                    : null);
+        }
+    }
+
+    private void processReply(JsonNode replyJson, String rawReply) {
+        long replyId = replyJson.path("id").asLong(-1);
+        IpcRequest<?> request = requestForId.remove(replyId);
+        if (request == null) {
+            log.warn("Received reply for unexpected request id: {}", replyId);
+            return;
+        }
+        completeRequest(request, replyJson, rawReply);
+    }
+
+    private <T> void completeRequest(IpcRequest<T> request, JsonNode replyJson,
+            String rawReply) {
+        try {
+            T reply = objectMapper.treeToValue(replyJson, request.getResponseType());
+            if (rawReply != null && reply instanceof Response) {
+                ((Response<?>) reply).setRawResponse(rawReply);
+            }
+            request.getOnReply().complete(reply);
+        } catch (IOException e) {
+            request.getOnReply().completeExceptionally(e);
+        }
+    }
+
+    private <T> CompletableFuture<T> registerRequest(long requestId, Class<T> responseType) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        if (closed) {
+            result.completeExceptionally(new IOException("IPC connection was closed"));
+        } else {
+            IpcRequest<T> request = new IpcRequest<>(result, responseType);
+            requestForId.put(requestId, request);
+            ScheduledFuture<?> timeout;
+            try {
+                timeout = timeoutExecutor.schedule(
+                        () -> closeRequest(requestId, new IOException(
+                                String.format("IPC request with id %d timed out", requestId))),
+                        requestTimeout, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                // The service was closed concurrently.
+                closeRequest(requestId, new IOException("IPC connection was closed"));
+                return result;
+            }
+            // Also reached if the caller cancels the request.
+            result.whenComplete((reply, error) -> {
+                timeout.cancel(false);
+                requestForId.remove(requestId, request);
+            });
+        }
+        return result;
+    }
+
+    private void closeRequest(long requestId, Exception e) {
+        IpcRequest<?> request = requestForId.remove(requestId);
+        if (request != null) {
+            request.getOnReply().completeExceptionally(e);
+        }
+    }
+
+    private void failPendingRequests(IOException e) {
+        closed = true;
+        requestForId.keySet().forEach(id -> closeRequest(id, e));
+    }
+
+    private <T> T waitFor(CompletableFuture<T> future, List<Long> requestIds)
+            throws IOException {
+        try {
+            return future.get(requestTimeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted IPC request", e);
+        } catch (TimeoutException e) {
+            IOException timeout = new IOException("IPC request timed out", e);
+            requestIds.forEach(id -> closeRequest(id, timeout));
+            throw timeout;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new RuntimeException("Unexpected exception", e.getCause());
+        }
+    }
+
+    private static UnixSocketChannel openChannel(String ipcSocketPath) {
+        try {
+            return UnixSocketChannel.open(new UnixSocketAddress(ipcSocketPath));
+        } catch (IOException e) {
+            throw new RuntimeException(
+                    "Provided file socket cannot be opened: " + ipcSocketPath, e);
+        }
+    }
+}
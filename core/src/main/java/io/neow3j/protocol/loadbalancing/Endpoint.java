@@ -0,0 +1,98 @@
+package io.neow3j.protocol.loadbalancing;
+
+import io.neow3j.protocol.Neow3jService;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A node endpoint of a {@link LoadBalancingService}.
+ * <p>
+ * Keeps track of the endpoint's in-flight requests, its latency, the block count it reported
+ * last and the state of its circuit breaker.
+ */
+public class Endpoint {
+
+    // Weight of the newest sample in the exponentially weighted moving average of the latency.
+    private static final double LATENCY_SMOOTHING = 0.2;
+
+    private final Neow3jService service;
+    private final AtomicInteger outstandingRequests = new AtomicInteger();
+
+    private double latency = -1;
+    private long blockCount = -1;
+    private int consecutiveFailures = 0;
+    private long openUntil = 0;
+
+    Endpoint(Neow3jService service) {
+        this.service = service;
+    }
+
+    public Neow3jService getService() {
+        return service;
+    }
+
+    /**
+     * @return the number of requests that are currently in flight on this endpoint.
+     */
+    public int getOutstandingRequests() {
+        return outstandingRequests.get();
+    }
+
+    /**
+     * @return the smoothed latency of this endpoint in milliseconds or -1 if no request has
+     * completed yet.
+     */
+    public synchronized double getLatency() {
+        return latency;
+    }
+
+    /**
+     * @return the block count this endpoint reported last or -1 if it is not known yet.
+     */
+    public synchronized long getBlockCount() {
+        return blockCount;
+    }
+
+    /**
+     * Checks if the circuit breaker of this endpoint lets requests pass.
+     *
+     * @param now the current time in milliseconds.
+     * @return true if requests can be sent to this endpoint.
+     */
+    public synchronized boolean isAvailable(long now) {
+        return now >= openUntil;
+    }
+
+    void requestStarted() {
+        outstandingRequests.incrementAndGet();
+    }
+
+    void requestFinished() {
+        outstandingRequests.decrementAndGet();
+    }
+
+    synchronized void recordSuccess(long latencyMillis) {
+        consecutiveFailures = 0;
+        openUntil = 0;
+        if (latency < 0) {
+            latency = latencyMillis;
+        } else {
+            latency = LATENCY_SMOOTHING * latencyMillis + (1 - LATENCY_SMOOTHING) * latency;
+        }
+    }
+
+    /**
+     * Records a failed request and opens the circuit breaker if the failure threshold is
+     * reached.
+     */
+    synchronized void recordFailure(long now, int failureThreshold, long openDuration) {
+        consecutiveFailures++;
+        if (consecutiveFailures >= failureThreshold) {
+            openUntil = now + openDuration;
+        }
+    }
+
+    synchronized void setBlockCount(long blockCount) {
+        this.blockCount = blockCount;
+    }
+}
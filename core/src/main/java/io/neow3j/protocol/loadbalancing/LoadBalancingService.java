@@ -0,0 +1,302 @@
+package io.neow3j.protocol.loadbalancing;
+
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.core.methods.response.NeoBlockCount;
+import io.neow3j.protocol.exceptions.ClientConnectionException;
+import io.neow3j.protocol.notifications.Notification;
+import io.neow3j.utils.Async;
+import io.reactivex.Observable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * <p>A service that spreads requests over multiple nodes.</p>
+ * <br>
+ * <p>Each request is routed to one of the endpoints by a {@link RoutingStrategy}. Endpoints
+ * that fail repeatedly are taken out of the rotation for a while (circuit breaking). Requests
+ * that only read data are retried on another endpoint if sending them fails.</p>
+ * <br>
+ * <p>The block count of every endpoint is polled periodically. Requests are only routed to
+ * endpoints that are not lagging behind the highest block count reported by a healthy
+ * endpoint.</p>
+ * <br>
+ * <p>Wallet methods depend on the wallet opened on a specific node. They are therefore always
+ * sent to the first endpoint.</p>
+ */
+public class LoadBalancingService implements Neow3jService {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadBalancingService.class);
+
+    public static final long DEFAULT_HEALTH_CHECK_INTERVAL = 5 * 1000;
+    public static final int DEFAULT_FAILURE_THRESHOLD = 3;
+    public static final long DEFAULT_OPEN_CIRCUIT_DURATION = 30 * 1000;
+
+    // Methods that depend on the wallet opened on a node.
+    private static final Set<String> WALLET_METHODS = new HashSet<>(Arrays.asList(
+            "closewallet", "dumpprivkey", "getwalletbalance", "getnewaddress",
+            "getwalletunclaimedgas", "importprivkey", "listaddress", "openwallet", "sendfrom",
+            "sendmany", "sendtoaddress"));
+
+    private final List<Endpoint> endpoints;
+    private final RoutingStrategy routingStrategy;
+    private final ScheduledExecutorService executorService;
+    private final boolean ownsExecutorService;
+    private ScheduledFuture<?> healthCheck;
+
+    private int failureThreshold = DEFAULT_FAILURE_THRESHOLD;
+    private long openCircuitDuration = DEFAULT_OPEN_CIRCUIT_DURATION;
+    private long maxBlockLag = 0;
+
+    /**
+     * <p>Create a {@link LoadBalancingService} instance.</p>
+     * <br>
+     * <p>The block count of the endpoints is polled every
+     * {@link #DEFAULT_HEALTH_CHECK_INTERVAL} milliseconds on an internal executor.</p>
+     *
+     * @param services        the services of the nodes to send requests to.
+     * @param routingStrategy the strategy to choose an endpoint for a request.
+     */
+    public LoadBalancingService(List<? extends Neow3jService> services,
+            RoutingStrategy routingStrategy) {
+        this(services, routingStrategy, Async.defaultExecutorService(),
+                DEFAULT_HEALTH_CHECK_INTERVAL, true);
+    }
+
+    /**
+     * Create a {@link LoadBalancingService} instance.
+     *
+     * @param services            the services of the nodes to send requests to.
+     * @param routingStrategy     the strategy to choose an endpoint for a request.
+     * @param executorService     the executor on which the block count of the endpoints is
+     *                            polled.
+     * @param healthCheckInterval the polling interval in milliseconds. If it is 0 or less, the
+     *                            block counts are not polled.
+     */
+    public LoadBalancingService(List<? extends Neow3jService> services,
+            RoutingStrategy routingStrategy, ScheduledExecutorService executorService,
+            long healthCheckInterval) {
+        this(services, routingStrategy, executorService, healthCheckInterval, false);
+    }
+
+    private LoadBalancingService(List<? extends Neow3jService> services,
+            RoutingStrategy routingStrategy, ScheduledExecutorService executorService,
+            long healthCheckInterval, boolean ownsExecutorService) {
+
+        if (services.isEmpty()) {
+            throw new IllegalArgumentException("At least one service is required.");
+        }
+        this.endpoints = Collections.unmodifiableList(
+                services.stream().map(Endpoint::new).collect(Collectors.toList()));
+        this.routingStrategy = routingStrategy;
+        this.executorService = executorService;
+        this.ownsExecutorService = ownsExecutorService;
+        if (healthCheckInterval > 0) {
+            this.healthCheck = executorService.scheduleWithFixedDelay(this::checkHealth,
+                    0, healthCheckInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Sets the number of consecutive failures after which an endpoint is taken out of the
+     * rotation.
+     *
+     * @param failureThreshold the number of failures.
+     */
+    public void setFailureThreshold(int failureThreshold) {
+        this.failureThreshold = failureThreshold;
+    }
+
+    /**
+     * Sets how long an endpoint is taken out of the rotation after it failed too often.
+     *
+     * @param openCircuitDuration the duration in milliseconds.
+     */
+    public void setOpenCircuitDuration(long openCircuitDuration) {
+        this.openCircuitDuration = openCircuitDuration;
+    }
+
+    /**
+     * Sets by how many blocks an endpoint may lag behind the highest known block count and
+     * still receive requests. Defaults to 0.
+     *
+     * @param maxBlockLag the number of blocks.
+     */
+    public void setMaxBlockLag(long maxBlockLag) {
+        this.maxBlockLag = maxBlockLag;
+    }
+
+    public List<Endpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType)
+            throws IOException {
+
+        String method = request.getMethod();
+        if (WALLET_METHODS.contains(method)) {
+            return sendTo(endpoints.get(0), () ->
+                    endpoints.get(0).getService().send(request, responseType));
+        }
+        // Requests that change state must not be sent twice.
+        return sendWithFailover(!request.isStateChanging(),
+                endpoint -> endpoint.getService().send(request, responseType));
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(Request request,
+            Class<T> responseType) {
+        return Async.run(() -> send(request, responseType));
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        boolean retryable = batchRequest.getRequests().stream()
+                .noneMatch(Request::isStateChanging);
+        return sendWithFailover(retryable,
+                endpoint -> endpoint.getService().sendBatch(batchRequest));
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        return Async.run(() -> sendBatch(batchRequest));
+    }
+
+    @Override
+    public <T extends Notification<?>> Observable<T> subscribe(Request request,
+            String unsubscribeMethod, Class<T> responseType) {
+        Endpoint endpoint = selectEndpoint(Collections.emptySet());
+        if (endpoint == null) {
+            return Observable.error(new IOException("No healthy endpoint available."));
+        }
+        return endpoint.getService().subscribe(request, unsubscribeMethod, responseType);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (healthCheck != null) {
+            healthCheck.cancel(false);
+        }
+        if (ownsExecutorService) {
+            executorService.shutdown();
+        }
+        for (Endpoint endpoint : endpoints) {
+            endpoint.getService().close();
+        }
+    }
+
+    private <T> T sendWithFailover(boolean retryable, EndpointCall<T> call) throws IOException {
+        Set<Endpoint> tried = new HashSet<>();
+        RuntimeException lastRuntimeError = null;
+        IOException lastError = null;
+        Endpoint endpoint;
+        while ((endpoint = selectEndpoint(tried)) != null) {
+            tried.add(endpoint);
+            Endpoint selected = endpoint;
+            try {
+                return sendTo(selected, () -> call.send(selected));
+            } catch (IOException e) {
+                lastError = e;
+                lastRuntimeError = null;
+            } catch (ClientConnectionException e) {
+                lastRuntimeError = e;
+                lastError = null;
+            }
+            if (!retryable) {
+                break;
+            }
+            log.warn("Request to endpoint failed, trying next endpoint.");
+        }
+        if (lastRuntimeError != null) {
+            throw lastRuntimeError;
+        }
+        if (lastError != null) {
+            throw lastError;
+        }
+        throw new IOException("No healthy endpoint available.");
+    }
+
+    private <T> T sendTo(Endpoint endpoint, IOCall<T> call) throws IOException {
+        endpoint.requestStarted();
+        long start = System.currentTimeMillis();
+        try {
+            T result = call.send();
+            endpoint.recordSuccess(System.currentTimeMillis() - start);
+            return result;
+        } catch (IOException | ClientConnectionException e) {
+            endpoint.recordFailure(System.currentTimeMillis(), failureThreshold,
+                    openCircuitDuration);
+            throw e;
+        } finally {
+            endpoint.requestFinished();
+        }
+    }
+
+    private Endpoint selectEndpoint(Set<Endpoint> excluded) {
+        long now = System.currentTimeMillis();
+        List<Endpoint> healthy = endpoints.stream()
+                .filter(e -> e.isAvailable(now))
+                .collect(Collectors.toList());
+        long highestBlockCount = healthy.stream()
+                .mapToLong(Endpoint::getBlockCount)
+                .max().orElse(-1);
+        List<Endpoint> candidates = new ArrayList<>();
+        for (Endpoint endpoint : healthy) {
+            long blockCount = endpoint.getBlockCount();
+            boolean lagging = blockCount >= 0 && blockCount + maxBlockLag < highestBlockCount;
+            if (!lagging && !excluded.contains(endpoint)) {
+                candidates.add(endpoint);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        return routingStrategy.select(candidates);
+    }
+
+    void checkHealth() {
+        for (Endpoint endpoint : endpoints) {
+            Neow3jService service = endpoint.getService();
+            Request<?, NeoBlockCount> request = new Request<>(
+                    "getblockcount",
+                    Collections.emptyList(),
+                    service,
+                    NeoBlockCount.class);
+            try {
+                NeoBlockCount blockCount = sendTo(endpoint, request::send);
+                if (blockCount != null && !blockCount.hasError()) {
+                    endpoint.setBlockCount(blockCount.getBlockIndex().longValue());
+                }
+            } catch (IOException | RuntimeException e) {
+                log.debug("Health check of endpoint failed.", e);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface EndpointCall<T> {
+        T send(Endpoint endpoint) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface IOCall<T> {
+        T send() throws IOException;
+    }
+}
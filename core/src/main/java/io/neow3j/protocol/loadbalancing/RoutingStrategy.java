@@ -0,0 +1,77 @@
+package io.neow3j.protocol.loadbalancing;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Strategy that decides to which endpoint a {@link LoadBalancingService} sends a request.
+ */
+public interface RoutingStrategy {
+
+    /**
+     * Selects the endpoint for the next request.
+     *
+     * @param candidates the endpoints that are healthy and not lagging behind. Never empty.
+     * @return the selected endpoint.
+     */
+    Endpoint select(List<Endpoint> candidates);
+
+    /**
+     * Creates a strategy that selects the endpoints in turn.
+     *
+     * @return the strategy.
+     */
+    static RoutingStrategy roundRobin() {
+        AtomicInteger next = new AtomicInteger();
+        return candidates -> candidates.get(
+                Math.floorMod(next.getAndIncrement(), candidates.size()));
+    }
+
+    /**
+     * Creates a strategy that selects the endpoint with the fewest requests in flight.
+     *
+     * @return the strategy.
+     */
+    static RoutingStrategy leastOutstandingRequests() {
+        return candidates -> {
+            Endpoint selected = candidates.get(0);
+            for (Endpoint endpoint : candidates) {
+                if (endpoint.getOutstandingRequests() < selected.getOutstandingRequests()) {
+                    selected = endpoint;
+                }
+            }
+            return selected;
+        };
+    }
+
+    /**
+     * Creates a strategy that selects endpoints randomly, weighted by the inverse of their
+     * latency. Endpoints without any latency measurement are preferred, so that they get
+     * measured.
+     *
+     * @return the strategy.
+     */
+    static RoutingStrategy latencyWeighted() {
+        return candidates -> {
+            double[] weights = new double[candidates.size()];
+            double total = 0;
+            for (int i = 0; i < candidates.size(); i++) {
+                double latency = candidates.get(i).getLatency();
+                if (latency < 0) {
+                    return candidates.get(i);
+                }
+                weights[i] = 1 / Math.max(latency, 1);
+                total += weights[i];
+            }
+            double r = ThreadLocalRandom.current().nextDouble(total);
+            for (int i = 0; i < weights.length; i++) {
+                r -= weights[i];
+                if (r < 0) {
+                    return candidates.get(i);
+                }
+            }
+            return candidates.get(candidates.size() - 1);
+        };
+    }
+}
@@ -0,0 +1,58 @@
+package io.neow3j.protocol.metrics;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>A {@link RequestListener} that aggregates the metrics of all requests in memory, per
+ * JSON-RPC method.</p>
+ * <br>
+ * <p>To export the metrics to a monitoring system, either read them periodically from this
+ * class or implement a {@link RequestListener} that passes every {@link RequestMetrics} to the
+ * metrics library of the application.</p>
+ */
+public class InMemoryMetrics implements RequestListener {
+
+    private final Map<String, MethodMetrics> metricsByMethod = new ConcurrentHashMap<>();
+
+    @Override
+    public void onRequestStarted(String method) {
+        getOrCreate(method).requestStarted();
+    }
+
+    @Override
+    public void onRequestCompleted(RequestMetrics metrics) {
+        getOrCreate(metrics.getMethod()).requestCompleted(metrics);
+    }
+
+    /**
+     * Gets the metrics of a JSON-RPC method.
+     *
+     * @param method the method, or {@link RequestMetrics#BATCH_METHOD} for batch requests.
+     * @return the metrics, or null if no request of the method was sent.
+     */
+    public MethodMetrics getMethodMetrics(String method) {
+        return metricsByMethod.get(method);
+    }
+
+    /**
+     * @return the metrics of all methods for which requests were sent, by method.
+     */
+    public Map<String, MethodMetrics> getAllMethodMetrics() {
+        return Collections.unmodifiableMap(new HashMap<>(metricsByMethod));
+    }
+
+    /**
+     * @return the number of requests of all methods that are currently in flight.
+     */
+    public int getInFlightCount() {
+        return metricsByMethod.values().stream().mapToInt(MethodMetrics::getInFlightCount).sum();
+    }
+
+    private MethodMetrics getOrCreate(String method) {
+        return metricsByMethod.computeIfAbsent(method, m -> new MethodMetrics());
+    }
+
+}
@@ -0,0 +1,75 @@
+package io.neow3j.protocol.metrics;
+
+/**
+ * <p>A histogram of latencies with exponentially growing buckets.</p>
+ * <br>
+ * <p>Bucket {@code i} counts the latencies from 2<sup>i-1</sup> up to 2<sup>i</sup>
+ * microseconds. Percentiles are therefore approximated by the upper bound of the bucket they
+ * fall in, which is at most twice the exact value.</p>
+ */
+public class LatencyHistogram {
+
+    private static final int BUCKET_COUNT = 48;
+
+    private final long[] buckets = new long[BUCKET_COUNT];
+    private long count = 0;
+    private long sum = 0;
+    private long max = 0;
+
+    /**
+     * Adds a latency to this histogram.
+     *
+     * @param latency the latency in nanoseconds.
+     */
+    public synchronized void record(long latency) {
+        long micros = Math.max(0, latency) / 1000;
+        int bucket = Math.min(BUCKET_COUNT - 1, 64 - Long.numberOfLeadingZeros(micros));
+        buckets[bucket]++;
+        count++;
+        sum += latency;
+        max = Math.max(max, latency);
+    }
+
+    /**
+     * @return the number of recorded latencies.
+     */
+    public synchronized long getCount() {
+        return count;
+    }
+
+    /**
+     * @return the mean latency in nanoseconds, or 0 if no latency was recorded.
+     */
+    public synchronized long getMean() {
+        return count == 0 ? 0 : sum / count;
+    }
+
+    /**
+     * @return the maximum latency in nanoseconds.
+     */
+    public synchronized long getMax() {
+        return max;
+    }
+
+    /**
+     * Gets an approximation of a percentile of the recorded latencies.
+     *
+     * @param percentile the percentile between 0 and 100.
+     * @return the latency in nanoseconds, or 0 if no latency was recorded.
+     */
+    public synchronized long getPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("The percentile must be between 0 and 100.");
+        }
+        long rank = (long) Math.ceil(percentile / 100 * count);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets[i];
+            if (seen >= rank && seen > 0) {
+                return Math.min(max, (1L << i) * 1000);
+            }
+        }
+        return 0;
+    }
+
+}
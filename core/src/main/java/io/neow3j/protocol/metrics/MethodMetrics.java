@@ -0,0 +1,130 @@
+package io.neow3j.protocol.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The aggregated metrics of all requests of one JSON-RPC method.
+ */
+public class MethodMetrics {
+
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    private long requestCount = 0;
+    private long failureCount = 0;
+    private long errorResponseCount = 0;
+    private long requestBytes = 0;
+    private long responseBytes = 0;
+    private long serializationTime = 0;
+    private long networkTime = 0;
+    private long deserializationTime = 0;
+    private final Map<Integer, Long> errorCodeCounts = new HashMap<>();
+
+    MethodMetrics() {
+    }
+
+    void requestStarted() {
+        inFlightCount.incrementAndGet();
+    }
+
+    synchronized void requestCompleted(RequestMetrics metrics) {
+        inFlightCount.decrementAndGet();
+        latency.record(metrics.getTotalTime());
+        requestCount++;
+        if (metrics.getFailure() != null) {
+            failureCount++;
+        }
+        if (!metrics.getErrorCodes().isEmpty()) {
+            errorResponseCount++;
+        }
+        for (Integer code : metrics.getErrorCodes()) {
+            errorCodeCounts.merge(code, 1L, Long::sum);
+        }
+        requestBytes += Math.max(0, metrics.getRequestSize());
+        responseBytes += Math.max(0, metrics.getResponseSize());
+        serializationTime += Math.max(0, metrics.getSerializationTime());
+        networkTime += Math.max(0, metrics.getNetworkTime());
+        deserializationTime += Math.max(0, metrics.getDeserializationTime());
+    }
+
+    /**
+     * @return the number of requests that are currently in flight.
+     */
+    public int getInFlightCount() {
+        return inFlightCount.get();
+    }
+
+    /**
+     * @return the histogram of the total time of the completed requests.
+     */
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    /**
+     * @return the number of completed requests, including failed ones.
+     */
+    public synchronized long getRequestCount() {
+        return requestCount;
+    }
+
+    /**
+     * @return the number of requests that failed without response, e.g., because of a
+     * connection error.
+     */
+    public synchronized long getFailureCount() {
+        return failureCount;
+    }
+
+    /**
+     * @return the number of responses that contained an error.
+     */
+    public synchronized long getErrorResponseCount() {
+        return errorResponseCount;
+    }
+
+    /**
+     * @return how often each error code was received.
+     */
+    public synchronized Map<Integer, Long> getErrorCodeCounts() {
+        return new HashMap<>(errorCodeCounts);
+    }
+
+    /**
+     * @return the total size of all requests in bytes.
+     */
+    public synchronized long getRequestBytes() {
+        return requestBytes;
+    }
+
+    /**
+     * @return the total size of all responses in bytes.
+     */
+    public synchronized long getResponseBytes() {
+        return responseBytes;
+    }
+
+    /**
+     * @return the total serialization time of all requests in nanoseconds.
+     */
+    public synchronized long getSerializationTime() {
+        return serializationTime;
+    }
+
+    /**
+     * @return the total network time of all requests in nanoseconds.
+     */
+    public synchronized long getNetworkTime() {
+        return networkTime;
+    }
+
+    /**
+     * @return the total deserialization time of all requests in nanoseconds.
+     */
+    public synchronized long getDeserializationTime() {
+        return deserializationTime;
+    }
+
+}
@@ -0,0 +1,32 @@
+package io.neow3j.protocol.metrics;
+
+import io.neow3j.protocol.Service;
+
+/**
+ * <p>Listener for the requests sent by a {@link Service}.</p>
+ * <br>
+ * <p>Listeners are called on the thread that sends the request or processes its response and
+ * should therefore return quickly. Exceptions thrown by a listener are logged and do not affect
+ * the request.</p>
+ *
+ * @see Service#addRequestListener(RequestListener)
+ */
+public interface RequestListener {
+
+    /**
+     * Is called before a request is serialized and sent.
+     *
+     * @param method the JSON-RPC method of the request, or {@link RequestMetrics#BATCH_METHOD}
+     *               for a batch request.
+     */
+    default void onRequestStarted(String method) {
+    }
+
+    /**
+     * Is called after the response to a request was deserialized or the request failed.
+     *
+     * @param metrics the metrics of the request.
+     */
+    void onRequestCompleted(RequestMetrics metrics);
+
+}
@@ -0,0 +1,131 @@
+package io.neow3j.protocol.metrics;
+
+import io.neow3j.protocol.core.Response;
+
+import java.util.List;
+
+/**
+ * <p>The metrics of a single request.</p>
+ * <br>
+ * <p>The total time of a request is split into three phases. The serialization time ends when
+ * the request is written. The network time ends when the response starts to be received, e.g.,
+ * when the HTTP headers arrived. The deserialization time ends when the response is
+ * deserialized. If the request is streamed, the serialization time includes writing the
+ * request to the connection, and the deserialization time includes reading the response from
+ * the connection.</p>
+ */
+public class RequestMetrics {
+
+    /**
+     * The method name used for batch requests.
+     */
+    public static final String BATCH_METHOD = "batch";
+
+    private final String method;
+    private final int batchSize;
+    private final long requestSize;
+    private final long responseSize;
+    private final long serializationTime;
+    private final long networkTime;
+    private final long deserializationTime;
+    private final long totalTime;
+    private final List<Integer> errorCodes;
+    private final Throwable failure;
+
+    RequestMetrics(String method, int batchSize, long requestSize, long responseSize,
+            long serializationTime, long networkTime, long deserializationTime, long totalTime,
+            List<Integer> errorCodes, Throwable failure) {
+        this.method = method;
+        this.batchSize = batchSize;
+        this.requestSize = requestSize;
+        this.responseSize = responseSize;
+        this.serializationTime = serializationTime;
+        this.networkTime = networkTime;
+        this.deserializationTime = deserializationTime;
+        this.totalTime = totalTime;
+        this.errorCodes = errorCodes;
+        this.failure = failure;
+    }
+
+    /**
+     * @return the JSON-RPC method of the request, or {@link #BATCH_METHOD} for a batch request.
+     */
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * @return the number of requests in a batch request, or 1 for a single request.
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @return the size of the serialized request in bytes, or -1 if the request was not
+     * serialized.
+     */
+    public long getRequestSize() {
+        return requestSize;
+    }
+
+    /**
+     * @return the number of bytes of the response that were read, or -1 if no response was
+     * received.
+     */
+    public long getResponseSize() {
+        return responseSize;
+    }
+
+    /**
+     * @return the serialization time in nanoseconds, or -1 if the request was not serialized.
+     */
+    public long getSerializationTime() {
+        return serializationTime;
+    }
+
+    /**
+     * @return the network time in nanoseconds, or -1 if no response was received.
+     */
+    public long getNetworkTime() {
+        return networkTime;
+    }
+
+    /**
+     * @return the deserialization time in nanoseconds, or -1 if no response was received.
+     */
+    public long getDeserializationTime() {
+        return deserializationTime;
+    }
+
+    /**
+     * @return the total time of the request in nanoseconds.
+     */
+    public long getTotalTime() {
+        return totalTime;
+    }
+
+    /**
+     * @return the codes of the errors contained in the response, i.e., of every
+     * {@link Response.Error}. Empty if the request succeeded or failed without response.
+     */
+    public List<Integer> getErrorCodes() {
+        return errorCodes;
+    }
+
+    /**
+     * @return the exception that made the request fail, or null if a response was received
+     * and deserialized.
+     */
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    /**
+     * @return true if the request failed or the response contains an error.
+     */
+    public boolean isError() {
+        return failure != null || !errorCodes.isEmpty();
+    }
+
+}
@@ -0,0 +1,295 @@
+package io.neow3j.protocol.metrics;
+
+import io.neow3j.protocol.core.BatchResponse;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>Records the metrics of a single request and reports them to {@link RequestListener}s.</p>
+ * <br>
+ * <p>A service starts a recorder for every request and marks the end of each phase of the
+ * request on it. If there are no listeners, a disabled recorder is returned on which all
+ * methods do nothing.</p>
+ */
+public class RequestRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestRecorder.class);
+
+    private static final RequestRecorder DISABLED =
+            new RequestRecorder(Collections.emptyList(), null, 0);
+
+    private final List<RequestListener> listeners;
+    private final String method;
+    private final int batchSize;
+    private final long startTime;
+
+    private long serializedTime = -1;
+    private long receivedTime = -1;
+    private long requestSize = -1;
+    private CountingOutputStream requestStream;
+    private CountingInputStream responseStream;
+    private boolean completed = false;
+
+    private RequestRecorder(List<RequestListener> listeners, String method, int batchSize) {
+        this.listeners = listeners;
+        this.method = method;
+        this.batchSize = batchSize;
+        this.startTime = System.nanoTime();
+    }
+
+    /**
+     * Starts recording a request.
+     *
+     * @param listeners the listeners to report to.
+     * @param request   the request.
+     * @return the recorder.
+     */
+    public static RequestRecorder start(List<RequestListener> listeners, Request<?, ?> request) {
+        return start(listeners, request.getMethod(), 1);
+    }
+
+    /**
+     * Starts recording a batch request.
+     *
+     * @param listeners the listeners to report to.
+     * @param requests  the requests of the batch.
+     * @return the recorder.
+     */
+    public static RequestRecorder start(List<RequestListener> listeners,
+            List<? extends Request<?, ?>> requests) {
+        return start(listeners, RequestMetrics.BATCH_METHOD, requests.size());
+    }
+
+    /**
+     * @return a recorder that does not record anything.
+     */
+    public static RequestRecorder disabled() {
+        return DISABLED;
+    }
+
+    private static RequestRecorder start(List<RequestListener> listeners, String method,
+            int batchSize) {
+        // The listeners at the start of the request get all of its events, even if listeners
+        // are added or removed while it is in flight.
+        List<RequestListener> snapshot = new ArrayList<>(listeners);
+        if (snapshot.isEmpty()) {
+            return DISABLED;
+        }
+        for (RequestListener listener : snapshot) {
+            try {
+                listener.onRequestStarted(method);
+            } catch (RuntimeException e) {
+                log.warn("Request listener failed.", e);
+            }
+        }
+        return new RequestRecorder(snapshot, method, batchSize);
+    }
+
+    /**
+     * @return true if the metrics are reported to any listener.
+     */
+    public boolean isEnabled() {
+        return this != DISABLED;
+    }
+
+    /**
+     * Wraps the stream that the request is serialized into, to count its size.
+     *
+     * @param outputStream the stream.
+     * @return the wrapped stream, or the given stream if this recorder is disabled.
+     * @see #serialized()
+     */
+    public OutputStream recordRequest(OutputStream outputStream) {
+        if (!isEnabled()) {
+            return outputStream;
+        }
+        requestStream = new CountingOutputStream(outputStream);
+        return requestStream;
+    }
+
+    /**
+     * Marks the end of the serialization of a request that was written to a stream wrapped with
+     * {@link #recordRequest(OutputStream)}.
+     */
+    public void serialized() {
+        serialized(requestStream == null ? -1 : requestStream.count);
+    }
+
+    /**
+     * Marks the end of the serialization.
+     *
+     * @param requestSize the size of the serialized request in bytes.
+     */
+    public void serialized(long requestSize) {
+        if (isEnabled()) {
+            this.serializedTime = System.nanoTime();
+            this.requestSize = requestSize;
+        }
+    }
+
+    /**
+     * <p>Marks the response as received and wraps its stream, to count its size.</p>
+     * <br>
+     * <p>The stream should be wrapped before it is wrapped in any stream that the
+     * deserialization depends on, e.g., to record the raw response.</p>
+     *
+     * @param inputStream the response stream, or null.
+     * @return the wrapped stream, or the given stream if this recorder is disabled or the
+     * stream is null.
+     */
+    public InputStream recordResponse(InputStream inputStream) {
+        if (!isEnabled()) {
+            return inputStream;
+        }
+        receivedTime = System.nanoTime();
+        if (inputStream == null) {
+            return null;
+        }
+        responseStream = new CountingInputStream(inputStream);
+        return responseStream;
+    }
+
+    /**
+     * Marks the response as deserialized and reports the metrics of the request.
+     *
+     * @param response the response, i.e., a {@link Response} or a {@link BatchResponse}.
+     */
+    public void completed(Object response) {
+        if (!isEnabled()) {
+            return;
+        }
+        List<Integer> errorCodes = new ArrayList<>();
+        if (response instanceof Response) {
+            addErrorCode(errorCodes, (Response<?>) response);
+        } else if (response instanceof BatchResponse) {
+            for (Response<?> r : ((BatchResponse) response).getResponses()) {
+                addErrorCode(errorCodes, r);
+            }
+        }
+        report(errorCodes, null);
+    }
+
+    /**
+     * Marks the request as failed and reports the metrics of the request. Does nothing if the
+     * request was already completed.
+     *
+     * @param failure the exception that made the request fail.
+     */
+    public void failed(Throwable failure) {
+        if (isEnabled()) {
+            report(Collections.emptyList(), failure);
+        }
+    }
+
+    private static void addErrorCode(List<Integer> errorCodes, Response<?> response) {
+        if (response != null && response.hasError()) {
+            errorCodes.add(response.getError().getCode());
+        }
+    }
+
+    private synchronized void report(List<Integer> errorCodes, Throwable failure) {
+        if (completed) {
+            return;
+        }
+        completed = true;
+        long endTime = System.nanoTime();
+        long serializationTime = serializedTime < 0 ? -1 : serializedTime - startTime;
+        long networkTime = -1;
+        long deserializationTime = -1;
+        if (receivedTime >= 0) {
+            networkTime = receivedTime - (serializedTime < 0 ? startTime : serializedTime);
+            deserializationTime = endTime - receivedTime;
+        }
+        RequestMetrics metrics = new RequestMetrics(method, batchSize, requestSize,
+                responseStream == null ? -1 : responseStream.count,
+                serializationTime, networkTime, deserializationTime, endTime - startTime,
+                Collections.unmodifiableList(errorCodes), failure);
+        for (RequestListener listener : listeners) {
+            try {
+                listener.onRequestCompleted(metrics);
+            } catch (RuntimeException e) {
+                log.warn("Request listener failed.", e);
+            }
+        }
+    }
+
+    private static class CountingInputStream extends FilterInputStream {
+
+        private long count = 0;
+        private long markedCount = 0;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+        @Override
+        public synchronized void mark(int readlimit) {
+            super.mark(readlimit);
+            markedCount = count;
+        }
+
+        @Override
+        public synchronized void reset() throws IOException {
+            super.reset();
+            // Bytes that are read again are not counted twice.
+            count = markedCount;
+        }
+    }
+
+    private static class CountingOutputStream extends FilterOutputStream {
+
+        private long count = 0;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package io.neow3j.protocol.notifications;
+
+import io.neow3j.protocol.core.methods.response.NeoApplicationLog;
+
+/**
+ * Notification about an event that a smart contract emitted during execution.
+ */
+public class ContractNotification extends Notification<NeoApplicationLog.Notification> {
+}
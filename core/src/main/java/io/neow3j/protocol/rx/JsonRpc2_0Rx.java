@@ -7,10 +7,15 @@ import io.neow3j.protocol.core.BlockParameterName;
 import io.neow3j.protocol.core.methods.response.NeoBlockCount;
 import io.neow3j.protocol.core.methods.response.NeoGetBlock;
 import io.neow3j.protocol.core.methods.response.Transaction;
+import io.neow3j.protocol.core.polling.BlockCheckpoint;
 import io.neow3j.protocol.core.polling.BlockPolling;
+import io.neow3j.utils.Flowables;
 import io.neow3j.utils.Observables;
+import io.reactivex.BackpressureStrategy;
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
 import io.reactivex.Scheduler;
+import io.reactivex.Single;
 import io.reactivex.disposables.Disposables;
 import io.reactivex.schedulers.Schedulers;
 
@@ -25,6 +30,11 @@ import java.util.stream.Collectors;
  */
 public class JsonRpc2_0Rx {
 
+    /**
+     * The number of block requests in flight used by the Flowables that replay blocks.
+     */
+    public static final int DEFAULT_MAX_CONCURRENCY = 4;
+
     private final Neow3j neow3j;
     private final ScheduledExecutorService scheduledExecutorService;
     private final Scheduler scheduler;
@@ -36,8 +46,16 @@ public class JsonRpc2_0Rx {
     }
 
     public Observable<BigInteger> neoBlockObservable(long pollingInterval) {
+        return neoBlockObservable(pollingInterval, null);
+    }
+
+    public Observable<BigInteger> neoBlockObservable(long pollingInterval,
+            BlockCheckpoint checkpoint) {
         return Observable.create(subscriber -> {
-            BlockPolling blockPolling = new BlockPolling(neow3j, subscriber::onNext);
+            BlockPolling blockPolling = new BlockPolling(
+                    neow3j, subscriber::onNext, subscriber::tryOnError, checkpoint);
+            // The observable terminates with the first error, so polling has to stop as well.
+            blockPolling.setStopOnError(true);
             blockPolling.run(scheduledExecutorService, pollingInterval);
             subscriber.setDisposable(Disposables.fromAction(blockPolling::cancel));
         });
@@ -74,7 +92,7 @@ public class JsonRpc2_0Rx {
             startBlockNumber = getBlockNumber(startBlock);
             endBlockNumber = getBlockNumber(endBlock);
         } catch (IOException e) {
-            Observable.error(e);
+            return Observable.error(e);
         }
 
         if (ascending) {
@@ -86,6 +104,77 @@ public class JsonRpc2_0Rx {
         }
     }
 
+    public Flowable<NeoGetBlock> replayBlocksFlowable(
+            BlockParameter startBlock, BlockParameter endBlock,
+            boolean fullTransactionObjects) {
+        return replayBlocksFlowable(startBlock, endBlock, fullTransactionObjects, true);
+    }
+
+    public Flowable<NeoGetBlock> replayBlocksFlowable(
+            BlockParameter startBlock, BlockParameter endBlock,
+            boolean fullTransactionObjects, boolean ascending) {
+        return replayBlocksFlowable(startBlock, endBlock, fullTransactionObjects, ascending,
+                DEFAULT_MAX_CONCURRENCY, true);
+    }
+
+    public Flowable<NeoGetBlock> replayBlocksFlowable(
+            BlockParameter startBlock, BlockParameter endBlock,
+            boolean fullTransactionObjects, boolean ascending,
+            int maxConcurrency, boolean ordered) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("The maximum concurrency must be at least 1.");
+        }
+        // We use a scheduler to ensure this Flowable runs asynchronously for users to be
+        // consistent with the other Observables
+        return replayBlocksFlowableSync(startBlock, endBlock, fullTransactionObjects, ascending,
+                maxConcurrency, ordered)
+                .subscribeOn(scheduler);
+    }
+
+    private Flowable<NeoGetBlock> replayBlocksFlowableSync(
+            BlockParameter startBlock, BlockParameter endBlock,
+            boolean fullTransactionObjects, boolean ascending,
+            int maxConcurrency, boolean ordered) {
+
+        BigInteger startBlockNumber;
+        BigInteger endBlockNumber;
+        try {
+            startBlockNumber = getBlockNumber(startBlock);
+            endBlockNumber = getBlockNumber(endBlock);
+        } catch (IOException e) {
+            return Flowable.error(e);
+        }
+
+        Flowable<BigInteger> blockIndexes =
+                Flowables.range(startBlockNumber, endBlockNumber, ascending);
+        // At most maxConcurrency blocks are requested at a time, and each of them holds on to
+        // its block until it can be emitted downstream. New block requests are only sent when a
+        // block was handed on, so a slow subscriber also slows down the requests to the node.
+        if (ordered) {
+            // concatMapEager buffers blocks that arrive early and emits them in range order.
+            return blockIndexes.concatMapEager(
+                    i -> getBlockFlowable(i, fullTransactionObjects), maxConcurrency, 1);
+        } else {
+            return blockIndexes.flatMap(
+                    i -> getBlockFlowable(i, fullTransactionObjects), false, maxConcurrency, 1);
+        }
+    }
+
+    private Flowable<NeoGetBlock> getBlockFlowable(BigInteger blockIndex,
+            boolean fullTransactionObjects) {
+        return Single.<NeoGetBlock>create(emitter ->
+                neow3j.getBlock(new BlockParameterIndex(blockIndex), fullTransactionObjects)
+                        .sendAsync()
+                        .whenComplete((block, error) -> {
+                            if (error != null) {
+                                emitter.tryOnError(error);
+                            } else {
+                                emitter.onSuccess(block);
+                            }
+                        }))
+                .toFlowable();
+    }
+
     public Observable<NeoGetBlock> catchUpToLatestBlockObservable(
             BlockParameter startBlock, boolean fullTransactionObjects,
             Observable<NeoGetBlock> onCompleteObservable) {
@@ -152,6 +241,75 @@ public class JsonRpc2_0Rx {
                         neow3j.getBlock(new BlockParameterIndex(blockIndex), fullTransactionObjects).observable());
     }
 
+    public Flowable<NeoGetBlock> catchUpToLatestBlockFlowable(
+            BlockParameter startBlock, boolean fullTransactionObjects,
+            Flowable<NeoGetBlock> onCompleteFlowable) {
+        // We use a scheduler to ensure this Flowable runs asynchronously for users to be
+        // consistent with the other Observables
+        return catchUpToLatestBlockFlowableSync(
+                startBlock, fullTransactionObjects, onCompleteFlowable)
+                .subscribeOn(scheduler);
+    }
+
+    public Flowable<NeoGetBlock> catchUpToLatestBlockFlowable(
+            BlockParameter startBlock, boolean fullTransactionObjects) {
+        return catchUpToLatestBlockFlowable(
+                startBlock, fullTransactionObjects, Flowable.empty());
+    }
+
+    private Flowable<NeoGetBlock> catchUpToLatestBlockFlowableSync(
+            BlockParameter startBlock, boolean fullTransactionObjects,
+            Flowable<NeoGetBlock> onCompleteFlowable) {
+
+        BigInteger startBlockNumber;
+        BigInteger latestBlockNumber;
+        try {
+            startBlockNumber = getBlockNumber(startBlock);
+            latestBlockNumber = getLatestBlockNumber();
+        } catch (IOException e) {
+            return Flowable.error(e);
+        }
+
+        if (startBlockNumber.compareTo(latestBlockNumber) > -1) {
+            return onCompleteFlowable;
+        } else {
+            return Flowable.concat(
+                    replayBlocksFlowableSync(
+                            new BlockParameterIndex(startBlockNumber),
+                            new BlockParameterIndex(latestBlockNumber),
+                            fullTransactionObjects, true, DEFAULT_MAX_CONCURRENCY, true),
+                    Flowable.defer(() -> catchUpToLatestBlockFlowableSync(
+                            new BlockParameterIndex(latestBlockNumber.add(BigInteger.ONE)),
+                            fullTransactionObjects,
+                            onCompleteFlowable)));
+        }
+    }
+
+    public Flowable<Transaction> catchUpToLatestTransactionFlowable(
+            BlockParameter startBlock) {
+        return catchUpToLatestBlockFlowable(
+                startBlock, true, Flowable.empty())
+                .concatMapIterable(JsonRpc2_0Rx::toTransactions);
+    }
+
+    public Flowable<NeoGetBlock> catchUpToLatestAndSubscribeToNewBlocksFlowable(
+            BlockParameter startBlock, boolean fullTransactionObjects,
+            long pollingInterval) {
+
+        return catchUpToLatestBlockFlowable(
+                startBlock, fullTransactionObjects,
+                blockFlowable(fullTransactionObjects, pollingInterval));
+    }
+
+    public Flowable<NeoGetBlock> blockFlowable(boolean fullTransactionObjects,
+            long pollingInterval) {
+        // Only the indexes of new blocks are buffered. A block is fetched once it is requested
+        // downstream.
+        return neoBlockObservable(pollingInterval)
+                .toFlowable(BackpressureStrategy.BUFFER)
+                .concatMap(blockIndex -> getBlockFlowable(blockIndex, fullTransactionObjects), 1);
+    }
+
     private static List<Transaction> toTransactions(NeoGetBlock neoGetBlock) {
         return neoGetBlock.getBlock().getTransactions().stream().collect(Collectors.toList());
     }
@@ -4,6 +4,10 @@ import io.neow3j.protocol.core.BlockParameter;
 import io.neow3j.protocol.core.methods.response.NeoBlock;
 import io.neow3j.protocol.core.methods.response.NeoGetBlock;
 import io.neow3j.protocol.core.methods.response.Transaction;
+import io.neow3j.protocol.notifications.BlockNotification;
+import io.neow3j.protocol.notifications.ContractNotification;
+import io.neow3j.protocol.notifications.TransactionNotification;
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
 
 /**
@@ -50,6 +54,30 @@ public interface Neow3jRx {
             BlockParameter startBlock, BlockParameter endBlock,
             boolean fullTransactionObjects, boolean ascending);
 
+    /**
+     * <p>Create a Flowable that emits all blocks from the blockchain contained within the
+     * requested range, fetching up to {@code maxConcurrency} blocks in parallel.</p>
+     * <br>
+     * <p>Blocks are only requested from the node as downstream demand arrives. No more than
+     * {@code maxConcurrency} blocks are requested or held back at a time.</p>
+     *
+     * @param startBlock             block number to commence with
+     * @param endBlock               block number to finish with
+     * @param fullTransactionObjects if true, provides transactions embedded in blocks, otherwise
+     *                               transaction hashes
+     * @param ascending              if true, iterates the range in ascending order, otherwise
+     *                               in descending order
+     * @param maxConcurrency         the maximum number of block requests in flight
+     * @param ordered                if true, blocks are emitted in the order of the range, even
+     *                               if the node replies out of order. Otherwise, blocks are
+     *                               emitted as soon as they are received.
+     * @return Flowable to emit these blocks
+     */
+    Flowable<NeoGetBlock> replayBlocksFlowable(
+            BlockParameter startBlock, BlockParameter endBlock,
+            boolean fullTransactionObjects, boolean ascending,
+            int maxConcurrency, boolean ordered);
+
     /**
      * <p>Create an Observable that emits all transactions from the blockchain starting with a
      * provided block number. Once it has replayed up to the most current block, the provided
@@ -94,4 +122,128 @@ public interface Neow3jRx {
     Observable<NeoGetBlock> catchUpToLatestAndSubscribeToNewBlocksObservable(
             BlockParameter startBlock, boolean fullTransactionObjects);
 
+    /**
+     * Create a Flowable that emits newly created blocks on the blockchain. A block is only
+     * fetched from the node once it is requested downstream.
+     *
+     * @param fullTransactionObjects if true, provides transactions embedded in blocks, otherwise
+     *                               transaction hashes
+     * @return Flowable that emits all new blocks as they are added to the blockchain
+     */
+    Flowable<NeoGetBlock> blockFlowable(boolean fullTransactionObjects);
+
+    /**
+     * Create a Flowable that emits all blocks from the blockchain contained within the
+     * requested range. Blocks are only fetched from the node as downstream demand arrives.
+     *
+     * @param startBlock             block number to commence with
+     * @param endBlock               block number to finish with
+     * @param fullTransactionObjects if true, provides transactions embedded in blocks, otherwise
+     *                               transaction hashes
+     * @return Flowable to emit these blocks
+     */
+    Flowable<NeoGetBlock> replayBlocksFlowable(
+            BlockParameter startBlock, BlockParameter endBlock,
+            boolean fullTransactionObjects);
+
+    /**
+     * Create a Flowable that emits all blocks from the blockchain contained within the
+     * requested range. Blocks are only fetched from the node as downstream demand arrives.
+     *
+     * @param startBlock             block number to commence with
+     * @param endBlock               block number to finish with
+     * @param fullTransactionObjects if true, provides transactions embedded in blocks, otherwise
+     *                               transaction hashes
+     * @param ascending              if true, emits blocks in ascending order between range, otherwise
+     *                               in descending order
+     * @return Flowable to emit these blocks
+     */
+    Flowable<NeoGetBlock> replayBlocksFlowable(
+            BlockParameter startBlock, BlockParameter endBlock,
+            boolean fullTransactionObjects, boolean ascending);
+
+    /**
+     * Create a Flowable that emits all blocks from the blockchain starting with a provided block
+     * number. Once it has replayed up to the most current block, the provided Flowable is
+     * invoked.
+     *
+     * @param startBlock             the block number we wish to request from
+     * @param fullTransactionObjects if we require full {@link Transaction} objects to be provided
+     *                               in the {@link NeoBlock} responses
+     * @param onCompleteFlowable     a subsequent Flowable that we wish to run once we are caught
+     *                               up with the latest block
+     * @return Flowable to emit all requested blocks
+     */
+    Flowable<NeoGetBlock> catchUpToLatestBlockFlowable(
+            BlockParameter startBlock, boolean fullTransactionObjects,
+            Flowable<NeoGetBlock> onCompleteFlowable);
+
+    /**
+     * Creates a Flowable that emits all blocks from the requested block number to the most
+     * current. Once it has emitted the most current block, onComplete is called.
+     *
+     * @param startBlock             the block number we wish to request from
+     * @param fullTransactionObjects if we require full {@link Transaction} objects to be provided
+     *                               in the {@link NeoBlock} responses
+     * @return Flowable to emit all requested blocks
+     */
+    Flowable<NeoGetBlock> catchUpToLatestBlockFlowable(
+            BlockParameter startBlock, boolean fullTransactionObjects);
+
+    /**
+     * Creates a Flowable that emits all transactions from the requested block number to the
+     * most current. Once it has emitted the transactions of the most current block, onComplete
+     * is called.
+     *
+     * @param startBlock the block number we wish to request from
+     * @return Flowable to emit all transactions of the requested blocks
+     */
+    Flowable<Transaction> catchUpToLatestTransactionFlowable(BlockParameter startBlock);
+
+    /**
+     * Creates a Flowable that emits all blocks from the requested block number to the most
+     * current. Once it has emitted the most current block, it starts emitting new blocks as they
+     * are created.
+     *
+     * @param startBlock             the block number we wish to request from
+     * @param fullTransactionObjects if we require full {@link Transaction} objects to be provided
+     *                               in the {@link NeoBlock} responses
+     * @return Flowable to emit all requested blocks and future
+     */
+    Flowable<NeoGetBlock> catchUpToLatestAndSubscribeToNewBlocksFlowable(
+            BlockParameter startBlock, boolean fullTransactionObjects);
+
+    /**
+     * <p>Creates an Observable that emits a notification for every new block added to the
+     * blockchain.</p>
+     * <br>
+     * <p>The blocks are pushed by the node, so this requires a service that supports
+     * subscriptions, like the {@link io.neow3j.protocol.websocket.WebSocketService}.</p>
+     *
+     * @return Observable to emit new blocks
+     */
+    Observable<BlockNotification> blockNotifications();
+
+    /**
+     * <p>Creates an Observable that emits a notification for every new transaction added to the
+     * memory pool of the node.</p>
+     * <br>
+     * <p>The transactions are pushed by the node, so this requires a service that supports
+     * subscriptions, like the {@link io.neow3j.protocol.websocket.WebSocketService}.</p>
+     *
+     * @return Observable to emit new transactions
+     */
+    Observable<TransactionNotification> transactionNotifications();
+
+    /**
+     * <p>Creates an Observable that emits a notification for every event emitted by a smart
+     * contract during execution.</p>
+     * <br>
+     * <p>The events are pushed by the node, so this requires a service that supports
+     * subscriptions, like the {@link io.neow3j.protocol.websocket.WebSocketService}.</p>
+     *
+     * @return Observable to emit contract events
+     */
+    Observable<ContractNotification> contractNotifications();
+
 }
@@ -0,0 +1,58 @@
+package io.neow3j.protocol.websocket;
+
+import org.java_websocket.handshake.ServerHandshake;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+
+/**
+ * WebSocket client implementation that forwards all events to a {@link WebSocketListener}.
+ */
+public class WebSocketClient extends org.java_websocket.client.WebSocketClient {
+
+    private static final Logger log = LoggerFactory.getLogger(WebSocketClient.class);
+
+    private WebSocketListener listener;
+
+    public WebSocketClient(URI serverUri) {
+        super(serverUri);
+    }
+
+    @Override
+    public void onOpen(ServerHandshake serverHandshake) {
+        log.info("Opened WebSocket connection to {}", uri);
+    }
+
+    @Override
+    public void onMessage(String message) {
+        log.debug("Received message {} from server {}", message, uri);
+        try {
+            listener.onMessage(message);
+        } catch (Exception e) {
+            log.error("Failed to process message '{}' from server {}", message, uri, e);
+        }
+    }
+
+    @Override
+    public void onClose(int code, String reason, boolean remote) {
+        log.info("Closed WebSocket connection to {}, because of reason: '{}'."
+                + "Connection closed remotely: {}", uri, reason, remote);
+        listener.onClose();
+    }
+
+    @Override
+    public void onError(Exception e) {
+        log.error("WebSocket connection to {} failed with error", uri, e);
+        listener.onError(e);
+    }
+
+    /**
+     * Sets a listener that will be called when a new message is received by the client.
+     *
+     * @param listener the WebSocket listener
+     */
+    public void setListener(WebSocketListener listener) {
+        this.listener = listener;
+    }
+}
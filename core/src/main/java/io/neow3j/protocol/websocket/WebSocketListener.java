@@ -0,0 +1,29 @@
+package io.neow3j.protocol.websocket;
+
+import java.io.IOException;
+
+/**
+ * A listener used to notify about events that happen on a WebSocket connection.
+ */
+public interface WebSocketListener {
+
+    /**
+     * Called when a new WebSocket message is delivered.
+     *
+     * @param message new WebSocket message
+     * @throws IOException thrown if an observer failed to process the message
+     */
+    void onMessage(String message) throws IOException;
+
+    /**
+     * Called when an error occurred on the WebSocket connection.
+     *
+     * @param e the error that occurred
+     */
+    void onError(Exception e);
+
+    /**
+     * Called when the WebSocket connection was closed.
+     */
+    void onClose();
+}
@@ -0,0 +1,27 @@
+package io.neow3j.protocol.websocket;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Objects necessary to process a reply for a request sent via WebSocket protocol.
+ *
+ * @param <T> type of a data item that should be returned by the sent request
+ */
+class WebSocketRequest<T> {
+
+    private CompletableFuture<T> onReply;
+    private Class<T> responseType;
+
+    WebSocketRequest(CompletableFuture<T> onReply, Class<T> responseType) {
+        this.onReply = onReply;
+        this.responseType = responseType;
+    }
+
+    CompletableFuture<T> getOnReply() {
+        return onReply;
+    }
+
+    Class<T> getResponseType() {
+        return responseType;
+    }
+}
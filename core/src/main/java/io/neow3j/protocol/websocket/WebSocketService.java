@@ -0,0 +1,368 @@
+package io.neow3j.protocol.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.ObjectMapperFactory;
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.core.methods.response.NeoSubscribe;
+import io.neow3j.protocol.core.methods.response.NeoUnsubscribe;
+import io.neow3j.protocol.notifications.Notification;
+import io.neow3j.utils.Async;
+import io.reactivex.Observable;
+import io.reactivex.subjects.PublishSubject;
+import org.java_websocket.exceptions.WebsocketNotConnectedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * <p>WebSocket implementation of the Service API.</p>
+ * <br>
+ * <p>All requests are sent over one persistent connection. Replies are matched to their
+ * requests by id, so any number of requests can be in flight concurrently.</p>
+ * <br>
+ * <p>Subscriptions are opened with a JSON-RPC request that returns a subscription id. The node
+ * then pushes notifications of the form
+ * {@code {"jsonrpc":"2.0","method":"...","params":{"subscription":"<id>","result":{...}}}},
+ * which are emitted on the {@link Observable} returned by
+ * {@link #subscribe(Request, String, Class)}.</p>
+ */
+public class WebSocketService implements Neow3jService {
+
+    private static final Logger log = LoggerFactory.getLogger(WebSocketService.class);
+
+    // Timeout for JSON-RPC requests in seconds
+    static final long REQUEST_TIMEOUT = 60;
+
+    private final WebSocketClient webSocketClient;
+    private final ScheduledExecutorService executor;
+    private final ObjectMapper objectMapper;
+    private final boolean includeRawResponses;
+
+    // Requests that are waiting for a reply by request id
+    private final Map<Long, WebSocketRequest<?>> requestForId = new ConcurrentHashMap<>();
+
+    // Open subscriptions by subscription id
+    private final Map<String, WebSocketSubscription<?>> subscriptionForId =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Create a {@link WebSocketService} instance.
+     *
+     * @param serverUrl           the URL of the WebSocket endpoint of the node.
+     * @param includeRawResponses option to include or not raw responses on the {@link Response}
+     *                            object.
+     */
+    public WebSocketService(String serverUrl, boolean includeRawResponses) {
+        this(new WebSocketClient(parseURI(serverUrl)), includeRawResponses);
+    }
+
+    /**
+     * Create a {@link WebSocketService} instance.
+     *
+     * @param webSocketClient     the WebSocket client to use.
+     * @param includeRawResponses option to include or not raw responses on the {@link Response}
+     *                            object.
+     */
+    public WebSocketService(WebSocketClient webSocketClient, boolean includeRawResponses) {
+        this(webSocketClient, Async.defaultExecutorService(), includeRawResponses);
+    }
+
+    WebSocketService(WebSocketClient webSocketClient, ScheduledExecutorService executor,
+            boolean includeRawResponses) {
+        this.webSocketClient = webSocketClient;
+        this.executor = executor;
+        if (executor instanceof ScheduledThreadPoolExecutor) {
+            // Remove the timeouts of completed requests from the queue right away.
+            ((ScheduledThreadPoolExecutor) executor).setRemoveOnCancelPolicy(true);
+        }
+        this.objectMapper = ObjectMapperFactory.getObjectMapper(includeRawResponses);
+        this.includeRawResponses = includeRawResponses;
+    }
+
+    /**
+     * Connects to the WebSocket endpoint and blocks until the connection is established.
+     *
+     * @throws ConnectException if the connection could not be established.
+     */
+    public void connect() throws ConnectException {
+        webSocketClient.setListener(new WebSocketListener() {
+            @Override
+            public void onMessage(String message) throws IOException {
+                onWebSocketMessage(message);
+            }
+
+            @Override
+            public void onError(Exception e) {
+                log.error("Received error from a WebSocket connection", e);
+            }
+
+            @Override
+            public void onClose() {
+                onWebSocketClose();
+            }
+        });
+        try {
+            if (!webSocketClient.connectBlocking()) {
+                throw new ConnectException("Failed to connect to WebSocket");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConnectException("Interrupted while connecting to WebSocket");
+        }
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType)
+            throws IOException {
+        return waitFor(sendAsync(request, responseType));
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(Request request,
+            Class<T> responseType) {
+
+        CompletableFuture<T> result = registerRequest(request.getId(), responseType);
+        try {
+            sendPayload(objectMapper.writeValueAsString(request));
+        } catch (IOException e) {
+            closeRequest(request.getId(), e);
+        }
+        return result;
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        return waitFor(sendBatchAsync(batchRequest));
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        List<Request<?, ? extends Response<?>>> requests = batchRequest.getRequests();
+        if (requests.isEmpty()) {
+            return CompletableFuture.completedFuture(
+                    new BatchResponse(Collections.emptyList(), Collections.emptyList()));
+        }
+
+        // Every request of the batch is replied to individually, so each one is registered on
+        // its own and the batch completes once all of them completed.
+        List<CompletableFuture<? extends Response<?>>> replies = new ArrayList<>();
+        for (Request<?, ? extends Response<?>> request : requests) {
+            replies.add(registerRequest(request.getId(), request.getResponseType()));
+        }
+        try {
+            sendPayload(objectMapper.writeValueAsString(requests));
+        } catch (IOException e) {
+            requests.forEach(r -> closeRequest(r.getId(), e));
+        }
+        return CompletableFuture.allOf(replies.toArray(new CompletableFuture<?>[0]))
+                .thenApply(v -> new BatchResponse(requests, replies.stream()
+                        .map(CompletableFuture::join)
+                        .collect(Collectors.toList())));
+    }
+
+    @Override
+    public <T extends Notification<?>> Observable<T> subscribe(Request request,
+            String unsubscribeMethod, Class<T> responseType) {
+
+        PublishSubject<T> subject = PublishSubject.create();
+        // The subscription id is only known once the node replied to the subscription request.
+        AtomicReference<String> subscriptionId = new AtomicReference<>();
+        // The observable may be disposed before the reply arrives, and by several disposers.
+        AtomicBoolean disposed = new AtomicBoolean();
+        AtomicBoolean unsubscribed = new AtomicBoolean();
+        Runnable unsubscribeOnce = () -> {
+            if (unsubscribed.compareAndSet(false, true)) {
+                unsubscribe(subscriptionId.get(), unsubscribeMethod);
+            }
+        };
+
+        sendAsync(request, NeoSubscribe.class).whenComplete((reply, error) -> {
+            if (error != null) {
+                subject.onError(error);
+            } else if (reply.hasError()) {
+                subject.onError(new IOException(String.format(
+                        "Subscription request returned error: %s",
+                        reply.getError().getMessage())));
+            } else {
+                subscriptionId.set(reply.getSubscriptionId());
+                subscriptionForId.put(reply.getSubscriptionId(),
+                        new WebSocketSubscription<>(subject, responseType));
+                if (disposed.get()) {
+                    unsubscribeOnce.run();
+                }
+            }
+        });
+
+        return subject.doOnDispose(() -> {
+            disposed.set(true);
+            if (subscriptionId.get() != null) {
+                unsubscribeOnce.run();
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        webSocketClient.close();
+        executor.shutdown();
+    }
+
+    void onWebSocketMessage(String message) throws IOException {
+        JsonNode messageJson = objectMapper.readTree(message);
+        if (messageJson.isArray()) {
+            // Reply to a batch request
+            for (JsonNode reply : messageJson) {
+                processMessage(reply, reply.toString());
+            }
+        } else {
+            processMessage(messageJson, message);
+        }
+    }
+
+    void onWebSocketClose() {
+        IOException e = new IOException("Connection was closed");
+        requestForId.keySet().forEach(id -> closeRequest(id, e));
+        subscriptionForId.values().forEach(s -> s.getSubject().onError(e));
+        subscriptionForId.clear();
+    }
+
+    private void processMessage(JsonNode messageJson, String rawMessage) throws IOException {
+        if (messageJson.has("id")) {
+            processRequestReply(messageJson, rawMessage);
+        } else if (messageJson.has("method") && messageJson.has("params")) {
+            processSubscriptionEvent(messageJson);
+        } else {
+            throw new IOException("Unknown message type");
+        }
+    }
+
+    private void processRequestReply(JsonNode replyJson, String rawReply) throws IOException {
+        long replyId = replyJson.get("id").asLong();
+        WebSocketRequest<?> request = requestForId.remove(replyId);
+        if (request == null) {
+            throw new IOException(String.format(
+                    "Received reply for unexpected request id: %d", replyId));
+        }
+        completeRequest(request, replyJson, rawReply);
+    }
+
+    private <T> void completeRequest(WebSocketRequest<T> request, JsonNode replyJson,
+            String rawReply) {
+        try {
+            T reply = objectMapper.treeToValue(replyJson, request.getResponseType());
+            if (includeRawResponses && reply instanceof Response) {
+                ((Response<?>) reply).setRawResponse(rawReply);
+            }
+            request.getOnReply().complete(reply);
+        } catch (IOException e) {
+            request.getOnReply().completeExceptionally(e);
+        }
+    }
+
+    private void processSubscriptionEvent(JsonNode eventJson) throws IOException {
+        String subscriptionId = eventJson.path("params").path("subscription").asText();
+        WebSocketSubscription<?> subscription = subscriptionForId.get(subscriptionId);
+        if (subscription == null) {
+            log.warn("No subscriber for WebSocket event with subscription id {}",
+                    subscriptionId);
+            return;
+        }
+        emitEvent(subscription, eventJson);
+    }
+
+    private <T> void emitEvent(WebSocketSubscription<T> subscription, JsonNode eventJson)
+            throws IOException {
+        subscription.getSubject().onNext(
+                objectMapper.treeToValue(eventJson, subscription.getResponseType()));
+    }
+
+    private <T> CompletableFuture<T> registerRequest(long requestId, Class<T> responseType) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        requestForId.put(requestId, new WebSocketRequest<>(result, responseType));
+        ScheduledFuture<?> timeout = executor.schedule(
+                () -> closeRequest(requestId, new IOException(
+                        String.format("Request with id %d timed out", requestId))),
+                REQUEST_TIMEOUT,
+                TimeUnit.SECONDS);
+        result.whenComplete((reply, error) -> timeout.cancel(false));
+        return result;
+    }
+
+    private void closeRequest(long requestId, Exception e) {
+        WebSocketRequest<?> request = requestForId.remove(requestId);
+        if (request != null) {
+            request.getOnReply().completeExceptionally(e);
+        }
+    }
+
+    private void sendPayload(String payload) throws IOException {
+        try {
+            log.debug("Sending request: {}", payload);
+            webSocketClient.send(payload);
+        } catch (WebsocketNotConnectedException e) {
+            throw new IOException("WebSocket is not connected", e);
+        }
+    }
+
+    private void unsubscribe(String subscriptionId, String unsubscribeMethod) {
+        subscriptionForId.remove(subscriptionId);
+        Request<String, NeoUnsubscribe> request = new Request<>(
+                unsubscribeMethod,
+                Collections.singletonList(subscriptionId),
+                this,
+                NeoUnsubscribe.class);
+        request.sendAsync().whenComplete((reply, error) -> {
+            if (error != null) {
+                log.error("Failed to unsubscribe from subscription with id {}",
+                        subscriptionId, error);
+            } else {
+                log.debug("Unsubscribed from subscription with id {}", subscriptionId);
+            }
+        });
+    }
+
+    private static <T> T waitFor(CompletableFuture<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted WebSocket request", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new RuntimeException("Unexpected exception", e.getCause());
+        }
+    }
+
+    private static URI parseURI(String serverUrl) {
+        try {
+            return new URI(serverUrl);
+        } catch (URISyntaxException e) {
+            throw new RuntimeException(String.format("Failed to parse URL: '%s'", serverUrl), e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package io.neow3j.protocol.websocket;
+
+import io.reactivex.subjects.Subject;
+
+/**
+ * Objects necessary to process a notification of a subscription received via WebSocket protocol.
+ *
+ * @param <T> type of the notifications of the subscription
+ */
+class WebSocketSubscription<T> {
+
+    private Subject<T> subject;
+    private Class<T> responseType;
+
+    WebSocketSubscription(Subject<T> subject, Class<T> responseType) {
+        this.subject = subject;
+        this.responseType = responseType;
+    }
+
+    Subject<T> getSubject() {
+        return subject;
+    }
+
+    Class<T> getResponseType() {
+        return responseType;
+    }
+}
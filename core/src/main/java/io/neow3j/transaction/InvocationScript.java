@@ -6,12 +6,15 @@ import io.neow3j.crypto.Sign;
 import io.neow3j.crypto.Sign.SignatureData;
 import io.neow3j.io.BinaryReader;
 import io.neow3j.io.BinaryWriter;
+import io.neow3j.io.ByteBufferReader;
 import io.neow3j.io.IOUtils;
 import io.neow3j.io.NeoSerializable;
 import io.neow3j.io.exceptions.DeserializationException;
+import io.neow3j.transaction.exceptions.ScriptFormatException;
 import io.neow3j.utils.Numeric;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
@@ -22,6 +25,9 @@ import java.util.Objects;
  */
 public class InvocationScript extends NeoSerializable {
 
+    // The size of a signature consisting of its r and s components.
+    private static final int SIGNATURE_SIZE = 64;
+
     private byte[] script;
 
     public InvocationScript() {
@@ -78,6 +84,30 @@ public class InvocationScript extends NeoSerializable {
         return script;
     }
 
+    /**
+     * Extracts the signatures that are pushed by this invocation script.
+     *
+     * @return the signatures in the order of the script.
+     * @throws ScriptFormatException if this script does not only push 64-byte signatures.
+     */
+    public List<SignatureData> getSignatures() {
+        BinaryReader reader = new ByteBufferReader(script);
+        List<SignatureData> signatures = new ArrayList<>();
+        try {
+            while (reader.getPosition() < script.length) {
+                byte[] signature = reader.readPushData();
+                if (signature.length != SIGNATURE_SIZE) {
+                    throw new ScriptFormatException("The invocation script contains data that is "
+                            + "not a signature.");
+                }
+                signatures.add(SignatureData.fromByteArray(signature));
+            }
+        } catch (DeserializationException e) {
+            throw new ScriptFormatException("The invocation script does not only push data.");
+        }
+        return signatures;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -116,10 +116,10 @@ public class Signer extends NeoSerializable {
     @Override
     public void deserialize(BinaryReader reader) throws DeserializationException {
         try {
-            this.account = reader.readSerializable(ScriptHash.class);
+            this.account = reader.readSerializable(ScriptHash::new);
             this.scopes = WitnessScope.extractCombinedScopes(reader.readByte());
             if (this.scopes.contains(WitnessScope.CUSTOM_CONTRACTS)) {
-                this.allowedContracts = reader.readSerializableList(ScriptHash.class);
+                this.allowedContracts = reader.readSerializableList(ScriptHash::new);
                 if (this.allowedContracts.size() > NeoConstants.MAX_SIGNER_SUBITEMS) {
                     throw new DeserializationException("A signer's scope can only contain "
                             + NeoConstants.MAX_SIGNER_SUBITEMS + " contracts. The input data "
@@ -127,7 +127,7 @@ public class Signer extends NeoSerializable {
                 }
             }
             if (this.scopes.contains(WitnessScope.CUSTOM_GROUPS)) {
-                this.allowedGroups = reader.readSerializableList(ECKeyPair.ECPublicKey.class);
+                this.allowedGroups = reader.readSerializableList(ECKeyPair.ECPublicKey::new);
                 if (this.allowedGroups.size() > NeoConstants.MAX_SIGNER_SUBITEMS) {
                     throw new DeserializationException("A signer's scope can only contain "
                             + NeoConstants.MAX_SIGNER_SUBITEMS + " groups. The input data "
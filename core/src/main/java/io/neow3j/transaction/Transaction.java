@@ -1,11 +1,11 @@
 package io.neow3j.transaction;
 
-import static io.neow3j.crypto.Hash.hash256;
-
 import io.neow3j.constants.NeoConstants;
 import io.neow3j.contract.ScriptHash;
+import io.neow3j.crypto.HashWriter;
 import io.neow3j.io.BinaryReader;
 import io.neow3j.io.BinaryWriter;
+import io.neow3j.io.ByteBufferWriter;
 import io.neow3j.io.IOUtils;
 import io.neow3j.io.NeoSerializable;
 import io.neow3j.io.exceptions.DeserializationException;
@@ -16,13 +16,20 @@ import io.neow3j.transaction.exceptions.TransactionConfigurationException;
 import io.neow3j.utils.ArrayUtils;
 import io.neow3j.utils.Numeric;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
+/**
+ * <p>A transaction that can be signed and sent to a Neo node.</p>
+ * <br>
+ * <p>The serialized forms and the hash of a transaction are cached. The caches are cleared when
+ * the transaction is deserialized or a witness is added through {@link #addWitness(Witness)}.
+ * The lists and arrays returned by the getters must therefore not be modified.</p>
+ */
 public class Transaction extends NeoSerializable {
 
     public static final int HEADER_SIZE = 1 +  // Version byte
@@ -53,6 +60,13 @@ public class Transaction extends NeoSerializable {
     private byte[] script;
     private List<Witness> witnesses;
 
+    // The serialized forms and the hash are cached until the transaction changes. The hash is
+    // only valid for the magic number it was computed with.
+    private byte[] unsignedBytes;
+    private byte[] bytes;
+    private byte[] hash;
+    private byte[] hashMagicNumber;
+
     public Transaction() {
         signers = new ArrayList<>();
         attributes = new ArrayList<>();
@@ -66,12 +80,14 @@ public class Transaction extends NeoSerializable {
         this.version = version;
         this.nonce = nonce;
         this.validUntilBlock = validUntilBlock;
-        this.signers = signers;
+        // The lists are copied so that changes by the caller cannot invalidate the cached hash
+        // and serialized forms.
+        this.signers = new ArrayList<>(signers);
         this.systemFee = systemFee;
         this.networkFee = networkFee;
-        this.attributes = attributes;
+        this.attributes = new ArrayList<>(attributes);
         this.script = script;
-        this.witnesses = witnesses;
+        this.witnesses = new ArrayList<>(witnesses);
     }
 
     public byte getVersion() {
@@ -143,11 +159,50 @@ public class Transaction extends NeoSerializable {
                     + "null.");
         }
         this.witnesses.add(witness);
+        this.bytes = null;
     }
 
+    /**
+     * Gets the id of this transaction, i.e., its hash.
+     * <p>
+     * The hash is computed by streaming the unsigned transaction through a digest, without
+     * serializing it into a byte array first. It is cached until the magic number changes.
+     *
+     * @return the transaction id in big-endian order without the '0x' prefix.
+     */
     public String getTxId() {
-        byte[] hash = hash256(getHashData());
-        return Numeric.toHexStringNoPrefix(ArrayUtils.reverseArray(hash));
+        return Numeric.toHexStringNoPrefix(ArrayUtils.reverseArray(getHash()));
+    }
+
+    private byte[] getHash() {
+        byte[] magicNumber = NeoConfig.magicNumber();
+        if (hash == null || !Arrays.equals(magicNumber, hashMagicNumber)) {
+            HashWriter writer = new HashWriter();
+            writer.write(magicNumber);
+            if (unsignedBytes != null) {
+                writer.write(unsignedBytes);
+            } else {
+                try {
+                    serializeWithoutWitnesses(writer);
+                } catch (IOException e) {
+                    throw new UnsupportedOperationException(e);
+                }
+            }
+            hash = writer.hash256();
+            hashMagicNumber = magicNumber.clone();
+        }
+        return hash;
+    }
+
+    /**
+     * Verifies the witnesses of this transaction against the public keys of their verification
+     * scripts, without sending the transaction to a Neo node.
+     *
+     * @return true if this transaction has a valid witness for each signer. False, otherwise.
+     * @see WitnessVerifier
+     */
+    public boolean verifyWitnesses() {
+        return new WitnessVerifier().verify(this);
     }
 
     /**
@@ -184,16 +239,17 @@ public class Transaction extends NeoSerializable {
 
     @Override
     public void deserialize(BinaryReader reader) throws DeserializationException {
+        clearCache();
         try {
             this.version = reader.readByte();
             this.nonce = reader.readUInt32();
             this.systemFee = reader.readInt64();
             this.networkFee = reader.readInt64();
             this.validUntilBlock = reader.readUInt32();
-            this.signers = reader.readSerializableList(Signer.class);
+            this.signers = reader.readSerializableList(Signer::new);
             readTransactionAttributes(reader);
             this.script = reader.readVarBytes();
-            this.witnesses = reader.readSerializableList(Witness.class);
+            this.witnesses = reader.readSerializableList(Witness::new);
         } catch (IOException e) {
             throw new DeserializationException(e);
         }
@@ -223,9 +279,20 @@ public class Transaction extends NeoSerializable {
         writer.writeVarBytes(this.script);
     }
 
+    private void clearCache() {
+        this.unsignedBytes = null;
+        this.bytes = null;
+        this.hash = null;
+        this.hashMagicNumber = null;
+    }
+
     @Override
     public void serialize(BinaryWriter writer) throws IOException {
-        serializeWithoutWitnesses(writer);
+        if (unsignedBytes != null) {
+            writer.write(unsignedBytes);
+        } else {
+            serializeWithoutWitnesses(writer);
+        }
         this.witnesses.sort(Comparator.comparing(Witness::getScriptHash));
         writer.writeSerializableVariable(this.witnesses);
     }
@@ -238,15 +305,18 @@ public class Transaction extends NeoSerializable {
      * @return the serialized transaction
      */
     public byte[] toArrayWithoutWitnesses() {
-        try (ByteArrayOutputStream ms = new ByteArrayOutputStream()) {
-            try (BinaryWriter writer = new BinaryWriter(ms)) {
-                serializeWithoutWitnesses(writer);
-                writer.flush();
-                return ms.toByteArray();
+        return getUnsignedBytes().clone();
+    }
+
+    private byte[] getUnsignedBytes() {
+        if (unsignedBytes == null) {
+            try {
+                unsignedBytes = ByteBufferWriter.toByteArray(this::serializeWithoutWitnesses);
+            } catch (IOException ex) {
+                throw new UnsupportedOperationException(ex);
             }
-        } catch (IOException ex) {
-            throw new UnsupportedOperationException(ex);
         }
+        return unsignedBytes;
     }
 
     /**
@@ -258,16 +328,22 @@ public class Transaction extends NeoSerializable {
      * @return the transaction data ready for hashing.
      */
     public byte[] getHashData() {
-        return ArrayUtils.concatenate(NeoConfig.magicNumber(), toArrayWithoutWitnesses());
+        return ArrayUtils.concatenate(NeoConfig.magicNumber(), getUnsignedBytes());
     }
 
     /**
      * Serializes this transaction to a raw byte array including witnesses.
+     * <p>
+     * The serialized form is cached until a witness is added.
      *
      * @return the serialized transaction.
      */
     @Override
     public byte[] toArray() {
-        return super.toArray();
+        if (bytes == null) {
+            getUnsignedBytes();
+            bytes = super.toArray();
+        }
+        return bytes.clone();
     }
 }
@@ -59,10 +59,14 @@ public abstract class TransactionAttribute extends NeoSerializable {
 
         try {
             TransactionAttributeType type = TransactionAttributeType.valueOf(reader.readByte());
-            TransactionAttribute a = type.clazz().newInstance();
+            if (type.factory() == null) {
+                throw new DeserializationException("Transaction attributes of type " + type
+                        + " cannot be deserialized.");
+            }
+            TransactionAttribute a = type.factory().get();
             a.deserializeWithoutType(reader);
             return a;
-        } catch (IOException | IllegalAccessException | InstantiationException e) {
+        } catch (IOException e) {
             throw new DeserializationException(e);
         }
     }
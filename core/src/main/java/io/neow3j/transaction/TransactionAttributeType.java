@@ -3,22 +3,27 @@ package io.neow3j.transaction;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 
+import java.util.function.Supplier;
+
 public enum TransactionAttributeType {
 
     /**
      * This is just a placeholder. In future new attribute types might be added.
      */
-    VOID("Void", 0x00, null);
+    VOID("Void", 0x00, null, null);
 
     private String jsonValue;
     private byte byteValue;
     private Class<? extends TransactionAttribute> clazz;
+    private Supplier<? extends TransactionAttribute> factory;
 
     TransactionAttributeType(String jsonValue, int byteValue,
-            Class<? extends TransactionAttribute> clazz) {
+            Class<? extends TransactionAttribute> clazz,
+            Supplier<? extends TransactionAttribute> factory) {
         this.jsonValue = jsonValue;
         this.byteValue = (byte) byteValue;
         this.clazz = clazz;
+        this.factory = factory;
     }
 
     public static TransactionAttributeType valueOf(byte byteValue) {
@@ -63,4 +68,12 @@ public enum TransactionAttributeType {
         return this.clazz;
     }
 
+    /**
+     * @return the factory that creates empty attributes of this type, or null if this type has no
+     * attribute class.
+     */
+    public Supplier<? extends TransactionAttribute> factory() {
+        return this.factory;
+    }
+
 }
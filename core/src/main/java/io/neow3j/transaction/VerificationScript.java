@@ -9,6 +9,7 @@ import io.neow3j.contract.ScriptBuilder;
 import io.neow3j.contract.ScriptHash;
 import io.neow3j.crypto.ECKeyPair.ECPublicKey;
 import io.neow3j.io.BinaryReader;
+import io.neow3j.io.ByteBufferReader;
 import io.neow3j.io.BinaryWriter;
 import io.neow3j.io.IOUtils;
 import io.neow3j.io.NeoSerializable;
@@ -128,7 +129,7 @@ public class VerificationScript extends NeoSerializable {
             return 1;
         } else if (isMultiSigScript()) {
             try {
-                return new BinaryReader(script).readPushInteger();
+                return new ByteBufferReader(script).readPushInteger();
             } catch (DeserializationException e) {
                 throw new RuntimeException(e);
             }
@@ -176,7 +177,7 @@ public class VerificationScript extends NeoSerializable {
             return false;
         }
         try {
-            BinaryReader reader = new BinaryReader(this.script);
+            BinaryReader reader = new ByteBufferReader(this.script);
             int n = reader.readPushInteger(); // Signing Threshold (n of m)
             if (n < 1 || n > NeoConstants.MAX_PUBLIC_KEYS_PER_MULTISIG_ACCOUNT) {
                 return false;
@@ -233,7 +234,7 @@ public class VerificationScript extends NeoSerializable {
      * @return the list of public keys encoded in this script.
      */
     public List<ECPublicKey> getPublicKeys() {
-        BinaryReader reader = new BinaryReader(this.script);
+        BinaryReader reader = new ByteBufferReader(this.script);
         List<ECPublicKey> keys = new ArrayList<>();
         try {
             if (isSingleSigScript()) {
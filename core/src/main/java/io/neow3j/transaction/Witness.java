@@ -153,8 +153,8 @@ public class Witness extends NeoSerializable {
 
     @Override
     public void deserialize(BinaryReader reader) throws DeserializationException {
-        this.invocationScript = reader.readSerializable(InvocationScript.class);
-        this.verificationScript = reader.readSerializable(VerificationScript.class);
+        this.invocationScript = reader.readSerializable(InvocationScript::new);
+        this.verificationScript = reader.readSerializable(VerificationScript::new);
         this.scriptHash = verificationScript.getScriptHash();
     }
 
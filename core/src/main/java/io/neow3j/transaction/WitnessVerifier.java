@@ -0,0 +1,223 @@
+package io.neow3j.transaction;
+
+import io.neow3j.contract.ScriptHash;
+import io.neow3j.crypto.ECDSASignature;
+import io.neow3j.crypto.ECKeyPair.ECPublicKey;
+import io.neow3j.crypto.Hash;
+import io.neow3j.crypto.Sign;
+import io.neow3j.crypto.Sign.SignatureData;
+import io.neow3j.transaction.exceptions.ScriptFormatException;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Collectors;
+
+/**
+ * <p>Verifies the witnesses of transactions locally, i.e., without invoking their verification
+ * scripts on a Neo node.</p>
+ * <br>
+ * <p>A transaction is valid if each of its signers has a witness and each witness is valid. A
+ * witness of a single-signature account is valid if its invocation script pushes one signature
+ * of the account's public key. A witness of a multi-signature account is valid if its invocation
+ * script pushes exactly as many signatures as the signing threshold of the account, and if they
+ * are signatures of the account's public keys in the order of the verification script. Witnesses
+ * with any other verification script cannot be verified locally and are invalid.</p>
+ * <br>
+ * <p>If a {@link ForkJoinPool} is given and there are enough witnesses, the witnesses are
+ * verified in parallel on the pool.</p>
+ */
+public class WitnessVerifier {
+
+    /**
+     * The minimum number of witnesses for which verification is split into parallel tasks.
+     */
+    public static final int DEFAULT_PARALLELISM_THRESHOLD = 16;
+
+    // The number of witnesses below which a task does not split any further.
+    private static final int MIN_TASK_SIZE = 4;
+
+    private final ForkJoinPool pool;
+    private final int parallelismThreshold;
+
+    /**
+     * Creates a {@link WitnessVerifier} that verifies witnesses on the calling thread.
+     */
+    public WitnessVerifier() {
+        this(null, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a {@link WitnessVerifier} that verifies many witnesses in parallel.
+     *
+     * @param pool the pool to verify witnesses on.
+     */
+    public WitnessVerifier(ForkJoinPool pool) {
+        this(pool, DEFAULT_PARALLELISM_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@link WitnessVerifier} that verifies many witnesses in parallel.
+     *
+     * @param pool                 the pool to verify witnesses on.
+     * @param parallelismThreshold the minimum number of witnesses to verify them in parallel.
+     */
+    public WitnessVerifier(ForkJoinPool pool, int parallelismThreshold) {
+        this.pool = pool;
+        this.parallelismThreshold = parallelismThreshold;
+    }
+
+    /**
+     * Verifies the witnesses of the given transaction.
+     *
+     * @param transaction the transaction.
+     * @return true if the transaction has a valid witness for each signer. False, otherwise.
+     */
+    public boolean verify(Transaction transaction) {
+        List<Transaction> transactions = new ArrayList<>(1);
+        transactions.add(transaction);
+        return verifyAll(transactions)[0];
+    }
+
+    /**
+     * Verifies the witnesses of the given transactions.
+     *
+     * @param transactions the transactions.
+     * @return whether each transaction has a valid witness for each signer, in the order of the
+     * given transactions.
+     */
+    public boolean[] verifyAll(List<Transaction> transactions) {
+        boolean[] results = new boolean[transactions.size()];
+        List<WitnessCheck> checks = new ArrayList<>();
+        // The public keys are decoded once per verification script, so that witnesses of the
+        // same account share the key objects and their precomputed points.
+        Map<ByteBuffer, List<ECPublicKey>> publicKeysByScript = new HashMap<>();
+        for (int i = 0; i < transactions.size(); i++) {
+            Transaction tx = transactions.get(i);
+            results[i] = hasWitnessForEachSigner(tx);
+            if (!results[i]) {
+                continue;
+            }
+            byte[] hash = Hash.sha256(tx.getHashData());
+            for (Witness witness : tx.getWitnesses()) {
+                VerificationScript verificationScript = witness.getVerificationScript();
+                List<ECPublicKey> publicKeys = null;
+                if (isVerifiable(verificationScript)) {
+                    publicKeys = publicKeysByScript.computeIfAbsent(
+                            ByteBuffer.wrap(verificationScript.getScript()),
+                            script -> verificationScript.getPublicKeys());
+                }
+                checks.add(new WitnessCheck(i, hash, witness, publicKeys));
+            }
+        }
+
+        VerifyTask task = new VerifyTask(checks, 0, checks.size());
+        if (pool != null && checks.size() >= parallelismThreshold) {
+            pool.invoke(task);
+        } else {
+            task.verifyRange();
+        }
+        for (WitnessCheck check : checks) {
+            results[check.transaction] &= check.valid;
+        }
+        return results;
+    }
+
+    private static boolean hasWitnessForEachSigner(Transaction tx) {
+        List<ScriptHash> witnesses = tx.getWitnesses().stream()
+                .map(Witness::getScriptHash).collect(Collectors.toList());
+        return tx.getSigners().stream()
+                .allMatch(signer -> witnesses.contains(signer.getScriptHash()));
+    }
+
+    private static boolean isVerifiable(VerificationScript verificationScript) {
+        return verificationScript != null && (verificationScript.isSingleSigScript()
+                || verificationScript.isMultiSigScript());
+    }
+
+    private static boolean verifyWitness(byte[] hash, Witness witness,
+            List<ECPublicKey> publicKeys) {
+        if (publicKeys == null) {
+            return false;
+        }
+        List<SignatureData> signatures;
+        try {
+            signatures = witness.getInvocationScript().getSignatures();
+        } catch (ScriptFormatException e) {
+            return false;
+        }
+        if (signatures.size() != witness.getVerificationScript().getSigningThreshold()) {
+            return false;
+        }
+        // The signatures must belong to the public keys in the order of the script. Each public
+        // key can only be used for one signature.
+        int key = 0;
+        for (SignatureData signatureData : signatures) {
+            ECDSASignature signature = new ECDSASignature(
+                    new BigInteger(1, signatureData.getR()),
+                    new BigInteger(1, signatureData.getS()));
+            while (key < publicKeys.size()
+                    && !Sign.verify(hash, signature, publicKeys.get(key))) {
+                key++;
+            }
+            if (key == publicKeys.size()) {
+                return false;
+            }
+            key++;
+        }
+        return true;
+    }
+
+    private static class WitnessCheck {
+
+        private final int transaction;
+        private final byte[] hash;
+        private final Witness witness;
+        // The decoded public keys of the witness, or null if it cannot be verified locally.
+        private final List<ECPublicKey> publicKeys;
+        private boolean valid;
+
+        WitnessCheck(int transaction, byte[] hash, Witness witness,
+                List<ECPublicKey> publicKeys) {
+            this.transaction = transaction;
+            this.hash = hash;
+            this.witness = witness;
+            this.publicKeys = publicKeys;
+        }
+    }
+
+    private static class VerifyTask extends RecursiveAction {
+
+        private final List<WitnessCheck> checks;
+        private final int from;
+        private final int to;
+
+        VerifyTask(List<WitnessCheck> checks, int from, int to) {
+            this.checks = checks;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= MIN_TASK_SIZE) {
+                verifyRange();
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new VerifyTask(checks, from, middle), new VerifyTask(checks, middle, to));
+        }
+
+        void verifyRange() {
+            for (int i = from; i < to; i++) {
+                WitnessCheck check = checks.get(i);
+                check.valid = verifyWitness(check.hash, check.witness, check.publicKeys);
+            }
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package io.neow3j.utils;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
@@ -14,29 +17,35 @@ import static java.util.Optional.ofNullable;
  */
 public class Async {
 
-    private static final ExecutorService DEFAULT_EXECUTOR = Executors.newCachedThreadPool();
+    private static final ExecutorService CACHED_EXECUTOR = Executors.newCachedThreadPool();
+
+    private static volatile ExecutorService defaultExecutor = CACHED_EXECUTOR;
 
     static {
-        Runtime.getRuntime().addShutdownHook(new Thread(() -> shutdown(DEFAULT_EXECUTOR)));
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> shutdown(CACHED_EXECUTOR)));
     }
 
     public static <T> CompletableFuture<T> run(Callable<T> callable, ExecutorService executor) {
-        ExecutorService executorService = ofNullable(executor).orElse(DEFAULT_EXECUTOR);
+        ExecutorService executorService = ofNullable(executor).orElse(defaultExecutor);
         CompletableFuture<T> result = new CompletableFuture<>();
-        CompletableFuture.runAsync(() -> {
-            // we need to explicitly catch any exceptions,
-            // otherwise they will be silently discarded
-            try {
-                result.complete(callable.call());
-            } catch (Throwable e) {
-                result.completeExceptionally(e);
-            }
-        }, executorService);
+        try {
+            CompletableFuture.runAsync(() -> {
+                // we need to explicitly catch any exceptions,
+                // otherwise they will be silently discarded
+                try {
+                    result.complete(callable.call());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            }, executorService);
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
         return result;
     }
 
     public static <T> CompletableFuture<T> run(Callable<T> callable) {
-        return run(callable, DEFAULT_EXECUTOR);
+        return run(callable, defaultExecutor);
     }
 
     /**
@@ -45,7 +54,76 @@ public class Async {
      * @return the default instance of {@link ExecutorService}.
      */
     public static ExecutorService getDefaultExecutor() {
-        return DEFAULT_EXECUTOR;
+        return defaultExecutor;
+    }
+
+    /**
+     * <p>Sets the default {@link ExecutorService} used on asynchronous calls of services that
+     * were not given their own executor.</p>
+     * <br>
+     * <p>By default, an unbounded cached thread pool is used. Applications that send many
+     * requests concurrently can use {@link #newBoundedExecutor(int, int)} or
+     * {@link #newVirtualThreadExecutor()} instead.</p>
+     *
+     * @param executorService the executor, or null to restore the cached thread pool.
+     */
+    public static void setDefaultExecutor(ExecutorService executorService) {
+        defaultExecutor = ofNullable(executorService).orElse(CACHED_EXECUTOR);
+    }
+
+    /**
+     * Creates a thread pool with a bounded number of threads and a bounded task queue, which
+     * keeps track of its queue size and rejected tasks.
+     *
+     * @param maxThreads    the maximum number of threads.
+     * @param queueCapacity the maximum number of tasks waiting for a thread.
+     * @return the new executor.
+     */
+    public static MeteredThreadPoolExecutor newBoundedExecutor(int maxThreads,
+            int queueCapacity) {
+        return new MeteredThreadPoolExecutor(maxThreads, queueCapacity);
+    }
+
+    /**
+     * Checks if the running JVM supports virtual threads.
+     *
+     * @return true if virtual threads are supported, false otherwise.
+     */
+    public static boolean isVirtualThreadSupported() {
+        return getVirtualThreadExecutorFactory() != null;
+    }
+
+    /**
+     * <p>Creates an executor that starts a new virtual thread for each task.</p>
+     * <br>
+     * <p>Virtual threads are only available on Java 21 and newer. A virtual thread that blocks
+     * on IO does not block a platform thread, so a large number of requests can wait for their
+     * responses at the same time.</p>
+     *
+     * @return the new executor.
+     * @throws UnsupportedOperationException if the running JVM does not support virtual threads.
+     */
+    public static ExecutorService newVirtualThreadExecutor() {
+        Method factory = getVirtualThreadExecutorFactory();
+        if (factory == null) {
+            throw new UnsupportedOperationException(
+                    "Virtual threads are not supported by this JVM.");
+        }
+        try {
+            return (ExecutorService) factory.invoke(null);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new UnsupportedOperationException("Failed to create virtual thread executor.",
+                    e);
+        }
+    }
+
+    // Looked up reflectively, so that the library still runs on Java 8.
+    private static Method getVirtualThreadExecutorFactory() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
     }
 
     private static int getCpuCount() {
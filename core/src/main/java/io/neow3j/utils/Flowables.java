@@ -0,0 +1,47 @@
+package io.neow3j.utils;
+
+import io.reactivex.Flowable;
+
+import java.math.BigInteger;
+
+/**
+ * Flowable utility functions.
+ */
+public class Flowables {
+
+    public static Flowable<BigInteger> range(
+            final BigInteger startValue, final BigInteger endValue) {
+        return range(startValue, endValue, true);
+    }
+
+    /**
+     * <p>Flowable implementation to emit a range of BigInteger values.</p>
+     * <br>
+     * <p>Values are only generated as they are requested downstream.</p>
+     *
+     * @param startValue first value to emit in range
+     * @param endValue   final value to emit in range
+     * @param ascending  direction to iterate through range
+     * @return Flowable to emit this range of values
+     */
+    public static Flowable<BigInteger> range(
+            final BigInteger startValue, final BigInteger endValue, final boolean ascending) {
+        if (startValue.compareTo(BigInteger.ZERO) == -1) {
+            throw new IllegalArgumentException("Negative start index cannot be used");
+        } else if (startValue.compareTo(endValue) > 0) {
+            throw new IllegalArgumentException(
+                    "Negative start index cannot be greater then end index");
+        }
+
+        final BigInteger first = ascending ? startValue : endValue;
+        final BigInteger last = ascending ? endValue : startValue;
+        final BigInteger step = ascending ? BigInteger.ONE : BigInteger.ONE.negate();
+        return Flowable.generate(() -> first, (current, emitter) -> {
+            emitter.onNext(current);
+            if (current.equals(last)) {
+                emitter.onComplete();
+            }
+            return current.add(step);
+        });
+    }
+}
@@ -0,0 +1,95 @@
+package io.neow3j.utils;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>A thread pool with a fixed maximum number of threads and a bounded task queue, which keeps
+ * track of how busy it is.</p>
+ * <br>
+ * <p>Tasks that are submitted while all threads are busy and the queue is full are rejected with
+ * a {@link RejectedExecutionException}.</p>
+ */
+public class MeteredThreadPoolExecutor extends ThreadPoolExecutor {
+
+    private final int queueCapacity;
+    private final AtomicLong rejectedTaskCount = new AtomicLong();
+    private final AtomicInteger peakQueueSize = new AtomicInteger();
+
+    /**
+     * Creates a {@link MeteredThreadPoolExecutor}. Idle threads are terminated after 60 seconds.
+     *
+     * @param maxThreads    the maximum number of threads.
+     * @param queueCapacity the maximum number of tasks waiting for a thread.
+     */
+    public MeteredThreadPoolExecutor(int maxThreads, int queueCapacity) {
+        super(maxThreads, maxThreads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new DaemonThreadFactory());
+        this.queueCapacity = queueCapacity;
+        allowCoreThreadTimeOut(true);
+        setRejectedExecutionHandler(new CountingAbortPolicy());
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        super.execute(command);
+        peakQueueSize.accumulateAndGet(getQueue().size(), Math::max);
+    }
+
+    /**
+     * @return the number of tasks currently waiting for a thread.
+     */
+    public int getQueueSize() {
+        return getQueue().size();
+    }
+
+    /**
+     * @return the maximum number of tasks that can wait for a thread.
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * @return the highest number of tasks that were waiting for a thread at the same time.
+     */
+    public int getPeakQueueSize() {
+        return peakQueueSize.get();
+    }
+
+    /**
+     * @return the number of tasks that were rejected because the queue was full.
+     */
+    public long getRejectedTaskCount() {
+        return rejectedTaskCount.get();
+    }
+
+    private class CountingAbortPolicy implements RejectedExecutionHandler {
+
+        @Override
+        public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+            rejectedTaskCount.incrementAndGet();
+            throw new RejectedExecutionException(String.format(
+                    "Task rejected because all %d threads are busy and %d tasks are queued.",
+                    executor.getMaximumPoolSize(), queueCapacity));
+        }
+    }
+
+    private static class DaemonThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "neow3j-async-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
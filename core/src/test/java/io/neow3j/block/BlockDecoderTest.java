@@ -0,0 +1,158 @@
+package io.neow3j.block;
+
+import static io.neow3j.block.BlockTest.BLOCK;
+import static io.neow3j.block.BlockTest.MERKLE_ROOT;
+import static io.neow3j.block.BlockTest.TX_ID;
+import static io.neow3j.block.BlockTest.UNSIGNED_HEADER;
+import static io.neow3j.block.BlockTest.WITNESS;
+import static io.neow3j.crypto.Hash.hash256;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import io.neow3j.contract.ScriptHash;
+import io.neow3j.crypto.ECKeyPair.ECPublicKey;
+import io.neow3j.io.exceptions.DeserializationException;
+import io.neow3j.transaction.Signer;
+import io.neow3j.transaction.Transaction;
+import io.neow3j.transaction.Witness;
+import io.neow3j.transaction.WitnessScope;
+import io.neow3j.utils.Numeric;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class BlockDecoderTest {
+
+    private static final ScriptHash ACCOUNT =
+            new ScriptHash("969a77db482f74ce27105f760efa139223431394");
+    private static final ECPublicKey GROUP = new ECPublicKey(Numeric.hexStringToByteArray(
+            "03b209fd4f53a7170ea4444e0cb0a6bb6a53c2bd016926989cf85f9b0fba17a70c"));
+
+    private static ForkJoinPool pool;
+
+    @BeforeClass
+    public static void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void decodeSequentially() throws DeserializationException {
+        Block block = new BlockDecoder().decode(BLOCK);
+
+        assertThat(block.getIndex(), is(1234L));
+        assertThat(block.getTransactions(), hasSize(1));
+        assertThat(block.getTransactionIds(), contains(TX_ID));
+        assertThat(block.computeMerkleRoot(), is(MERKLE_ROOT));
+        assertThat(Numeric.toHexStringNoPrefix(block.toArray()), is(BLOCK));
+    }
+
+    @Test
+    public void decodeInParallel() throws DeserializationException {
+        Block expected = createBlock(300);
+        byte[] serialized = expected.toArray();
+
+        Block block = new BlockDecoder(pool, 2).decode(serialized);
+
+        assertThat(block.getTransactions(), hasSize(300));
+        for (int i = 0; i < 300; i++) {
+            assertThat(block.getTransactions().get(i).getNonce(), is((long) i));
+        }
+        assertThat(block.getTransactionIds(), is(expected.getTransactionIds()));
+        assertTrue(block.verifyMerkleRoot());
+        assertArrayEquals(serialized, block.toArray());
+    }
+
+    @Test
+    public void decodeBelowParallelismThreshold() throws DeserializationException {
+        Block expected = createBlock(10);
+
+        Block block = new BlockDecoder(pool).decode(expected.toArray());
+
+        assertThat(block.getTransactionIds(), is(expected.getTransactionIds()));
+        assertTrue(block.verifyMerkleRoot());
+    }
+
+    @Test
+    public void decodeWithCustomScopes() throws DeserializationException {
+        Signer signer = new Signer.Builder()
+                .account(ACCOUNT)
+                .scopes(WitnessScope.CUSTOM_CONTRACTS, WitnessScope.CUSTOM_GROUPS)
+                .allowedContracts(ACCOUNT, new ScriptHash())
+                .allowedGroups(GROUP)
+                .build();
+        Block expected = createBlock(Collections.singletonList(createTransaction(0, signer)));
+
+        Block block = new BlockDecoder(pool, 1).decode(expected.toArray());
+
+        assertThat(block.getTransactions().get(0).getSigners().get(0).getAllowedGroups(),
+                contains(GROUP));
+        assertThat(block.getTransactionIds(), is(expected.getTransactionIds()));
+    }
+
+    @Test(expected = DeserializationException.class)
+    public void decodeTruncatedBlock() throws DeserializationException {
+        new BlockDecoder(pool, 1).decode(BLOCK.substring(0, BLOCK.length() - 2));
+    }
+
+    @Test(expected = DeserializationException.class)
+    public void decodeBlockWithTrailingData() throws DeserializationException {
+        new BlockDecoder(pool, 1).decode(BLOCK + "00");
+    }
+
+    @Test(expected = DeserializationException.class)
+    public void decodeBlockWithInvalidTransaction() throws DeserializationException {
+        // A signer with more allowed contracts than permitted
+        StringBuilder transaction = new StringBuilder(
+                "0062bdaa0ec272890000000000a65a13000000000099232000"
+                        + "01941343239213fa0e765f1027ce742f48db779a9610" + "11");
+        for (int i = 0; i < 17; i++) {
+            transaction.append("941343239213fa0e765f1027ce742f48db779a96");
+        }
+        transaction.append("0001110101000100");
+        new BlockDecoder(pool, 1).decode(UNSIGNED_HEADER + WITNESS + "02"
+                + "028877665544332211" + transaction);
+    }
+
+    private static Block createBlock(int transactionCount) {
+        List<Transaction> transactions = new ArrayList<>();
+        Signer signer = Signer.calledByEntry(ACCOUNT);
+        for (int i = 0; i < transactionCount; i++) {
+            transactions.add(createTransaction(i, signer));
+        }
+        return createBlock(transactions);
+    }
+
+    private static Block createBlock(List<Transaction> transactions) {
+        ConsensusData consensusData = new ConsensusData(1, 42L);
+        List<byte[]> hashes = new ArrayList<>();
+        hashes.add(hash256(consensusData.toArray()));
+        for (Transaction tx : transactions) {
+            hashes.add(hash256(tx.getHashData()));
+        }
+        return new Block(0, new byte[32], MerkleTree.computeRoot(hashes), 1600000000000L, 7,
+                ACCOUNT, new Witness(new byte[]{0x00}, new byte[]{0x00}), consensusData,
+                transactions);
+    }
+
+    private static Transaction createTransaction(long nonce, Signer signer) {
+        return new Transaction(null, (byte) 0, nonce, 2106265L,
+                Collections.singletonList(signer), 9007810L, 1264390L, new ArrayList<>(),
+                new byte[]{0x11}, new ArrayList<>(Arrays.asList(
+                        new Witness(new byte[]{0x01, 0x02}, new byte[]{0x03}))));
+    }
+}
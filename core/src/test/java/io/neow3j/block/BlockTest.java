@@ -0,0 +1,138 @@
+package io.neow3j.block;
+
+import static io.neow3j.crypto.Hash.hash256;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import io.neow3j.contract.ScriptHash;
+import io.neow3j.io.NeoSerializableInterface;
+import io.neow3j.io.exceptions.DeserializationException;
+import io.neow3j.transaction.Transaction;
+import io.neow3j.transaction.Witness;
+import io.neow3j.utils.ArrayUtils;
+import io.neow3j.utils.Numeric;
+
+import java.util.Arrays;
+import org.junit.Test;
+
+public class BlockTest {
+
+    static final String PREV_HASH =
+            "4534231201f0e1d2c3b0a1a5f9b0a0e3a44eb1f5a6c6e8486c4b6b6a0a3d819c";
+    static final String MERKLE_ROOT =
+            "239081a69241b5ce88a4f48d1a092c0c90293d3a75dbe830a035fa99e6398680";
+    static final String BLOCK_HASH =
+            "a15d39de308c674f49f75cb859e106f933663d5588f2217202aebfbb24d42171";
+
+    static final String UNSIGNED_HEADER = ""
+            + "00000000" // version
+            + "9c813d0a6a6b4b6c48e8c6a6f5b14ea4e3a0b0f9a5a1b0c3d2e1f00112233445" // prev hash
+            + "808639e699fa35a030e8db753a3d29900c2c091a8df4a488ceb54192a6819023" // merkle root
+            + "00806e8774010000" // timestamp
+            + "d2040000" // index
+            + "941343239213fa0e765f1027ce742f48db779a96"; // next consensus
+    static final String WITNESS = "01" + "0100" + "0100";
+
+    static final String TRANSACTION = "0062bdaa0ec272890000000000a65a13000000000099232000"
+            + "01941343239213fa0e765f1027ce742f48db779a96010001110101000100";
+    static final String TX_ID =
+            "b8aa3e48ca7b5230ca8579728abf6411cf9155591bf7925018b0df2cec7f993e";
+
+    static final String BLOCK = UNSIGNED_HEADER + WITNESS
+            + "02" // consensus data and one transaction
+            + "02" + "8877665544332211" // consensus data
+            + TRANSACTION;
+
+    @Test
+    public void deserialize() throws DeserializationException {
+        Block block = NeoSerializableInterface.from(
+                Numeric.hexStringToByteArray(BLOCK), Block.class);
+
+        assertThat(block.getVersion(), is(0L));
+        assertThat(block.getPrevHash(), is(PREV_HASH));
+        assertThat(block.getMerkleRoot(), is(MERKLE_ROOT));
+        assertThat(block.getTimestamp(), is(1600000000000L));
+        assertThat(block.getIndex(), is(1234L));
+        assertThat(block.getNextConsensus(),
+                is(new ScriptHash("969a77db482f74ce27105f760efa139223431394")));
+        assertArrayEquals(new byte[]{0x00}, block.getWitness().getInvocationScript().getScript());
+        assertArrayEquals(new byte[]{0x00},
+                block.getWitness().getVerificationScript().getScript());
+        assertThat(block.getConsensusData().getPrimaryIndex(), is(2));
+        assertThat(block.getConsensusData().getNonce(), is(0x1122334455667788L));
+        assertThat(block.getTransactions(), hasSize(1));
+        assertThat(block.getTransactions().get(0).getTxId(), is(TX_ID));
+    }
+
+    @Test
+    public void serialize() throws DeserializationException {
+        byte[] serialized = Numeric.hexStringToByteArray(BLOCK);
+        Block block = NeoSerializableInterface.from(serialized, Block.class);
+
+        assertArrayEquals(serialized, block.toArray());
+        assertThat(block.getSize(), is(serialized.length));
+    }
+
+    @Test
+    public void hash() throws DeserializationException {
+        Block block = NeoSerializableInterface.from(
+                Numeric.hexStringToByteArray(BLOCK), Block.class);
+
+        assertThat(block.getHash(), is(BLOCK_HASH));
+        assertThat(block.getHeader().getHash(), is(BLOCK_HASH));
+        byte[] hashData = ArrayUtils.concatenate(new byte[]{0x4e, 0x45, 0x4F, 0x00},
+                Numeric.hexStringToByteArray(UNSIGNED_HEADER));
+        assertArrayEquals(hashData, block.getHashData());
+    }
+
+    @Test
+    public void verifyMerkleRoot() throws DeserializationException {
+        Block block = NeoSerializableInterface.from(
+                Numeric.hexStringToByteArray(BLOCK), Block.class);
+
+        assertThat(block.computeMerkleRoot(), is(MERKLE_ROOT));
+        assertTrue(block.verifyMerkleRoot());
+    }
+
+    @Test
+    public void verifyMerkleRootOfModifiedBlock() throws DeserializationException {
+        Block block = NeoSerializableInterface.from(
+                Numeric.hexStringToByteArray(BLOCK), Block.class);
+        Block modified = new Block(block.getVersion(),
+                ArrayUtils.reverseArray(Numeric.hexStringToByteArray(PREV_HASH)),
+                ArrayUtils.reverseArray(Numeric.hexStringToByteArray(MERKLE_ROOT)),
+                block.getTimestamp(), block.getIndex(), block.getNextConsensus(),
+                block.getWitness(), new ConsensusData(3, 0x1122334455667788L),
+                block.getTransactions());
+
+        assertFalse(modified.verifyMerkleRoot());
+    }
+
+    @Test
+    public void merkleRootWithoutTransactions() {
+        ConsensusData consensusData = new ConsensusData(0, 42L);
+        Block block = new Block(0, new byte[32], hash256(consensusData.toArray()), 0, 0,
+                new ScriptHash(), new Witness(new byte[]{0x00}, new byte[]{0x00}),
+                consensusData, Arrays.<Transaction>asList());
+
+        assertThat(block.computeMerkleRoot(), is(consensusData.getHash()));
+        assertTrue(block.verifyMerkleRoot());
+    }
+
+    @Test(expected = DeserializationException.class)
+    public void deserializeWithoutConsensusData() throws DeserializationException {
+        NeoSerializableInterface.from(
+                Numeric.hexStringToByteArray(UNSIGNED_HEADER + WITNESS + "00"), Block.class);
+    }
+
+    @Test(expected = DeserializationException.class)
+    public void deserializeWithTwoWitnesses() throws DeserializationException {
+        NeoSerializableInterface.from(Numeric.hexStringToByteArray(
+                UNSIGNED_HEADER + "02" + "0100" + "0100" + "0100" + "0100" + "01"
+                        + "028877665544332211"), Block.class);
+    }
+}
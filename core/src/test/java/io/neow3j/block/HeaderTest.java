@@ -0,0 +1,53 @@
+package io.neow3j.block;
+
+import static io.neow3j.block.BlockTest.BLOCK;
+import static io.neow3j.block.BlockTest.BLOCK_HASH;
+import static io.neow3j.block.BlockTest.MERKLE_ROOT;
+import static io.neow3j.block.BlockTest.UNSIGNED_HEADER;
+import static io.neow3j.block.BlockTest.WITNESS;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+
+import io.neow3j.io.NeoSerializableInterface;
+import io.neow3j.io.exceptions.DeserializationException;
+import io.neow3j.utils.Numeric;
+
+import org.junit.Test;
+
+public class HeaderTest {
+
+    private static final String HEADER = UNSIGNED_HEADER + WITNESS + "00";
+
+    @Test
+    public void deserialize() throws DeserializationException {
+        Header header = NeoSerializableInterface.from(
+                Numeric.hexStringToByteArray(HEADER), Header.class);
+
+        assertThat(header.getIndex(), is(1234L));
+        assertThat(header.getMerkleRoot(), is(MERKLE_ROOT));
+        assertThat(header.getHash(), is(BLOCK_HASH));
+    }
+
+    @Test
+    public void serialize() throws DeserializationException {
+        byte[] serialized = Numeric.hexStringToByteArray(HEADER);
+        Header header = NeoSerializableInterface.from(serialized, Header.class);
+
+        assertArrayEquals(serialized, header.toArray());
+        assertThat(header.getSize(), is(serialized.length));
+    }
+
+    @Test
+    public void headerOfBlock() throws DeserializationException {
+        Block block = NeoSerializableInterface.from(
+                Numeric.hexStringToByteArray(BLOCK), Block.class);
+
+        assertArrayEquals(Numeric.hexStringToByteArray(HEADER), block.getHeader().toArray());
+    }
+
+    @Test(expected = DeserializationException.class)
+    public void deserializeWithTransactions() throws DeserializationException {
+        NeoSerializableInterface.from(Numeric.hexStringToByteArray(BLOCK), Header.class);
+    }
+}
@@ -0,0 +1,52 @@
+package io.neow3j.block;
+
+import static io.neow3j.crypto.Hash.hash256;
+import static org.junit.Assert.assertArrayEquals;
+
+import io.neow3j.utils.ArrayUtils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.Test;
+
+public class MerkleTreeTest {
+
+    private static final byte[] HASH_1 = hash256(new byte[]{0x01});
+    private static final byte[] HASH_2 = hash256(new byte[]{0x02});
+    private static final byte[] HASH_3 = hash256(new byte[]{0x03});
+    private static final byte[] HASH_4 = hash256(new byte[]{0x04});
+
+    @Test
+    public void singleHash() {
+        assertArrayEquals(HASH_1, MerkleTree.computeRoot(Collections.singletonList(HASH_1)));
+    }
+
+    @Test
+    public void twoHashes() {
+        byte[] expected = hash256(ArrayUtils.concatenate(HASH_1, HASH_2));
+        assertArrayEquals(expected, MerkleTree.computeRoot(Arrays.asList(HASH_1, HASH_2)));
+    }
+
+    @Test
+    public void oddNumberOfHashes() {
+        byte[] expected = hash256(ArrayUtils.concatenate(
+                hash256(ArrayUtils.concatenate(HASH_1, HASH_2)),
+                hash256(ArrayUtils.concatenate(HASH_3, HASH_3))));
+        assertArrayEquals(expected,
+                MerkleTree.computeRoot(Arrays.asList(HASH_1, HASH_2, HASH_3)));
+    }
+
+    @Test
+    public void fourHashes() {
+        byte[] expected = hash256(ArrayUtils.concatenate(
+                hash256(ArrayUtils.concatenate(HASH_1, HASH_2)),
+                hash256(ArrayUtils.concatenate(HASH_3, HASH_4))));
+        assertArrayEquals(expected,
+                MerkleTree.computeRoot(Arrays.asList(HASH_1, HASH_2, HASH_3, HASH_4)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void noHashes() {
+        MerkleTree.computeRoot(Collections.emptyList());
+    }
+}
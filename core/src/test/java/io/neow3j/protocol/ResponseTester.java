@@ -34,7 +34,12 @@ public abstract class ResponseTester {
     }
 
     protected void configureWeb3Service(boolean includeRawResponses) {
+        configureWeb3Service(includeRawResponses, false);
+    }
+
+    protected void configureWeb3Service(boolean includeRawResponses, boolean streaming) {
         neow3jService = new HttpService(okHttpClient, includeRawResponses);
+        neow3jService.setStreaming(streaming);
     }
 
     protected <T extends Response> T deserialiseResponse(Class<T> type) {
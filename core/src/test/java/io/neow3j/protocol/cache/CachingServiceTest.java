@@ -0,0 +1,312 @@
+package io.neow3j.protocol.cache;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.ObjectMapperFactory;
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
+import io.neow3j.protocol.core.BlockParameterIndex;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.core.methods.response.NeoApplicationLog;
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+import io.neow3j.protocol.core.methods.response.NeoGetApplicationLog;
+import io.neow3j.protocol.core.methods.response.NeoGetBlock;
+import io.neow3j.protocol.core.methods.response.NeoGetTransaction;
+import io.neow3j.protocol.core.methods.response.Transaction;
+import io.neow3j.protocol.notifications.Notification;
+import io.reactivex.Observable;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class CachingServiceTest {
+
+    private static final String BLOCK = "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":{"
+            + "\"hash\":\"0x1de7e5eaab0f74ac38f5191c038e009d3c93ef5c392d1d66fa95ab164ba308b8\","
+            + "\"size\":1217,\"version\":0,"
+            + "\"previousblockhash\":"
+            + "\"0x045cabde4ecbd50f5e4e1b141eaf0842c1f5f56517324c8dcab8ccac924e3a39\","
+            + "\"merkleroot\":\"0x6afa63201b88b55ad2213e5a69a1ad5f0db650bc178fc2bedd2fb301c1278bf7\","
+            + "\"time\":1539968858,\"index\":1914006,"
+            + "\"nextconsensus\":\"AWZo4qAxhT8fwKL93QATSjCYCgHmCY1XLB\","
+            + "\"witnesses\":[{\"invocation\":\"DEBJVWapboNkCDlH9uu+tStOgGnwODlo\","
+            + "\"verification\":\"EQwhA/HsPB4oPogN5unEifDyfBkAfFM4WqpMDJF8MgB57a3yEQtBMHOzuw==\"}],"
+            + "\"consensusdata\":{\"primary\":0,\"nonce\":\"45fba5f11cb04667\"},"
+            + "\"tx\":[" + transaction() + "],"
+            + "\"confirmations\":7878,"
+            + "\"nextblockhash\":\"0x4a97ca89199627f877b6bffe865b8327be84b368d62572ef20953829c3501643\""
+            + "}}";
+
+    private static final String LATEST_BLOCK = "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":{"
+            + "\"hash\":\"0x1de7e5eaab0f74ac38f5191c038e009d3c93ef5c392d1d66fa95ab164ba308b8\","
+            + "\"index\":1914006,\"confirmations\":1}}";
+
+    private static final String TRANSACTION =
+            "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":" + transaction() + "}";
+
+    private static final String APPLICATION_LOG = "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":{"
+            + "\"txid\":\"0x01bcf2edbd27abb8d660b6a06113b84d02f635fed836ce46a38b4d67eae80109\","
+            + "\"trigger\":\"Application\",\"vmstate\":\"HALT\",\"gasconsumed\":\"9007810\","
+            + "\"stack\":[{\"type\":\"Integer\",\"value\":\"1\"}],"
+            + "\"notifications\":[{\"contract\":\"0x668e0c1f9d7b70a99dd9e06eadd4c784d641afbc\","
+            + "\"eventname\":\"Transfer\",\"state\":{\"type\":\"Array\",\"value\":["
+            + "{\"type\":\"ByteString\",\"value\":\"VHJhbnNmZXI=\"},{\"type\":\"Any\"},"
+            + "{\"type\":\"Integer\",\"value\":\"600000000\"}]}}]}}";
+
+    private static final String ERROR = "{\"jsonrpc\":\"2.0\",\"id\":1,"
+            + "\"error\":{\"code\":-100,\"message\":\"Unknown block\"}}";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private StubService stub;
+    private CachingService cachingService;
+    private Neow3j neow3j;
+
+    @Before
+    public void setUp() {
+        stub = new StubService();
+        cachingService = new CachingService(stub, 1024 * 1024);
+        neow3j = Neow3j.build(cachingService);
+    }
+
+    @Test
+    public void testBlockIsCached() throws IOException {
+        stub.replies.put("getblock", BLOCK);
+
+        NeoGetBlock first = neow3j.getBlock(new BlockParameterIndex(1914006), true).send();
+        NeoGetBlock second = neow3j.getBlock(new BlockParameterIndex(1914006), true).send();
+
+        assertThat(stub.calls, is(1));
+        assertThat(second, not(sameInstance(first)));
+        assertThat(second.getBlock(), is(first.getBlock()));
+        assertThat(cachingService.getStats().getMemoryHitCount(), is(1L));
+        assertThat(cachingService.getStats().getMissCount(), is(1L));
+        assertThat(cachingService.getStats().getEntryCount(), is(1));
+    }
+
+    @Test
+    public void testDifferentParamsAreCachedSeparately() throws IOException {
+        stub.replies.put("getblock", BLOCK);
+        stub.replies.put("getblockheader", BLOCK);
+
+        neow3j.getBlock(new BlockParameterIndex(1), true).send();
+        neow3j.getBlock(new BlockParameterIndex(2), true).send();
+        neow3j.getBlock(new BlockParameterIndex(1), false).send();
+        neow3j.getBlock(new BlockParameterIndex(1), true).send();
+
+        // getBlock with false is a getblockheader request
+        assertThat(stub.calls, is(3));
+    }
+
+    @Test
+    public void testTransactionAndApplicationLogAreCached() throws Exception {
+        stub.replies.put("getrawtransaction", TRANSACTION);
+        stub.replies.put("getapplicationlog", APPLICATION_LOG);
+        String txId = "0x8b8b222ba4ae17eaf37d444210920690d0981b02c368f4f1973c8fd662438d89";
+
+        Transaction tx = neow3j.getTransaction(txId).send().getTransaction();
+        NeoApplicationLog log = neow3j.getApplicationLog(txId).send().getApplicationLog();
+        NeoGetTransaction cachedTx = neow3j.getTransaction(txId).sendAsync()
+                .get(10, TimeUnit.SECONDS);
+        NeoGetApplicationLog cachedLog = neow3j.getApplicationLog(txId).send();
+
+        assertThat(stub.calls, is(2));
+        assertThat(cachedTx.getTransaction(), is(tx));
+        assertThat(cachedLog.getApplicationLog(), is(log));
+    }
+
+    @Test
+    public void testHeadRelativeCallsAreNotCached() throws IOException {
+        stub.replies.put("getblockcount", "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":1234}");
+
+        neow3j.getBlockCount().send();
+        neow3j.getBlockCount().send();
+
+        assertThat(stub.calls, is(2));
+        assertThat(cachingService.getStats().getMissCount(), is(0L));
+    }
+
+    @Test
+    public void testLatestBlockAndErrorsAreNotCached() throws IOException {
+        stub.replies.put("getblock", LATEST_BLOCK);
+        neow3j.getBlock(new BlockParameterIndex(1914006), true).send();
+        neow3j.getBlock(new BlockParameterIndex(1914006), true).send();
+        assertThat(stub.calls, is(2));
+
+        stub.replies.put("getblock", ERROR);
+        neow3j.getBlock(new BlockParameterIndex(1914007), true).send();
+        neow3j.getBlock(new BlockParameterIndex(1914007), true).send();
+        assertThat(stub.calls, is(4));
+        assertThat(cachingService.getStats().getEntryCount(), is(0));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsEvicted() throws IOException {
+        stub.replies.put("getblock", BLOCK);
+        cachingService = new CachingService(stub, BLOCK.length() * 2);
+        neow3j = Neow3j.build(cachingService);
+
+        neow3j.getBlock(new BlockParameterIndex(1), true).send();
+        neow3j.getBlock(new BlockParameterIndex(2), true).send();
+        neow3j.getBlock(new BlockParameterIndex(1), true).send();
+        neow3j.getBlock(new BlockParameterIndex(3), true).send();
+        assertThat(stub.calls, is(3));
+        assertThat(cachingService.getStats().getEvictionCount(), is(1L));
+
+        neow3j.getBlock(new BlockParameterIndex(1), true).send();
+        assertThat(stub.calls, is(3));
+        neow3j.getBlock(new BlockParameterIndex(2), true).send();
+        assertThat(stub.calls, is(4));
+        assertThat(cachingService.getStats().getMemorySize() <= BLOCK.length() * 2, is(true));
+    }
+
+    @Test
+    public void testDiskCache() throws IOException {
+        stub.replies.put("getblock", BLOCK);
+        cachingService = new CachingService(stub, 1024 * 1024, folder.getRoot().toPath());
+        Neow3j.build(cachingService).getBlock(new BlockParameterIndex(1), true).send();
+
+        // A new instance finds the response on disk.
+        CachingService restarted =
+                new CachingService(stub, 1024 * 1024, folder.getRoot().toPath());
+        NeoBlock block = Neow3j.build(restarted)
+                .getBlock(new BlockParameterIndex(1), true).send().getBlock();
+
+        assertThat(stub.calls, is(1));
+        assertThat(block.getIndex(), is(1914006L));
+        assertThat(restarted.getStats().getDiskHitCount(), is(1L));
+
+        restarted.invalidateAll();
+        Neow3j.build(restarted).getBlock(new BlockParameterIndex(1), true).send();
+        assertThat(stub.calls, is(2));
+    }
+
+    @Test
+    public void testCachedResponseHasIdOfRequest() throws IOException {
+        stub.replies.put("getblock", BLOCK);
+        neow3j.getBlock(new BlockParameterIndex(1), true).send();
+
+        Request<?, NeoGetBlock> request = neow3j.getBlock(new BlockParameterIndex(1), true);
+        NeoGetBlock cached = request.send();
+
+        assertThat(stub.calls, is(1));
+        assertThat(cached.getId(), is(request.getId()));
+    }
+
+    @Test
+    public void testCorruptDiskEntryIsTreatedAsMiss() throws IOException {
+        stub.replies.put("getblock", BLOCK);
+        Path directory = folder.getRoot().toPath();
+        cachingService = new CachingService(stub, 1024 * 1024, directory);
+        Neow3j.build(cachingService).getBlock(new BlockParameterIndex(1), true).send();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.json")) {
+            for (Path file : files) {
+                Files.write(file, BLOCK.substring(0, 20).getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        CachingService restarted = new CachingService(stub, 1024 * 1024, directory);
+        NeoBlock block = Neow3j.build(restarted)
+                .getBlock(new BlockParameterIndex(1), true).send().getBlock();
+        assertThat(block.getIndex(), is(1914006L));
+        assertThat(stub.calls, is(2));
+        assertThat(restarted.getStats().getMissCount(), is(1L));
+
+        // The corrupt entry was replaced by the new reply.
+        CachingService restartedAgain = new CachingService(stub, 1024 * 1024, directory);
+        Neow3j.build(restartedAgain).getBlock(new BlockParameterIndex(1), true).send();
+        assertThat(stub.calls, is(2));
+        assertThat(restartedAgain.getStats().getDiskHitCount(), is(1L));
+    }
+
+    @Test
+    public void testCustomPolicy() throws IOException {
+        stub.replies.put("getcontractstate", "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":{}}");
+        cachingService.setCachePolicy(new ImmutableResultsPolicy()
+                .addCacheableMethod("getcontractstate"));
+
+        neow3j.getContractState("0x668e0c1f9d7b70a99dd9e06eadd4c784d641afbc").send();
+        assertThat(neow3j.getContractState("0x668e0c1f9d7b70a99dd9e06eadd4c784d641afbc").send()
+                .getContractState(), not(nullValue()));
+
+        assertThat(stub.calls, is(1));
+    }
+
+    private static String transaction() {
+        return "{\"hash\":\"0x8b8b222ba4ae17eaf37d444210920690d0981b02c368f4f1973c8fd662438d89\","
+                + "\"size\":267,\"version\":0,\"nonce\":1046354582,"
+                + "\"sender\":\"AHE5cLhX5NjGB5R2PcdUvGudUoGUBDeHX4\","
+                + "\"sysfee\":\"9007810\",\"netfee\":\"1267450\",\"validuntilblock\":2103622,"
+                + "\"signers\":[{\"account\":\"0xf68f181731a47036a99f04dad90043a744edec0f\","
+                + "\"scopes\":\"CalledByEntry\"}],"
+                + "\"attributes\":[],"
+                + "\"script\":\"AGQMFObBATZUrxE9ipaL3KUsmUioK5U9DBQP7O1Ep0MA2doE=\","
+                + "\"witnesses\":[{\"invocation\":\"DEBhsuS9LxQ2PKpx2XJJ\","
+                + "\"verification\":\"EQwhA/HsPB4oPogN5unEifDyfBkAfFM4WqpMDJF8MgB57a3yEQtBMHOzuw==\"}],"
+                + "\"blockhash\":\"0x8529cf7301d13cc13d85913b8367700080a6e96db045687b8db720e91e803299\","
+                + "\"confirmations\":1388,\"blocktime\":1589019142879,\"vmstate\":\"HALT\"}";
+    }
+
+    private static class StubService implements Neow3jService {
+
+        private final Map<String, String> replies = new HashMap<>();
+        private int calls = 0;
+
+        @Override
+        public <T extends Response> T send(Request request, Class<T> responseType)
+                throws IOException {
+            calls++;
+            return ObjectMapperFactory.getObjectMapper()
+                    .readValue(replies.get(request.getMethod()), responseType);
+        }
+
+        @Override
+        public <T extends Response> CompletableFuture<T> sendAsync(Request request,
+                Class<T> responseType) {
+            try {
+                return CompletableFuture.completedFuture(send(request, responseType));
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        @Override
+        public BatchResponse sendBatch(BatchRequest batchRequest) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T extends Notification<?>> Observable<T> subscribe(Request request,
+                String unsubscribeMethod, Class<T> responseType) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
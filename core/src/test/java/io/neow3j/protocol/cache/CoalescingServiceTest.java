@@ -0,0 +1,263 @@
+package io.neow3j.protocol.cache;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
+import io.neow3j.protocol.core.BlockParameterIndex;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.core.methods.response.NeoBlockCount;
+import io.neow3j.protocol.core.methods.response.NeoGetBlock;
+import io.neow3j.protocol.notifications.Notification;
+import io.reactivex.Observable;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class CoalescingServiceTest {
+
+    private StubService stub;
+    private CoalescingService coalescingService;
+    private Neow3j neow3j;
+
+    @Before
+    public void setUp() {
+        stub = new StubService();
+        coalescingService = new CoalescingService(stub);
+        neow3j = Neow3j.build(coalescingService);
+    }
+
+    @Test
+    public void testIdenticalAsyncRequestsShareOneCall() throws Exception {
+        CompletableFuture<NeoBlockCount> first = neow3j.getBlockCount().sendAsync();
+        CompletableFuture<NeoBlockCount> second = neow3j.getBlockCount().sendAsync();
+
+        assertThat(stub.calls, is(1));
+        assertThat(coalescingService.getInFlightCount(), is(1));
+        stub.completeAll();
+
+        assertThat(second.get(), sameInstance(first.get()));
+        assertThat(first.get().getBlockIndex(), is(BigInteger.valueOf(1000)));
+        assertThat(coalescingService.getCoalescedCount(), is(1L));
+        assertThat(coalescingService.getInFlightCount(), is(0));
+    }
+
+    @Test
+    public void testCompletedRequestIsSentAgain() throws Exception {
+        CompletableFuture<NeoBlockCount> first = neow3j.getBlockCount().sendAsync();
+        stub.completeAll();
+        first.get();
+
+        neow3j.getBlockCount().sendAsync();
+
+        assertThat(stub.calls, is(2));
+        assertThat(coalescingService.getCoalescedCount(), is(0L));
+    }
+
+    @Test
+    public void testDifferentParamsAreNotCoalesced() {
+        neow3j.getBlock(new BlockParameterIndex(1), true).sendAsync();
+        neow3j.getBlock(new BlockParameterIndex(2), true).sendAsync();
+        neow3j.getBlock(new BlockParameterIndex(1), true).sendAsync();
+
+        assertThat(stub.calls, is(2));
+        assertThat(coalescingService.getInFlightCount(), is(2));
+    }
+
+    @Test
+    public void testErrorIsPassedToAllReceivers() throws Exception {
+        CompletableFuture<NeoGetBlock> first =
+                neow3j.getBlock(new BlockParameterIndex(1), true).sendAsync();
+        CompletableFuture<NeoGetBlock> second =
+                neow3j.getBlock(new BlockParameterIndex(1), true).sendAsync();
+        stub.failAll(new IOException("Connection reset"));
+
+        for (CompletableFuture<NeoGetBlock> reply : asList(first, second)) {
+            try {
+                reply.get();
+                fail();
+            } catch (ExecutionException e) {
+                assertThat(e.getCause(), instanceOf(IOException.class));
+            }
+        }
+        assertThat(coalescingService.getInFlightCount(), is(0));
+    }
+
+    @Test
+    public void testCancellingOneReceiverDoesNotAffectOthers() throws Exception {
+        CompletableFuture<NeoBlockCount> first = neow3j.getBlockCount().sendAsync();
+        CompletableFuture<NeoBlockCount> second = neow3j.getBlockCount().sendAsync();
+
+        first.cancel(true);
+        stub.completeAll();
+
+        assertThat(second.get().getBlockIndex(), is(BigInteger.valueOf(1000)));
+    }
+
+    @Test
+    public void testBlockingRequestsWaitForRequestInFlight() throws Exception {
+        CompletableFuture<NeoBlockCount> asyncReply = neow3j.getBlockCount().sendAsync();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            CountDownLatch started = new CountDownLatch(4);
+            List<Future<NeoBlockCount>> replies = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                replies.add(executor.submit(() -> {
+                    started.countDown();
+                    return neow3j.getBlockCount().send();
+                }));
+            }
+            started.await(5, TimeUnit.SECONDS);
+            while (coalescingService.getCoalescedCount() < 4) {
+                Thread.sleep(1);
+            }
+            stub.completeAll();
+
+            for (Future<NeoBlockCount> reply : replies) {
+                assertThat(reply.get(5, TimeUnit.SECONDS), sameInstance(asyncReply.get()));
+            }
+            assertThat(stub.calls, is(1));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testIdenticalSendsAreNotCoalesced() {
+        String asset = "0x602c79718b16e442de58778e148d0b1084e3b2dffd5de6b7b16cee7969282de7";
+        String address = "AK2nJJpJr6o664CWJKi1QRXjqeic2zRp8y";
+        neow3j.sendToAddress(asset, address, "10").sendAsync();
+        neow3j.sendToAddress(asset, address, "10").sendAsync();
+        neow3j.getNewAddress().sendAsync();
+        neow3j.getNewAddress().sendAsync();
+
+        assertThat(stub.calls, is(4));
+        assertThat(coalescingService.getInFlightCount(), is(0));
+        assertThat(coalescingService.getCoalescedCount(), is(0L));
+    }
+
+    @Test
+    public void testErrorOfBlockingRequestClearsRequestInFlight() throws Exception {
+        stub.sendError = new AssertionError("Stub failure");
+        try {
+            neow3j.getBlockCount().send();
+            fail();
+        } catch (AssertionError e) {
+            assertThat(e, sameInstance(stub.sendError));
+        }
+        assertThat(coalescingService.getInFlightCount(), is(0));
+
+        stub.sendError = null;
+        CompletableFuture<NeoBlockCount> reply = neow3j.getBlockCount().sendAsync();
+        stub.completeAll();
+        assertThat(reply.get(5, TimeUnit.SECONDS).getBlockIndex(), is(BigInteger.valueOf(1000)));
+    }
+
+    @Test
+    public void testRejectedAsyncRequestClearsRequestInFlight() throws Exception {
+        stub.asyncError = new RejectedExecutionException("Executor was shut down");
+        CompletableFuture<NeoBlockCount> rejected = neow3j.getBlockCount().sendAsync();
+        try {
+            rejected.get(5, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), sameInstance(stub.asyncError));
+        }
+        assertThat(coalescingService.getInFlightCount(), is(0));
+
+        stub.asyncError = null;
+        CompletableFuture<NeoBlockCount> reply = neow3j.getBlockCount().sendAsync();
+        stub.completeAll();
+        assertThat(reply.get(5, TimeUnit.SECONDS).getBlockIndex(), is(BigInteger.valueOf(1000)));
+    }
+
+    private static class StubService implements Neow3jService {
+
+        private final List<CompletableFuture<Response<?>>> pending = new ArrayList<>();
+        private final List<Class<?>> responseTypes = new ArrayList<>();
+        private volatile int calls = 0;
+        private volatile Error sendError;
+        private volatile RuntimeException asyncError;
+
+        @Override
+        public <T extends Response> T send(Request request, Class<T> responseType) {
+            if (sendError != null) {
+                throw sendError;
+            }
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public synchronized <T extends Response> CompletableFuture<T> sendAsync(
+                Request request, Class<T> responseType) {
+            if (asyncError != null) {
+                throw asyncError;
+            }
+            calls++;
+            CompletableFuture<T> reply = new CompletableFuture<>();
+            pending.add((CompletableFuture<Response<?>>) reply);
+            responseTypes.add(responseType);
+            return reply;
+        }
+
+        synchronized void completeAll() throws Exception {
+            for (int i = 0; i < pending.size(); i++) {
+                Response<?> response = (Response<?>) responseTypes.get(i)
+                        .getDeclaredConstructor().newInstance();
+                if (response instanceof NeoBlockCount) {
+                    ((NeoBlockCount) response).setResult(BigInteger.valueOf(1000));
+                }
+                pending.get(i).complete(response);
+            }
+            pending.clear();
+            responseTypes.clear();
+        }
+
+        synchronized void failAll(Throwable error) {
+            pending.forEach(reply -> reply.completeExceptionally(error));
+            pending.clear();
+            responseTypes.clear();
+        }
+
+        @Override
+        public BatchResponse sendBatch(BatchRequest batchRequest) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T extends Notification<?>> Observable<T> subscribe(Request request,
+                String unsubscribeMethod, Class<T> responseType) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
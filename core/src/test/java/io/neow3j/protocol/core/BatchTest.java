@@ -0,0 +1,130 @@
+package io.neow3j.protocol.core;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.methods.response.NeoBlockCount;
+import io.neow3j.protocol.core.methods.response.NeoGetVersion;
+import io.neow3j.protocol.exceptions.ClientConnectionException;
+import io.neow3j.protocol.http.HttpService;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+import static io.neow3j.protocol.http.HttpService.JSON_MEDIA_TYPE;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class BatchTest {
+
+    private Neow3j neow3j;
+    private String requestBody;
+    private String responseBody;
+    private int calls;
+
+    @Before
+    public void setUp() {
+        calls = 0;
+        Interceptor interceptor = chain -> {
+            calls++;
+            Buffer buffer = new Buffer();
+            chain.request().body().writeTo(buffer);
+            requestBody = buffer.readUtf8();
+            return new okhttp3.Response.Builder()
+                    .body(ResponseBody.create(JSON_MEDIA_TYPE, responseBody))
+                    .request(chain.request())
+                    .protocol(Protocol.HTTP_2)
+                    .code(200)
+                    .message("")
+                    .build();
+        };
+        OkHttpClient httpClient = new OkHttpClient.Builder().addInterceptor(interceptor).build();
+        neow3j = Neow3j.build(new HttpService(httpClient));
+    }
+
+    @Test
+    public void testBatchIsSentInOneCall() throws IOException {
+        Request<?, NeoBlockCount> blockCount = neow3j.getBlockCount();
+        Request<?, NeoGetVersion> version = neow3j.getVersion();
+        responseBody = "["
+                + "{\"jsonrpc\":\"2.0\",\"id\":" + blockCount.getId() + ",\"result\":1234},"
+                + "{\"jsonrpc\":\"2.0\",\"id\":" + version.getId()
+                + ",\"result\":{\"tcpport\":40333,\"nonce\":1,\"useragent\":\"/Neo:3.0.0/\"}}"
+                + "]";
+
+        BatchResponse batchResponse = neow3j.newBatch().add(blockCount).add(version).send();
+
+        assertThat(calls, is(1));
+        assertThat(requestBody, is("["
+                + "{\"jsonrpc\":\"2.0\",\"method\":\"getblockcount\",\"params\":[],\"id\":"
+                + blockCount.getId() + "},"
+                + "{\"jsonrpc\":\"2.0\",\"method\":\"getversion\",\"params\":[],\"id\":"
+                + version.getId() + "}"
+                + "]"));
+        assertThat(batchResponse.getResponses().size(), is(2));
+        assertThat(batchResponse.getResponse(blockCount).getBlockIndex(),
+                is(BigInteger.valueOf(1234)));
+        assertThat(batchResponse.getResponse(version).getVersion().getUserAgent(),
+                is("/Neo:3.0.0/"));
+    }
+
+    @Test
+    public void testResponsesAreMatchedById() throws IOException {
+        Request<?, NeoBlockCount> blockCount = neow3j.getBlockCount();
+        Request<?, NeoGetVersion> version = neow3j.getVersion();
+        responseBody = "["
+                + "{\"jsonrpc\":\"2.0\",\"id\":" + version.getId()
+                + ",\"result\":{\"tcpport\":40333,\"nonce\":1,\"useragent\":\"/Neo:3.0.0/\"}},"
+                + "{\"jsonrpc\":\"2.0\",\"id\":" + blockCount.getId()
+                + ",\"error\":{\"code\":-100,\"message\":\"Unknown block\"}}"
+                + "]";
+
+        BatchResponse batchResponse = neow3j.newBatch().add(blockCount).add(version).send();
+
+        assertTrue(batchResponse.getResponses().get(0) instanceof NeoBlockCount);
+        assertTrue(batchResponse.getResponses().get(1) instanceof NeoGetVersion);
+        assertThat(batchResponse.getResponse(blockCount),
+                sameInstance(batchResponse.getResponses().get(0)));
+        assertThat(batchResponse.getResponse(blockCount).getError().getCode(), is(-100));
+        assertThat(batchResponse.getResponse(version).getVersion().getTCPPort(), is(40333));
+    }
+
+    @Test
+    public void testEmptyBatchIsNotSent() throws IOException {
+        BatchResponse batchResponse = neow3j.newBatch().send();
+
+        assertThat(calls, is(0));
+        assertTrue(batchResponse.getResponses().isEmpty());
+    }
+
+    @Test
+    public void testMissingResponse() throws IOException {
+        Request<?, NeoBlockCount> blockCount = neow3j.getBlockCount();
+        Request<?, NeoGetVersion> version = neow3j.getVersion();
+        responseBody = "[{\"jsonrpc\":\"2.0\",\"id\":" + blockCount.getId() + ",\"result\":1}]";
+
+        try {
+            neow3j.newBatch().add(blockCount).add(version).send();
+            fail();
+        } catch (ClientConnectionException e) {
+            assertThat(e.getMessage(), is("No response received for request with id "
+                    + version.getId() + " in batch."));
+        }
+    }
+
+    @Test(expected = ClientConnectionException.class)
+    public void testNonArrayResponse() throws IOException {
+        responseBody = "{\"jsonrpc\":\"2.0\",\"id\":null,"
+                + "\"error\":{\"code\":-32600,\"message\":\"Invalid Request\"}}";
+
+        neow3j.newBatch().add(neow3j.getBlockCount()).send();
+    }
+}
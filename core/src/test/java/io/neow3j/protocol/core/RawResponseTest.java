@@ -30,6 +30,21 @@ public class RawResponseTest extends ResponseTester {
         assertThat(web3ClientVersion.getRawResponse(), is(RAW_RESPONSE));
     }
 
+    @Test
+    public void testRawResponseEnabledWithStreaming() {
+        configureWeb3Service(true, true);
+        final NeoGetVersion web3ClientVersion = deserialiseWeb3ClientVersionResponse();
+        assertThat(web3ClientVersion.getVersion().getNonce(), is(12345678L));
+        assertThat(web3ClientVersion.getRawResponse(), is(RAW_RESPONSE));
+    }
+
+    @Test
+    public void testRawResponseDisabledWithStreaming() {
+        configureWeb3Service(false, true);
+        final NeoGetVersion web3ClientVersion = deserialiseWeb3ClientVersionResponse();
+        assertThat(web3ClientVersion.getRawResponse(), nullValue());
+    }
+
     @Test
     public void testRawResponseDisabled() {
         configureWeb3Service(false);
@@ -78,6 +78,42 @@ public class RequestTest extends RequestTester {
                         + "\"params\":[\"0x2240b34669038f82ac492150d391dfc3d7fe5e3c1d34e5b547d50e99c09b468d\",0],\"id\":1}");
     }
 
+    @Test
+    public void testGetBlockDecoded_Index() throws Exception {
+        neow3j.getBlockDecoded(new BlockParameterIndex(12345)).send();
+
+        verifyResult(
+                "{\"jsonrpc\":\"2.0\",\"method\":\"getblock\","
+                        + "\"params\":[12345,0],\"id\":1}");
+    }
+
+    @Test
+    public void testGetBlockDecoded_Hash() throws Exception {
+        neow3j.getBlockDecoded("0x2240b34669038f82ac492150d391dfc3d7fe5e3c1d34e5b547d50e99c09b468d").send();
+
+        verifyResult(
+                "{\"jsonrpc\":\"2.0\",\"method\":\"getblock\","
+                        + "\"params\":[\"0x2240b34669038f82ac492150d391dfc3d7fe5e3c1d34e5b547d50e99c09b468d\",0],\"id\":1}");
+    }
+
+    @Test
+    public void testGetLazyBlock_Index() throws Exception {
+        neow3j.getLazyBlock(new BlockParameterIndex(12345)).send();
+
+        verifyResult(
+                "{\"jsonrpc\":\"2.0\",\"method\":\"getblock\","
+                        + "\"params\":[12345,1],\"id\":1}");
+    }
+
+    @Test
+    public void testGetLazyBlock_Hash() throws Exception {
+        neow3j.getLazyBlock("0x2240b34669038f82ac492150d391dfc3d7fe5e3c1d34e5b547d50e99c09b468d").send();
+
+        verifyResult(
+                "{\"jsonrpc\":\"2.0\",\"method\":\"getblock\","
+                        + "\"params\":[\"0x2240b34669038f82ac492150d391dfc3d7fe5e3c1d34e5b547d50e99c09b468d\",1],\"id\":1}");
+    }
+
     @Test
     public void testGetBlockCount() throws Exception {
         neow3j.getBlockCount().send();
@@ -169,6 +205,15 @@ public class RequestTest extends RequestTester {
                         + "\"params\":[\"0x1f31821787b0a53df0ff7d6e0e7ecba3ac19dd517d6d2ea5aaf00432c20831d6\",0],\"id\":1}");
     }
 
+    @Test
+    public void testGetTransactionDecoded() throws Exception {
+        neow3j.getTransactionDecoded("0x1f31821787b0a53df0ff7d6e0e7ecba3ac19dd517d6d2ea5aaf00432c20831d6").send();
+
+        verifyResult(
+                "{\"jsonrpc\":\"2.0\",\"method\":\"getrawtransaction\","
+                        + "\"params\":[\"0x1f31821787b0a53df0ff7d6e0e7ecba3ac19dd517d6d2ea5aaf00432c20831d6\",0],\"id\":1}");
+    }
+
     @Test
     public void testGetStorage() throws Exception {
         neow3j.getStorage("03febccf81ac85e3d795bc5cbd4e84e907812aa3", "616e797468696e67").send();
@@ -1,5 +1,6 @@
 package io.neow3j.protocol.core;
 
+import io.neow3j.block.Block;
 import io.neow3j.constants.InteropServiceCode;
 import io.neow3j.contract.ScriptBuilder;
 import io.neow3j.contract.ScriptHash;
@@ -10,6 +11,7 @@ import io.neow3j.protocol.core.methods.response.ArrayStackItem;
 import io.neow3j.protocol.core.methods.response.ByteStringStackItem;
 import io.neow3j.protocol.core.methods.response.ConsensusData;
 import io.neow3j.protocol.core.methods.response.ContractManifest;
+import io.neow3j.protocol.core.methods.response.LazyNeoBlock;
 import io.neow3j.protocol.core.methods.response.NeoAddress;
 import io.neow3j.protocol.core.methods.response.NeoApplicationLog;
 import io.neow3j.protocol.core.methods.response.NeoBlockCount;
@@ -21,7 +23,9 @@ import io.neow3j.protocol.core.methods.response.NeoGetApplicationLog;
 import io.neow3j.protocol.core.methods.response.NeoGetUnclaimedGas;
 import io.neow3j.protocol.core.methods.response.NeoGetWalletBalance;
 import io.neow3j.protocol.core.methods.response.NeoGetBlock;
+import io.neow3j.protocol.core.methods.response.NeoGetBlockDecoded;
 import io.neow3j.protocol.core.methods.response.NeoGetContractState;
+import io.neow3j.protocol.core.methods.response.NeoGetLazyBlock;
 import io.neow3j.protocol.core.methods.response.NeoGetMemPool;
 import io.neow3j.protocol.core.methods.response.NeoGetNep5Balances;
 import io.neow3j.protocol.core.methods.response.NeoGetNep5Transfers;
@@ -32,6 +36,7 @@ import io.neow3j.protocol.core.methods.response.NeoGetRawMemPool;
 import io.neow3j.protocol.core.methods.response.NeoGetRawTransaction;
 import io.neow3j.protocol.core.methods.response.NeoGetStorage;
 import io.neow3j.protocol.core.methods.response.NeoGetTransaction;
+import io.neow3j.protocol.core.methods.response.NeoGetTransactionDecoded;
 import io.neow3j.protocol.core.methods.response.NeoGetTransactionHeight;
 import io.neow3j.protocol.core.methods.response.NeoGetWalletUnclaimedGas;
 import io.neow3j.protocol.core.methods.response.NeoGetValidators;
@@ -61,11 +66,13 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.core.IsNull.nullValue;
 
 import java.math.BigInteger;
+import java.util.Iterator;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertFalse;
@@ -411,6 +418,140 @@ public class ResponseTest extends ResponseTester {
                 is("00000000ebaa4ed893333db1ed556bb24145f4e7fe40b9c7c07ff2235c7d3d361ddb27e603da9da4c7420d090d0e29c588cfd701b3f81819375e537c634bd779ddc7e2e2c436cc5ba53f00001952d428256ad0cdbe48d3a3f5d10013ab9ffee489706078714f1ea201c340c44387d762d1bcb2ab0ec650628c7c674021f333ee7666e2a03805ad86df3b826b5dbf5ac607a361807a047d43cf6bba726dcb06a42662aee7e78886c72faef940e6cef9abab82e1e90c6683ac8241b3bf51a10c908f01465f19c3df1099ef5de5d43a648a6e4ab63cc7d5e88146bddbe950e8041e44a2b0b81f21ad706e88258540fd19314f46ad452b4cbedf58bf9d266c0c808374cd33ef18d9a0575b01e47f6bb04abe76036619787c457c49288aeb91ff23cdb85771c0209db184801d5bdd348b532102103a7f7dd016558597f7960d27c516a4394fd968b9e65155eb4b013e4040406e2102a7bc55fe8684e0119768d104ba30795bdcc86619e864add26156723ed185cd622102b3622bf4017bdfe317c58aed5f4c753f206b7db896046fa7d774bbc4bf7f8dc22103d90c07df63e690ce77912e10ab51acc944b66860237b608c4f8f8309e71ee69954ae0100001952d42800000000"));
     }
 
+    @Test
+    public void testGetBlockDecoded() {
+        String rawBlock = "000000009c813d0a6a6b4b6c48e8c6a6f5b14ea4e3a0b0f9a5a1b0c3d2e1f0011223"
+                + "3445808639e699fa35a030e8db753a3d29900c2c091a8df4a488ceb54192a681902300806e87"
+                + "74010000d2040000941343239213fa0e765f1027ce742f48db779a9601010001000202887766"
+                + "55443322110062bdaa0ec272890000000000a65a1300000000009923200001941343239213fa"
+                + "0e765f1027ce742f48db779a96010001110101000100";
+        buildResponse(
+                "{\n" +
+                        "    \"jsonrpc\": \"2.0\",\n" +
+                        "    \"id\": 1,\n" +
+                        "    \"result\": \"" + rawBlock + "\"\n" +
+                        "}"
+        );
+
+        NeoGetBlockDecoded getBlockDecoded = deserialiseResponse(NeoGetBlockDecoded.class);
+        Block block = getBlockDecoded.getBlock();
+        assertThat(block, is(notNullValue()));
+        assertThat(block.getIndex(), is(1234L));
+        assertThat(block.getHash(), is("a15d39de308c674f49f75cb859e106f933663d5588f2217202aebfbb24d42171"));
+        assertThat(block.getTransactions(), hasSize(1));
+        assertThat(block.verifyMerkleRoot(), is(true));
+        assertThat(Numeric.toHexStringNoPrefix(block.toArray()), is(rawBlock));
+    }
+
+    @Test
+    public void testGetLazyBlock() {
+        buildResponse(
+                "{\n" +
+                        "    \"jsonrpc\": \"2.0\",\n" +
+                        "    \"id\": 1,\n" +
+                        "    \"result\": {\n" +
+                        "        \"hash\": \"0x1de7e5eaab0f74ac38f5191c038e009d3c93ef5c392d1d66fa95ab164ba308b8\",\n" +
+                        "        \"size\": 1217,\n" +
+                        "        \"version\": 0,\n" +
+                        "        \"previousblockhash\": \"0x045cabde4ecbd50f5e4e1b141eaf0842c1f5f56517324c8dcab8ccac924e3a39\",\n" +
+                        "        \"merkleroot\": \"0x6afa63201b88b55ad2213e5a69a1ad5f0db650bc178fc2bedd2fb301c1278bf7\",\n" +
+                        "        \"time\": 1539968858,\n" +
+                        "        \"index\": 1914006,\n" +
+                        "        \"nextconsensus\": \"AWZo4qAxhT8fwKL93QATSjCYCgHmCY1XLB\",\n" +
+                        "        \"witnesses\": [],\n" +
+                        "        \"consensusdata\": {\n" +
+                        "            \"primary\": 0,\n" +
+                        "            \"nonce\": \"45fba5f11cb04667\"\n" +
+                        "        },\n" +
+                        "        \"tx\": [\n" +
+                        "            {\n" +
+                        "                \"signers\": [" +
+                        "                    {" +
+                        "                        \"account\": \"0xf68f181731a47036a99f04dad90043a744edec0f\",\n" +
+                        "                        \"scopes\": \"CalledByEntry\"\n" +
+                        "                    }" +
+                        "                ]," +
+                        "                \"hash\": \"0x46eca609a9a8c8340ee56b174b04bc9c9f37c89771c3a8998dc043f5a74ad510\",\n" +
+                        "                \"size\": 267,\n" +
+                        "                \"version\": 0,\n" +
+                        "                \"nonce\": 565086327,\n" +
+                        "                \"sender\": \"AHE5cLhX5NjGB5R2PcdUvGudUoGUBDeHX4\",\n" +
+                        "                \"sysfee\": \"0\",\n" +
+                        "                \"netfee\": \"0\",\n" +
+                        "                \"validuntilblock\": 2107425,\n" +
+                        "                \"attributes\": [],\n" +
+                        "                \"script\": \"AGQMFObBATZUrxE9ipaL3KUsmUioK5U9DBQP7O1Ep0MA2doEn6k2cKQxFxiP9hPADAh0cmFuc2ZlcgwUiXcg2M129PAKv6N8Dt2InCCP3ptBYn1bUjg\",\n" +
+                        "                \"witnesses\": []\n" +
+                        "            },\n" +
+                        "            {\n" +
+                        "                \"hash\": \"0x4a97ca89199627f877b6bffe865b8327be84b368d62572ef20953829c3501643\",\n" +
+                        "                \"size\": 250,\n" +
+                        "                \"version\": 0,\n" +
+                        "                \"nonce\": 1,\n" +
+                        "                \"sender\": \"AWZo4qAxhT8fwKL93QATSjCYCgHmCY1XLB\",\n" +
+                        "                \"sysfee\": \"0\",\n" +
+                        "                \"netfee\": \"0\",\n" +
+                        "                \"validuntilblock\": 2107425,\n" +
+                        "                \"signers\": [],\n" +
+                        "                \"attributes\": [],\n" +
+                        "                \"script\": \"AGQ=\",\n" +
+                        "                \"witnesses\": []\n" +
+                        "            }\n" +
+                        "        ],\n" +
+                        "        \"confirmations\": 7878,\n" +
+                        "        \"nextblockhash\": \"0x4a97ca89199627f877b6bffe865b8327be84b368d62572ef20953829c3501643\"\n" +
+                        "    }\n" +
+                        "}"
+        );
+
+        NeoGetLazyBlock getLazyBlock = deserialiseResponse(NeoGetLazyBlock.class);
+        LazyNeoBlock block = getLazyBlock.getBlock();
+        assertThat(block, is(notNullValue()));
+        assertThat(block.getHash(),
+                is("0x1de7e5eaab0f74ac38f5191c038e009d3c93ef5c392d1d66fa95ab164ba308b8"));
+        assertThat(block.getIndex(), is(1914006L));
+        assertThat(block.getConsensusData(), is(new ConsensusData(0, "45fba5f11cb04667")));
+        assertThat(block.getConfirmations(), is(7878));
+        assertThat(block.getTransactionCount(), is(2));
+        assertThat(block.getTransactionHashes(), contains(
+                "0x46eca609a9a8c8340ee56b174b04bc9c9f37c89771c3a8998dc043f5a74ad510",
+                "0x4a97ca89199627f877b6bffe865b8327be84b368d62572ef20953829c3501643"));
+
+        LazyNeoBlock.TransactionEntry second = block.getTransactionEntries().get(1);
+        assertThat(second.getSender(), is("AWZo4qAxhT8fwKL93QATSjCYCgHmCY1XLB"));
+        assertThat(second.isDeserialized(), is(false));
+        assertThat(second.getTransaction().getNonce(), is(1L));
+        assertThat(second.isDeserialized(), is(true));
+        assertThat(block.getTransactionEntries().get(0).isDeserialized(), is(false));
+
+        Iterator<Transaction> transactions = block.transactionIterator();
+        Transaction first = transactions.next();
+        assertThat(first.getSender(), is("AHE5cLhX5NjGB5R2PcdUvGudUoGUBDeHX4"));
+        assertThat(first.getSigners(), contains(
+                new TransactionSigner("0xf68f181731a47036a99f04dad90043a744edec0f",
+                        asList(WitnessScope.CALLED_BY_ENTRY))));
+        assertThat(transactions.next(), is(second.getTransaction()));
+        assertThat(transactions.hasNext(), is(false));
+    }
+
+    @Test
+    public void testGetLazyBlock_withoutTransactions() {
+        buildResponse(
+                "{\n" +
+                        "    \"jsonrpc\": \"2.0\",\n" +
+                        "    \"id\": 1,\n" +
+                        "    \"result\": {\n" +
+                        "        \"hash\": \"0x1de7e5eaab0f74ac38f5191c038e009d3c93ef5c392d1d66fa95ab164ba308b8\",\n" +
+                        "        \"index\": 1914006\n" +
+                        "    }\n" +
+                        "}"
+        );
+
+        LazyNeoBlock block = deserialiseResponse(NeoGetLazyBlock.class).getBlock();
+        assertThat(block.getTransactionCount(), is(0));
+        assertThat(block.transactionIterator().hasNext(), is(false));
+    }
+
     @Test
     public void testGetBlockCount() {
         buildResponse(
@@ -884,6 +1025,46 @@ public class ResponseTest extends ResponseTester {
         );
     }
 
+    @Test
+    public void testGetTransactionDecoded() {
+        String rawTransaction = "0062bdaa0ec272890000000000a65a13000000000099232000"
+                + "01941343239213fa0e765f1027ce742f48db779a96010001110101000100";
+        buildResponse(
+                "{\n" +
+                        "    \"jsonrpc\": \"2.0\",\n" +
+                        "    \"id\": 1,\n" +
+                        "    \"result\": \"" + rawTransaction + "\"\n" +
+                        "}"
+        );
+
+        NeoGetTransactionDecoded getTransactionDecoded =
+                deserialiseResponse(NeoGetTransactionDecoded.class);
+        io.neow3j.transaction.Transaction tx = getTransactionDecoded.getTransaction();
+        assertThat(tx, is(notNullValue()));
+        assertThat(tx.getNonce(), is(246070626L));
+        assertThat(tx.getSystemFee(), is(9007810L));
+        assertThat(tx.getValidUntilBlock(), is(2106265L));
+        assertThat(tx.getSigners(), hasSize(1));
+        assertThat(tx.getWitnesses(), hasSize(1));
+        assertThat(Numeric.toHexStringNoPrefix(tx.toArray()), is(rawTransaction));
+    }
+
+    @Test
+    public void testGetTransactionDecodedWithError() {
+        buildResponse(
+                "{\n" +
+                        "    \"jsonrpc\": \"2.0\",\n" +
+                        "    \"id\": 1,\n" +
+                        "    \"error\": {\"code\": -100, \"message\": \"Unknown transaction\"}\n" +
+                        "}"
+        );
+
+        NeoGetTransactionDecoded getTransactionDecoded =
+                deserialiseResponse(NeoGetTransactionDecoded.class);
+        assertThat(getTransactionDecoded.getTransaction(), is(nullValue()));
+        assertThat(getTransactionDecoded.getError().getCode(), is(-100));
+    }
+
     @Test
     public void testGetStorage() {
         buildResponse(
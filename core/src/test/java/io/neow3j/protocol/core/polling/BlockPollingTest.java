@@ -0,0 +1,264 @@
+package io.neow3j.protocol.core.polling;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.methods.response.NeoBlockCount;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class BlockPollingTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Neow3jService neow3jService;
+    private Neow3j neow3j;
+    private ScheduledExecutorService executor;
+    private volatile long blockCount;
+    private volatile int failingPolls;
+    private List<Long> blocks;
+
+    @Before
+    public void setUp() throws IOException {
+        neow3jService = mock(Neow3jService.class);
+        when(neow3jService.send(any(Request.class), eq(NeoBlockCount.class)))
+                .thenAnswer(invocation -> {
+                    if (failingPolls > 0) {
+                        failingPolls--;
+                        throw new IOException("Connection refused");
+                    }
+                    NeoBlockCount response = new NeoBlockCount();
+                    response.setResult(BigInteger.valueOf(blockCount));
+                    return response;
+                });
+        neow3j = Neow3j.build(neow3jService);
+        executor = Executors.newSingleThreadScheduledExecutor();
+        blocks = Collections.synchronizedList(new ArrayList<>());
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testReportsEveryBlockOnce() throws IOException {
+        BlockPolling polling = createPolling(null);
+        blockCount = 10;
+
+        polling.pollOnce(0);
+        blockCount = 11;
+        polling.pollOnce(1000);
+        polling.pollOnce(2000);
+        blockCount = 14;
+        polling.pollOnce(3000);
+
+        assertThat(blocks, is(Arrays.asList(10L, 11L, 12L, 13L)));
+        assertThat(polling.getCurrentBlockIndex(), is(13L));
+    }
+
+    @Test
+    public void testBlockCountGoingBack() throws IOException {
+        BlockPolling polling = createPolling(null);
+        blockCount = 10;
+        polling.pollOnce(0);
+        blockCount = 8;
+        polling.pollOnce(1000);
+        blockCount = 11;
+        polling.pollOnce(2000);
+
+        assertThat(blocks, is(Collections.singletonList(10L)));
+    }
+
+    @Test
+    public void testResumeFromCheckpoint() throws IOException {
+        BlockCheckpoint checkpoint =
+                new FileBlockCheckpoint(folder.getRoot().toPath().resolve("checkpoint"));
+        checkpoint.store(5);
+        BlockPolling polling = createPolling(checkpoint);
+        blockCount = 9;
+
+        polling.pollOnce(0);
+
+        assertThat(blocks, is(Arrays.asList(6L, 7L, 8L)));
+        assertThat(checkpoint.load(), is(8L));
+    }
+
+    @Test
+    public void testEmptyFileCheckpoint() throws IOException {
+        BlockCheckpoint checkpoint =
+                new FileBlockCheckpoint(folder.getRoot().toPath().resolve("checkpoint"));
+        assertThat(checkpoint.load(), is(-1L));
+    }
+
+    @Test
+    public void testAdaptsToBlockTime() throws IOException {
+        BlockPolling polling = createPolling(null);
+        blockCount = 10;
+        assertThat(polling.pollOnce(0), is(250L));
+
+        blockCount = 11;
+        assertThat(polling.pollOnce(1000), is(2000L));
+        blockCount = 12;
+        // Observed block time of 2000 ms
+        assertThat(polling.pollOnce(3000), is(4200L));
+        assertThat(polling.getBlockTime(), is(1200L));
+        // No new block, so the next poll is after a quarter of the block time.
+        assertThat(polling.pollOnce(4200), is(4500L));
+    }
+
+    @Test
+    public void testErrorStopsPolling() throws Exception {
+        blockCount = 10;
+        CompletableFuture<Throwable> error = new CompletableFuture<>();
+        BlockPolling polling = new BlockPolling(neow3j, i -> {
+            blocks.add(i.longValue());
+            throw new IllegalStateException("Callback failed");
+        }, error::complete);
+        polling.setMinPollingInterval(0);
+        polling.run(executor, 10);
+        awaitCurrentBlock(polling, 9);
+
+        blockCount = 12;
+        assertThat(error.get(5, TimeUnit.SECONDS).getMessage(), is("Callback failed"));
+        Thread.sleep(100);
+        assertThat(blocks, is(Collections.singletonList(10L)));
+        assertThat(polling.getCurrentBlockIndex(), is(9L));
+    }
+
+    @Test
+    public void testFailedPollsAreRetried() throws Exception {
+        blockCount = 10;
+        failingPolls = 3;
+        List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+        BlockPolling polling = new BlockPolling(neow3j, i -> blocks.add(i.longValue()),
+                errors::add);
+        polling.setMinPollingInterval(1);
+        polling.run(executor, 4);
+        awaitCurrentBlock(polling, 9);
+
+        blockCount = 12;
+        awaitCurrentBlock(polling, 11);
+        polling.cancel();
+
+        assertThat(errors.size(), is(3));
+        assertThat(errors.get(0).getMessage(), is("Connection refused"));
+        assertThat(blocks, is(Arrays.asList(10L, 11L)));
+    }
+
+    @Test
+    public void testStopOnError() throws Exception {
+        blockCount = 10;
+        failingPolls = 1;
+        CompletableFuture<Throwable> error = new CompletableFuture<>();
+        BlockPolling polling = new BlockPolling(neow3j, i -> blocks.add(i.longValue()),
+                error::complete);
+        polling.setStopOnError(true);
+        polling.setMinPollingInterval(1);
+        polling.run(executor, 4);
+
+        assertThat(error.get(5, TimeUnit.SECONDS).getMessage(), is("Connection refused"));
+        Thread.sleep(100);
+        assertThat(polling.getCurrentBlockIndex(), is(-1L));
+    }
+
+    @Test
+    public void testThrowingErrorCallbackStopsPolling() throws Exception {
+        blockCount = 10;
+        failingPolls = 1;
+        CountDownLatch failed = new CountDownLatch(1);
+        BlockPolling polling = new BlockPolling(neow3j, i -> blocks.add(i.longValue()), e -> {
+            failed.countDown();
+            throw new IllegalStateException("Stop");
+        });
+        polling.setMinPollingInterval(1);
+        polling.run(executor, 4);
+
+        assertTrue(failed.await(5, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        assertThat(polling.getCurrentBlockIndex(), is(-1L));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testDeprecatedCurrentBlock() throws IOException {
+        BlockPolling polling = createPolling(null);
+        assertThat(polling.getCurrentBlock(), is(nullValue()));
+        blockCount = 10;
+        polling.pollOnce(0);
+
+        assertThat(polling.getCurrentBlock(), is(BigInteger.valueOf(9)));
+        polling.nextBlock();
+        blockCount = 12;
+        polling.pollOnce(1000);
+        assertThat(blocks, is(Collections.singletonList(11L)));
+    }
+
+    @Test
+    public void testSlowCallbackDoesNotSkipOrDuplicateBlocks() throws Exception {
+        blockCount = 1;
+        BlockPolling polling = new BlockPolling(neow3j, i -> {
+            blocks.add(i.longValue());
+            blockCount += 2;
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        polling.setMinPollingInterval(1);
+        polling.run(executor, 5);
+        awaitCurrentBlock(polling, 0);
+        blockCount = 2;
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (blocks.size() < 20 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        polling.cancel();
+
+        List<Long> reported = new ArrayList<>(blocks);
+        for (int i = 0; i < 20; i++) {
+            assertThat(reported.get(i), is(1L + i));
+        }
+    }
+
+    private void awaitCurrentBlock(BlockPolling polling, long block) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (polling.getCurrentBlockIndex() != block && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private BlockPolling createPolling(BlockCheckpoint checkpoint) {
+        BlockPolling polling = new BlockPolling(neow3j, i -> blocks.add(i.longValue()),
+                e -> { }, checkpoint);
+        polling.run(mock(ScheduledExecutorService.class), 1000);
+        return polling;
+    }
+}
@@ -1,13 +1,26 @@
 package io.neow3j.protocol.http;
 
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
 import io.neow3j.protocol.core.Request;
 import io.neow3j.protocol.core.methods.response.NeoBlockCount;
 import io.neow3j.protocol.exceptions.ClientConnectionException;
+import io.neow3j.protocol.metrics.InMemoryMetrics;
+import io.neow3j.protocol.metrics.MethodMetrics;
+import io.neow3j.protocol.metrics.RequestMetrics;
 import okhttp3.Call;
 import okhttp3.OkHttpClient;
 import okhttp3.Protocol;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.GzipSink;
+import okio.GzipSource;
+import okio.Okio;
 import org.jetbrains.annotations.NotNull;
 import org.junit.Assert;
 import org.junit.Test;
@@ -16,6 +29,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -28,6 +44,7 @@ import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertTrue;
 
@@ -103,6 +120,240 @@ public class HttpServiceTest {
         Assert.fail("No exception");
     }
 
+    @Test
+    public void testStreamingRequestBody() throws IOException {
+        Buffer requestBody = new Buffer();
+        OkHttpClient httpClient = new OkHttpClient.Builder()
+                .addInterceptor(chain -> {
+                    chain.request().body().writeTo(requestBody);
+                    return new Response.Builder()
+                            .code(200)
+                            .message("")
+                            .body(ResponseBody.create(HttpService.JSON_MEDIA_TYPE,
+                                    "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":1234}"))
+                            .request(chain.request())
+                            .protocol(Protocol.HTTP_1_1)
+                            .build();
+                })
+                .build();
+        HttpService streamingHttpService = new HttpService(httpClient);
+        streamingHttpService.setStreaming(true);
+
+        Request<String, NeoBlockCount> request = new Request<>(
+                "getblockcount",
+                Collections.emptyList(),
+                streamingHttpService,
+                NeoBlockCount.class);
+        NeoBlockCount response = streamingHttpService.send(request, NeoBlockCount.class);
+
+        assertThat(requestBody.readUtf8(),
+                is("{\"jsonrpc\":\"2.0\",\"method\":\"getblockcount\",\"params\":[],"
+                        + "\"id\":" + request.getId() + "}"));
+        assertThat(response.getBlockIndex(), is(BigInteger.valueOf(1234)));
+    }
+
+    @Test
+    public void testNonBlockingSendAsync() throws Exception {
+        HttpService nonBlockingHttpService = new HttpService(createHttpClient(200,
+                "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":1234}"));
+        nonBlockingHttpService.setNonBlocking(true);
+        TestExecutorService executor = new TestExecutorService();
+        nonBlockingHttpService.setAsyncExecutorService(executor);
+
+        Request<String, NeoBlockCount> request = new Request<>(
+                "getblockcount",
+                Collections.emptyList(),
+                nonBlockingHttpService,
+                NeoBlockCount.class);
+        NeoBlockCount response = request.sendAsync().get(10, TimeUnit.SECONDS);
+
+        assertThat(response.getBlockIndex(), is(BigInteger.valueOf(1234)));
+        assertThat(executor.isCalled(), is(false));
+    }
+
+    @Test
+    public void testNonBlockingSendAsyncWithHttpError() throws Exception {
+        HttpService nonBlockingHttpService = new HttpService(createHttpClient(400, "400 error"));
+        nonBlockingHttpService.setNonBlocking(true);
+
+        Request<String, NeoBlockCount> request = new Request<>(
+                "getblockcount",
+                Collections.emptyList(),
+                nonBlockingHttpService,
+                NeoBlockCount.class);
+        try {
+            request.sendAsync().get(10, TimeUnit.SECONDS);
+            Assert.fail("No exception");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof ClientConnectionException);
+            assertThat(e.getCause().getMessage(), is("Invalid response received: 400; 400 error"));
+        }
+    }
+
+    @Test
+    public void testRequestMetrics() throws Exception {
+        String reply = "{\"jsonrpc\":\"2.0\",\"id\":1,"
+                + "\"error\":{\"code\":-100,\"message\":\"Unknown block\"}}";
+        HttpService metricsHttpService = new HttpService(createHttpClient(200, reply), true);
+        InMemoryMetrics metrics = new InMemoryMetrics();
+        metricsHttpService.addRequestListener(metrics);
+
+        Request<String, NeoBlockCount> request = new Request<>(
+                "getblockcount",
+                Collections.emptyList(),
+                metricsHttpService,
+                NeoBlockCount.class);
+        NeoBlockCount response = request.send();
+        metricsHttpService.setNonBlocking(true);
+        request.sendAsync().get(10, TimeUnit.SECONDS);
+
+        assertThat(response.getRawResponse(), is(reply));
+        MethodMetrics methodMetrics = metrics.getMethodMetrics("getblockcount");
+        assertThat(methodMetrics.getRequestCount(), is(2L));
+        assertThat(methodMetrics.getInFlightCount(), is(0));
+        assertThat(methodMetrics.getErrorResponseCount(), is(2L));
+        assertThat(methodMetrics.getErrorCodeCounts().get(-100), is(2L));
+        assertThat(methodMetrics.getResponseBytes(), is(2L * reply.length()));
+        assertThat(methodMetrics.getRequestBytes(), is(2L * ("{\"jsonrpc\":\"2.0\","
+                + "\"method\":\"getblockcount\",\"params\":[],\"id\":" + request.getId()
+                + "}").length()));
+        assertThat(methodMetrics.getLatency().getCount(), is(2L));
+    }
+
+    @Test
+    public void testRequestMetricsOfFailedRequest() throws Exception {
+        HttpService metricsHttpService = new HttpService(createHttpClient(500, "500 error"));
+        List<RequestMetrics> recorded = new ArrayList<>();
+        metricsHttpService.addRequestListener(recorded::add);
+
+        Request<String, NeoBlockCount> request = new Request<>(
+                "getblockcount",
+                Collections.emptyList(),
+                metricsHttpService,
+                NeoBlockCount.class);
+        try {
+            request.send();
+            Assert.fail("No exception");
+        } catch (ClientConnectionException e) {
+            assertThat(recorded.size(), is(1));
+            assertThat(recorded.get(0).getFailure(), is(e));
+            assertThat(recorded.get(0).getResponseSize(), is(-1L));
+            assertTrue(recorded.get(0).getRequestSize() > 0);
+            assertTrue(recorded.get(0).isError());
+        }
+    }
+
+    @Test
+    public void testBuilderWithCompressedResponse() throws Exception {
+        String reply = "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":1234}";
+        MockWebServer server = new MockWebServer();
+        server.enqueue(new MockResponse()
+                .setHeader("Content-Encoding", "gzip")
+                .setBody(gzip(reply.getBytes(StandardCharsets.UTF_8))));
+        server.start();
+        try {
+            HttpService builtHttpService = new HttpService.Builder(server.url("/").toString())
+                    .connectionPool(10, 60_000)
+                    .maxRequests(32, 16)
+                    .timeouts(1000, 1000, 1000)
+                    .includeRawResponses(true)
+                    .build();
+
+            NeoBlockCount response = new Request<>("getblockcount", Collections.emptyList(),
+                    builtHttpService, NeoBlockCount.class).send();
+
+            assertThat(response.getBlockIndex(), is(BigInteger.valueOf(1234)));
+            assertThat(response.getRawResponse(), is(reply));
+            assertThat(server.takeRequest().getHeader("Accept-Encoding"), is("gzip"));
+        } finally {
+            server.shutdown();
+        }
+    }
+
+    @Test
+    public void testBuilderWithCompressedRequests() throws Exception {
+        MockWebServer server = new MockWebServer();
+        server.enqueue(new MockResponse()
+                .setBody("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":1234}"));
+        server.start();
+        try {
+            HttpService builtHttpService = new HttpService.Builder(server.url("/").toString())
+                    .compressRequests(0)
+                    .compressResponses(false)
+                    .build();
+            Request<String, NeoBlockCount> request = new Request<>("getblockcount",
+                    Collections.emptyList(), builtHttpService, NeoBlockCount.class);
+            request.send();
+
+            RecordedRequest recorded = server.takeRequest();
+            assertThat(recorded.getHeader("Content-Encoding"), is("gzip"));
+            assertThat(recorded.getHeader("Accept-Encoding"), is("identity"));
+            Buffer body = new Buffer();
+            body.writeAll(new GzipSource(recorded.getBody()));
+            assertThat(body.readUtf8(), is("{\"jsonrpc\":\"2.0\",\"method\":\"getblockcount\","
+                    + "\"params\":[],\"id\":" + request.getId() + "}"));
+        } finally {
+            server.shutdown();
+        }
+    }
+
+    @Test
+    public void testBatchWithRawResponses() throws Exception {
+        MockWebServer server = new MockWebServer();
+        server.start();
+        try {
+            HttpService builtHttpService = new HttpService.Builder(server.url("/").toString())
+                    .includeRawResponses(true)
+                    .build();
+            Request<String, NeoBlockCount> first = new Request<>("getblockcount",
+                    Collections.emptyList(), builtHttpService, NeoBlockCount.class);
+            Request<String, NeoBlockCount> second = new Request<>("getblockcount",
+                    Collections.emptyList(), builtHttpService, NeoBlockCount.class);
+            String firstReply = "{\"jsonrpc\":\"2.0\",\"id\":" + first.getId()
+                    + ",\"result\":1234}";
+            String secondReply = "{\"jsonrpc\":\"2.0\",\"id\":" + second.getId()
+                    + ",\"result\":5678}";
+            server.enqueue(new MockResponse()
+                    .setBody("[" + secondReply + "," + firstReply + "]"));
+
+            BatchResponse response = new BatchRequest(builtHttpService)
+                    .add(first)
+                    .add(second)
+                    .send();
+
+            assertThat(response.getResponse(first).getBlockIndex(), is(BigInteger.valueOf(1234)));
+            assertThat(response.getResponse(first).getRawResponse(), is(firstReply));
+            assertThat(response.getResponse(second).getRawResponse(), is(secondReply));
+        } finally {
+            server.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuilderWithInvalidMaxRequests() {
+        new HttpService.Builder(HttpService.DEFAULT_URL).maxRequests(0, 5);
+    }
+
+    private static Buffer gzip(byte[] data) throws IOException {
+        Buffer result = new Buffer();
+        BufferedSink sink = Okio.buffer(new GzipSink(result));
+        sink.write(data);
+        sink.close();
+        return result;
+    }
+
+    private OkHttpClient createHttpClient(int code, String content) {
+        return new OkHttpClient.Builder()
+                .addInterceptor(chain -> new Response.Builder()
+                        .code(code)
+                        .message("")
+                        .body(ResponseBody.create(HttpService.JSON_MEDIA_TYPE, content))
+                        .request(chain.request())
+                        .protocol(Protocol.HTTP_1_1)
+                        .build())
+                .build();
+    }
+
     @Test
     public void testAsyncWithExternalExecutor() throws ExecutionException, InterruptedException {
 
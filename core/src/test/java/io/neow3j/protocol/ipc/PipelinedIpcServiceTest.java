@@ -0,0 +1,214 @@
+package io.neow3j.protocol.ipc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.BatchResponse;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.methods.response.NeoBlockCount;
+import io.neow3j.protocol.core.methods.response.NeoGetVersion;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.Pipe;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class PipelinedIpcServiceTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private Pipe requests;
+    private Pipe replies;
+    private BufferedReader server;
+    private PipelinedIpcService service;
+    private Neow3j neow3j;
+
+    @Before
+    public void setUp() throws IOException {
+        requests = Pipe.open();
+        replies = Pipe.open();
+        server = new BufferedReader(new InputStreamReader(
+                Channels.newInputStream(requests.source()), StandardCharsets.UTF_8));
+        // A small buffer makes sure that messages span multiple reads.
+        service = new PipelinedIpcService(replies.source(), requests.sink(), true, 16);
+        neow3j = Neow3j.build(service);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        service.close();
+        replies.sink().close();
+        requests.source().close();
+    }
+
+    @Test
+    public void testRequestsArePipelined() throws Exception {
+        Request<?, NeoBlockCount> blockCount = neow3j.getBlockCount();
+        Request<?, NeoGetVersion> version = neow3j.getVersion();
+
+        CompletableFuture<NeoBlockCount> blockCountFuture = blockCount.sendAsync();
+        CompletableFuture<NeoGetVersion> versionFuture = version.sendAsync();
+        JsonNode first = nextRequest();
+        JsonNode second = nextRequest();
+        assertThat(first.get("method").asText(), is("getblockcount"));
+        assertThat(second.get("method").asText(), is("getversion"));
+
+        // Both replies in one write and in reverse order
+        String blockCountReply =
+                "{\"jsonrpc\":\"2.0\",\"id\":" + blockCount.getId() + ",\"result\":1234}";
+        reply("{\"jsonrpc\":\"2.0\",\"id\":" + version.getId()
+                + ",\"result\":{\"tcpport\":40333,\"nonce\":1,\"useragent\":\"/Neo:3.0.0/\"}}\n"
+                + blockCountReply + "\n");
+
+        NeoBlockCount blockCountResponse = blockCountFuture.get(10, TimeUnit.SECONDS);
+        assertThat(blockCountResponse.getBlockIndex(), is(BigInteger.valueOf(1234)));
+        assertThat(blockCountResponse.getRawResponse(), is(blockCountReply));
+        assertThat(versionFuture.get(10, TimeUnit.SECONDS).getVersion().getUserAgent(),
+                is("/Neo:3.0.0/"));
+    }
+
+    @Test
+    public void testReplySplitOverMultipleWrites() throws Exception {
+        Request<?, NeoBlockCount> blockCount = neow3j.getBlockCount();
+        CompletableFuture<NeoBlockCount> future = blockCount.sendAsync();
+        nextRequest();
+
+        reply("{\"jsonrpc\":\"2.0\",");
+        reply("\"id\":" + blockCount.getId() + ",");
+        reply("\"result\":1234}\n");
+
+        assertThat(future.get(10, TimeUnit.SECONDS).getBlockIndex(),
+                is(BigInteger.valueOf(1234)));
+    }
+
+    @Test
+    public void testBlockingSend() throws Exception {
+        Request<?, NeoBlockCount> blockCount = neow3j.getBlockCount();
+        CompletableFuture<Void> server = CompletableFuture.runAsync(() -> {
+            try {
+                nextRequest();
+                reply("{\"jsonrpc\":\"2.0\",\"id\":" + blockCount.getId() + ",\"result\":7}\n");
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        assertThat(blockCount.send().getBlockIndex(), is(BigInteger.valueOf(7)));
+        server.get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testBatchRequest() throws Exception {
+        Request<?, NeoBlockCount> blockCount = neow3j.getBlockCount();
+        Request<?, NeoGetVersion> version = neow3j.getVersion();
+
+        CompletableFuture<BatchResponse> future =
+                neow3j.newBatch().add(blockCount).add(version).sendAsync();
+        JsonNode batch = nextRequest();
+        assertTrue(batch.isArray());
+        assertThat(batch.size(), is(2));
+
+        reply("[{\"jsonrpc\":\"2.0\",\"id\":" + version.getId()
+                + ",\"result\":{\"tcpport\":40333,\"nonce\":1,\"useragent\":\"/Neo:3.0.0/\"}},"
+                + "{\"jsonrpc\":\"2.0\",\"id\":" + blockCount.getId() + ",\"result\":1234}]\n");
+
+        BatchResponse response = future.get(10, TimeUnit.SECONDS);
+        assertThat(response.getResponse(blockCount).getBlockIndex(),
+                is(BigInteger.valueOf(1234)));
+        assertThat(response.getResponse(version).getVersion().getTCPPort(), is(40333));
+    }
+
+    @Test
+    public void testFailedSerializationDoesNotCorruptStream() throws Exception {
+        Request<Object, NeoBlockCount> invalid = new Request<>("getblockcount",
+                Collections.singletonList(new Object()), service, NeoBlockCount.class);
+        try {
+            invalid.sendAsync().get(10, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(IOException.class));
+        }
+
+        Request<?, NeoBlockCount> blockCount = neow3j.getBlockCount();
+        CompletableFuture<NeoBlockCount> future = blockCount.sendAsync();
+        JsonNode request = nextRequest();
+        assertThat(request.get("id").asLong(), is(blockCount.getId()));
+        reply("{\"jsonrpc\":\"2.0\",\"id\":" + blockCount.getId() + ",\"result\":1234}\n");
+
+        assertThat(future.get(10, TimeUnit.SECONDS).getBlockIndex(),
+                is(BigInteger.valueOf(1234)));
+    }
+
+    @Test
+    public void testAsyncRequestTimesOut() throws Exception {
+        service.setRequestTimeout(50);
+        Request<?, NeoBlockCount> blockCount = neow3j.getBlockCount();
+        CompletableFuture<NeoBlockCount> future = blockCount.sendAsync();
+        nextRequest();
+
+        try {
+            future.get(10, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(IOException.class));
+            assertThat(e.getCause().getMessage(),
+                    is("IPC request with id " + blockCount.getId() + " timed out"));
+        }
+        assertThat(service.getPendingRequestCount(), is(0));
+    }
+
+    @Test
+    public void testCancelledRequestIsRemoved() throws Exception {
+        CompletableFuture<NeoBlockCount> future = neow3j.getBlockCount().sendAsync();
+        nextRequest();
+        assertThat(service.getPendingRequestCount(), is(1));
+
+        future.cancel(true);
+
+        assertThat(service.getPendingRequestCount(), is(0));
+    }
+
+    @Test
+    public void testPendingRequestsFailWhenConnectionCloses() throws Exception {
+        CompletableFuture<NeoBlockCount> future = neow3j.getBlockCount().sendAsync();
+        nextRequest();
+
+        replies.sink().close();
+
+        try {
+            future.get(10, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(IOException.class));
+            assertThat(e.getCause().getMessage(), is("IPC connection was closed"));
+        }
+    }
+
+    private JsonNode nextRequest() throws IOException {
+        return MAPPER.readTree(server.readLine());
+    }
+
+    private void reply(String message) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(message.getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            replies.sink().write(buffer);
+        }
+    }
+}
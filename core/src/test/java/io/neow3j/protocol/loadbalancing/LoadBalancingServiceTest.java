@@ -0,0 +1,264 @@
+package io.neow3j.protocol.loadbalancing;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.notifications.Notification;
+import io.reactivex.Observable;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class LoadBalancingServiceTest {
+
+    private ScheduledExecutorService executor;
+    private StubService node1;
+    private StubService node2;
+    private StubService node3;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newSingleThreadScheduledExecutor();
+        node1 = new StubService(100);
+        node2 = new StubService(100);
+        node3 = new StubService(100);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void testRoundRobin() throws IOException {
+        Neow3j neow3j = Neow3j.build(createService(RoutingStrategy.roundRobin()));
+
+        for (int i = 0; i < 6; i++) {
+            neow3j.getBestBlockHash().send();
+        }
+
+        assertThat(node1.calls, is(2));
+        assertThat(node2.calls, is(2));
+        assertThat(node3.calls, is(2));
+    }
+
+    @Test
+    public void testLeastOutstandingRequests() {
+        LoadBalancingService service = createService(RoutingStrategy.leastOutstandingRequests());
+        List<Endpoint> endpoints = service.getEndpoints();
+        endpoints.get(0).requestStarted();
+        endpoints.get(2).requestStarted();
+
+        Endpoint selected = RoutingStrategy.leastOutstandingRequests().select(endpoints);
+
+        assertThat(selected.getService(), is(node2));
+    }
+
+    @Test
+    public void testLatencyWeightedPrefersUnmeasuredEndpoints() {
+        LoadBalancingService service = createService(RoutingStrategy.latencyWeighted());
+        List<Endpoint> endpoints = service.getEndpoints();
+        endpoints.get(0).recordSuccess(10);
+        endpoints.get(1).recordSuccess(10);
+
+        Endpoint selected = RoutingStrategy.latencyWeighted().select(endpoints);
+
+        assertThat(selected.getService(), is(node3));
+    }
+
+    @Test
+    public void testLaggingNodeIsSkipped() throws IOException {
+        node2.blockCount = 98;
+        LoadBalancingService service = createService(RoutingStrategy.roundRobin());
+        service.checkHealth();
+        Neow3j neow3j = Neow3j.build(service);
+
+        for (int i = 0; i < 4; i++) {
+            neow3j.getBestBlockHash().send();
+        }
+
+        assertThat(node1.calls, is(2));
+        assertThat(node2.calls, is(0));
+        assertThat(node3.calls, is(2));
+    }
+
+    @Test
+    public void testMaxBlockLag() throws IOException {
+        node2.blockCount = 99;
+        LoadBalancingService service = createService(RoutingStrategy.roundRobin());
+        service.setMaxBlockLag(1);
+        service.checkHealth();
+        Neow3j neow3j = Neow3j.build(service);
+
+        for (int i = 0; i < 3; i++) {
+            neow3j.getBestBlockHash().send();
+        }
+
+        assertThat(node2.calls, is(1));
+    }
+
+    @Test
+    public void testReadIsRetriedOnOtherNode() throws IOException {
+        node1.failing = true;
+        Neow3j neow3j = Neow3j.build(createService(RoutingStrategy.roundRobin()));
+
+        neow3j.getBestBlockHash().send();
+
+        assertThat(node1.calls, is(1));
+        assertThat(node2.calls + node3.calls, is(1));
+    }
+
+    @Test
+    public void testTransactionIsNotRetried() {
+        node1.failing = true;
+        Neow3j neow3j = Neow3j.build(createService(RoutingStrategy.roundRobin()));
+
+        try {
+            neow3j.sendRawTransaction("00").send();
+            fail();
+        } catch (IOException e) {
+            assertThat(node1.calls, is(1));
+            assertThat(node2.calls, is(0));
+        }
+    }
+
+    @Test
+    public void testCircuitOpensAfterFailures() throws IOException {
+        node1.failing = true;
+        LoadBalancingService service = createService(RoutingStrategy.roundRobin());
+        service.setFailureThreshold(2);
+        Neow3j neow3j = Neow3j.build(service);
+
+        for (int i = 0; i < 9; i++) {
+            neow3j.getBestBlockHash().send();
+        }
+
+        assertThat(node1.calls, is(2));
+        assertThat(service.getEndpoints().get(0).isAvailable(System.currentTimeMillis()),
+                is(false));
+    }
+
+    @Test
+    public void testCircuitClosesAfterDuration() throws IOException {
+        node1.failing = true;
+        LoadBalancingService service = createService(RoutingStrategy.roundRobin());
+        service.setFailureThreshold(1);
+        service.setOpenCircuitDuration(0);
+        Neow3j neow3j = Neow3j.build(service);
+
+        neow3j.getBestBlockHash().send();
+        node1.failing = false;
+        for (int i = 0; i < 3; i++) {
+            neow3j.getBestBlockHash().send();
+        }
+
+        assertThat(node1.calls, is(2));
+    }
+
+    @Test
+    public void testAllNodesFailing() {
+        node1.failing = true;
+        node2.failing = true;
+        node3.failing = true;
+        Neow3j neow3j = Neow3j.build(createService(RoutingStrategy.roundRobin()));
+
+        try {
+            neow3j.getBestBlockHash().send();
+            fail();
+        } catch (IOException e) {
+            assertThat(e.getMessage(), is("Node is down"));
+            assertThat(node1.calls + node2.calls + node3.calls, is(3));
+        }
+    }
+
+    @Test
+    public void testWalletMethodsGoToFirstNode() throws IOException {
+        Neow3j neow3j = Neow3j.build(createService(RoutingStrategy.roundRobin()));
+
+        for (int i = 0; i < 3; i++) {
+            neow3j.listAddress().send();
+        }
+
+        assertThat(node1.calls, is(3));
+    }
+
+    private LoadBalancingService createService(RoutingStrategy strategy) {
+        return new LoadBalancingService(Arrays.asList(node1, node2, node3), strategy,
+                executor, 0);
+    }
+
+    private static class StubService implements Neow3jService {
+
+        private long blockCount;
+        private boolean failing = false;
+        private int calls = 0;
+
+        StubService(long blockCount) {
+            this.blockCount = blockCount;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T extends Response> T send(Request request, Class<T> responseType)
+                throws IOException {
+            if (failing) {
+                calls++;
+                throw new IOException("Node is down");
+            }
+            try {
+                T response = responseType.getDeclaredConstructor().newInstance();
+                if (request.getMethod().equals("getblockcount")) {
+                    response.setResult(BigInteger.valueOf(blockCount));
+                } else {
+                    calls++;
+                }
+                return response;
+            } catch (ReflectiveOperationException e) {
+                throw new IOException(e);
+            }
+        }
+
+        @Override
+        public <T extends Response> CompletableFuture<T> sendAsync(Request request,
+                Class<T> responseType) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public BatchResponse sendBatch(BatchRequest batchRequest) {
+            calls++;
+            return new BatchResponse(Collections.emptyList(), Collections.emptyList());
+        }
+
+        @Override
+        public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T extends Notification<?>> Observable<T> subscribe(Request request,
+                String unsubscribeMethod, Class<T> responseType) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package io.neow3j.protocol.metrics;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testEmptyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertThat(histogram.getCount(), is(0L));
+        assertThat(histogram.getMean(), is(0L));
+        assertThat(histogram.getPercentile(99), is(0L));
+    }
+
+    @Test
+    public void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 90; i++) {
+            // 1 ms
+            histogram.record(1_000_000);
+        }
+        for (int i = 0; i < 10; i++) {
+            // 100 ms
+            histogram.record(100_000_000);
+        }
+
+        assertThat(histogram.getCount(), is(100L));
+        assertThat(histogram.getMean(), is(10_900_000L));
+        assertThat(histogram.getMax(), is(100_000_000L));
+        // 1000 µs fall into the bucket up to 1024 µs.
+        assertThat(histogram.getPercentile(50), is(1_024_000L));
+        assertThat(histogram.getPercentile(90), is(1_024_000L));
+        // The upper bound of the bucket is capped at the maximum.
+        assertThat(histogram.getPercentile(99), is(100_000_000L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidPercentile() {
+        new LatencyHistogram().getPercentile(101);
+    }
+
+}
@@ -0,0 +1,51 @@
+package io.neow3j.protocol.metrics;
+
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.methods.response.NeoBlockCount;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class RequestRecorderTest {
+
+    private final Request<?, NeoBlockCount> request = new Request<>("getblockcount",
+            Collections.<String>emptyList(), null, NeoBlockCount.class);
+
+    @Test
+    public void testListenerAddedWhileInFlightIsNotNotified() {
+        List<RequestListener> listeners = new CopyOnWriteArrayList<>();
+        InMemoryMetrics first = new InMemoryMetrics();
+        listeners.add(first);
+
+        RequestRecorder recorder = RequestRecorder.start(listeners, request);
+        InMemoryMetrics second = new InMemoryMetrics();
+        listeners.add(second);
+        recorder.completed(new NeoBlockCount());
+
+        assertThat(first.getInFlightCount(), is(0));
+        assertThat(first.getMethodMetrics("getblockcount").getRequestCount(), is(1L));
+        assertThat(second.getMethodMetrics("getblockcount"), is(nullValue()));
+    }
+
+    @Test
+    public void testListenerRemovedWhileInFlightIsNotified() {
+        List<RequestListener> listeners = new CopyOnWriteArrayList<>();
+        InMemoryMetrics metrics = new InMemoryMetrics();
+        listeners.add(metrics);
+
+        RequestRecorder recorder = RequestRecorder.start(listeners, request);
+        assertThat(metrics.getInFlightCount(), is(1));
+        listeners.remove(metrics);
+        recorder.failed(new RuntimeException());
+
+        assertThat(metrics.getInFlightCount(), is(0));
+        assertThat(metrics.getMethodMetrics("getblockcount").getFailureCount(), is(1L));
+    }
+
+}
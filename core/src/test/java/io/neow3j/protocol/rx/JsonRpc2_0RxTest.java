@@ -20,13 +20,18 @@ import io.neow3j.protocol.core.methods.response.NeoBlockCount;
 import io.neow3j.protocol.core.methods.response.NeoGetBlock;
 import io.reactivex.Observable;
 import io.reactivex.disposables.Disposable;
+import io.reactivex.subscribers.TestSubscriber;
+import java.io.IOException;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -281,6 +286,135 @@ public class JsonRpc2_0RxTest {
         assertTrue(disposable.isDisposed());
     }
 
+    @Test
+    public void testReplayBlocksFlowableOrdered() throws Exception {
+        ScheduledExecutorService executor = Executors.newScheduledThreadPool(4);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        // Lower blocks take longer, so the node replies in reverse order.
+        when(neow3jService.sendAsync(any(Request.class), eq(NeoGetBlock.class)))
+            .thenAnswer(invocation -> {
+                int index = getBlockIndex(invocation.getArguments()[0]);
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                CompletableFuture<NeoGetBlock> future = new CompletableFuture<>();
+                executor.schedule(() -> {
+                    inFlight.decrementAndGet();
+                    future.complete(createBlock(index));
+                }, 50 * (5 - index), TimeUnit.MILLISECONDS);
+                return future;
+            });
+
+        TestSubscriber<NeoGetBlock> subscriber = neow3j.replayBlocksFlowable(
+            new BlockParameterIndex(BigInteger.ZERO),
+            new BlockParameterIndex(BigInteger.valueOf(4)),
+            false, true, 3, true).test();
+
+        subscriber.awaitDone(5, TimeUnit.SECONDS);
+        subscriber.assertComplete();
+        subscriber.assertValueCount(5);
+        for (int i = 0; i < 5; i++) {
+            assertThat(subscriber.values().get(i).getBlock().getIndex(), is((long) i));
+        }
+        assertThat(maxInFlight.get() <= 3, is(true));
+        assertThat(maxInFlight.get() > 1, is(true));
+        executor.shutdown();
+    }
+
+    @Test
+    public void testReplayBlocksFlowableUnorderedDescending() throws Exception {
+        when(neow3jService.sendAsync(any(Request.class), eq(NeoGetBlock.class)))
+            .thenAnswer(invocation -> CompletableFuture.completedFuture(
+                createBlock(getBlockIndex(invocation.getArguments()[0]))));
+
+        TestSubscriber<NeoGetBlock> subscriber = neow3j.replayBlocksFlowable(
+            new BlockParameterIndex(BigInteger.ZERO),
+            new BlockParameterIndex(BigInteger.valueOf(9)),
+            false, false, 4, false).test();
+
+        subscriber.awaitDone(5, TimeUnit.SECONDS);
+        subscriber.assertComplete();
+        subscriber.assertValueCount(10);
+        assertThat(subscriber.values().get(0).getBlock().getIndex(), is(9L));
+    }
+
+    @Test
+    public void testReplayBlocksFlowableOnlyRequestsOnDemand() throws Exception {
+        AtomicInteger requests = new AtomicInteger();
+        when(neow3jService.sendAsync(any(Request.class), eq(NeoGetBlock.class)))
+            .thenAnswer(invocation -> {
+                requests.incrementAndGet();
+                return CompletableFuture.completedFuture(
+                    createBlock(getBlockIndex(invocation.getArguments()[0])));
+            });
+
+        TestSubscriber<NeoGetBlock> subscriber = neow3j.replayBlocksFlowable(
+            new BlockParameterIndex(BigInteger.ZERO),
+            new BlockParameterIndex(BigInteger.valueOf(1000)),
+            false, true, 2, true).test(0);
+
+        Thread.sleep(200);
+        // Only the blocks of the in-flight window are fetched without demand.
+        assertThat(requests.get(), is(2));
+        subscriber.assertNoValues();
+
+        subscriber.request(3);
+        subscriber.awaitCount(3);
+        Thread.sleep(200);
+        assertThat(requests.get(), is(5));
+        subscriber.assertValueCount(3);
+        subscriber.dispose();
+    }
+
+    @Test
+    public void testReplayBlocksFlowableError() throws Exception {
+        CompletableFuture<NeoGetBlock> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IOException("Node is down"));
+        when(neow3jService.sendAsync(any(Request.class), eq(NeoGetBlock.class)))
+            .thenReturn(failed);
+
+        TestSubscriber<NeoGetBlock> subscriber = neow3j.replayBlocksFlowable(
+            new BlockParameterIndex(BigInteger.ZERO),
+            new BlockParameterIndex(BigInteger.valueOf(2)),
+            false, true, 2, true).test();
+
+        subscriber.awaitDone(5, TimeUnit.SECONDS);
+        subscriber.assertError(IOException.class);
+    }
+
+    @Test
+    public void testCatchUpToLatestBlockFlowable() throws Exception {
+        AtomicInteger requests = new AtomicInteger();
+        when(neow3jService.sendAsync(any(Request.class), eq(NeoGetBlock.class)))
+            .thenAnswer(invocation -> {
+                requests.incrementAndGet();
+                return CompletableFuture.completedFuture(
+                    createBlock(getBlockIndex(invocation.getArguments()[0])));
+            });
+        NeoBlockCount neoBlockCount = new NeoBlockCount();
+        neoBlockCount.setResult(BigInteger.valueOf(100));
+        when(neow3jService.send(any(Request.class), eq(NeoBlockCount.class)))
+            .thenReturn(neoBlockCount);
+
+        TestSubscriber<NeoGetBlock> subscriber = neow3j.catchUpToLatestBlockFlowable(
+            new BlockParameterIndex(BigInteger.ZERO), false).test(1);
+
+        subscriber.awaitCount(1);
+        Thread.sleep(200);
+        assertThat(requests.get() <= 1 + JsonRpc2_0Rx.DEFAULT_MAX_CONCURRENCY, is(true));
+
+        subscriber.request(Long.MAX_VALUE);
+        subscriber.awaitDone(5, TimeUnit.SECONDS);
+        subscriber.assertComplete();
+        subscriber.assertValueCount(100);
+        for (int i = 0; i < 100; i++) {
+            assertThat(subscriber.values().get(i).getBlock().getIndex(), is((long) i));
+        }
+    }
+
+    private int getBlockIndex(Object request) {
+        return ((BigInteger) ((Request<?, ?>) request).getParams().get(0)).intValue();
+    }
+
     private NeoGetBlock createBlock(int number) {
         NeoGetBlock neoGetBlock = new NeoGetBlock();
         NeoBlock block = new NeoBlock("", 0L, 0, "",
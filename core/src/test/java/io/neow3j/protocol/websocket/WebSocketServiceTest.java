@@ -0,0 +1,280 @@
+package io.neow3j.protocol.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.BatchResponse;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.methods.response.NeoBlockCount;
+import io.neow3j.protocol.core.methods.response.NeoGetVersion;
+import io.neow3j.protocol.notifications.BlockNotification;
+import io.reactivex.Observable;
+import io.reactivex.disposables.Disposable;
+import org.java_websocket.WebSocket;
+import org.java_websocket.handshake.ClientHandshake;
+import org.java_websocket.server.WebSocketServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class WebSocketServiceTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private StubServer server;
+    private ScheduledThreadPoolExecutor executor;
+    private WebSocketService service;
+    private Neow3j neow3j;
+
+    @Before
+    public void setUp() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        server = new StubServer(port);
+        server.start();
+        assertTrue(server.started.await(10, TimeUnit.SECONDS));
+
+        executor = new ScheduledThreadPoolExecutor(1);
+        service = new WebSocketService(
+                new WebSocketClient(new URI("ws://localhost:" + port)),
+                executor,
+                false);
+        service.connect();
+        neow3j = Neow3j.build(service);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        service.close();
+        server.stop();
+    }
+
+    @Test
+    public void testConcurrentRequestsAreMatchedById() throws Exception {
+        Request<?, NeoBlockCount> blockCount = neow3j.getBlockCount();
+        Request<?, NeoGetVersion> version = neow3j.getVersion();
+
+        CompletableFuture<NeoBlockCount> blockCountFuture = blockCount.sendAsync();
+        CompletableFuture<NeoGetVersion> versionFuture = version.sendAsync();
+        JsonNode first = server.nextMessage();
+        JsonNode second = server.nextMessage();
+        assertThat(first.get("method").asText(), is("getblockcount"));
+        assertThat(second.get("method").asText(), is("getversion"));
+
+        // Reply in reverse order
+        server.reply("{\"jsonrpc\":\"2.0\",\"id\":" + version.getId()
+                + ",\"result\":{\"tcpport\":40333,\"nonce\":1,\"useragent\":\"/Neo:3.0.0/\"}}");
+        server.reply("{\"jsonrpc\":\"2.0\",\"id\":" + blockCount.getId() + ",\"result\":1234}");
+
+        assertThat(blockCountFuture.get(10, TimeUnit.SECONDS).getBlockIndex(),
+                is(BigInteger.valueOf(1234)));
+        assertThat(versionFuture.get(10, TimeUnit.SECONDS).getVersion().getUserAgent(),
+                is("/Neo:3.0.0/"));
+    }
+
+    @Test
+    public void testBatchRequest() throws Exception {
+        Request<?, NeoBlockCount> blockCount = neow3j.getBlockCount();
+        Request<?, NeoGetVersion> version = neow3j.getVersion();
+
+        CompletableFuture<BatchResponse> future =
+                neow3j.newBatch().add(blockCount).add(version).sendAsync();
+        JsonNode batch = server.nextMessage();
+        assertTrue(batch.isArray());
+        assertThat(batch.size(), is(2));
+
+        server.reply("[{\"jsonrpc\":\"2.0\",\"id\":" + version.getId()
+                + ",\"result\":{\"tcpport\":40333,\"nonce\":1,\"useragent\":\"/Neo:3.0.0/\"}},"
+                + "{\"jsonrpc\":\"2.0\",\"id\":" + blockCount.getId() + ",\"result\":1234}]");
+
+        BatchResponse response = future.get(10, TimeUnit.SECONDS);
+        assertThat(response.getResponse(blockCount).getBlockIndex(),
+                is(BigInteger.valueOf(1234)));
+        assertThat(response.getResponse(version).getVersion().getTCPPort(), is(40333));
+    }
+
+    @Test
+    public void testBlockNotifications() throws Exception {
+        List<BlockNotification> notifications = new CopyOnWriteArrayList<>();
+        CountDownLatch received = new CountDownLatch(2);
+        Disposable disposable = neow3j.blockNotifications().subscribe(n -> {
+            notifications.add(n);
+            received.countDown();
+        });
+
+        JsonNode subscribe = server.nextMessage();
+        assertThat(subscribe.get("method").asText(), is("subscribe"));
+        assertThat(subscribe.get("params").get(0).asText(), is("block_added"));
+        server.reply("{\"jsonrpc\":\"2.0\",\"id\":" + subscribe.get("id").asLong()
+                + ",\"result\":\"sub-1\"}");
+        server.reply(blockEvent("sub-1", 1000));
+        server.reply(blockEvent("sub-1", 1001));
+
+        assertTrue(received.await(10, TimeUnit.SECONDS));
+        assertThat(notifications.get(0).getParams().getSubscription(), is("sub-1"));
+        assertThat(notifications.get(0).getParams().getResult().getIndex(), is(1000L));
+        assertThat(notifications.get(1).getParams().getResult().getIndex(), is(1001L));
+
+        disposable.dispose();
+        JsonNode unsubscribe = server.nextMessage();
+        assertThat(unsubscribe.get("method").asText(), is("unsubscribe"));
+        assertThat(unsubscribe.get("params").get(0).asText(), is("sub-1"));
+    }
+
+    @Test
+    public void testDisposeBeforeSubscriptionReplyUnsubscribes() throws Exception {
+        Observable<BlockNotification> notifications = neow3j.blockNotifications();
+        Disposable first = notifications.subscribe(n -> fail());
+        Disposable second = notifications.subscribe(n -> fail());
+        first.dispose();
+        second.dispose();
+
+        JsonNode subscribe = server.nextMessage();
+        server.reply("{\"jsonrpc\":\"2.0\",\"id\":" + subscribe.get("id").asLong()
+                + ",\"result\":\"sub-1\"}");
+
+        JsonNode unsubscribe = server.nextMessage();
+        assertThat(unsubscribe.get("method").asText(), is("unsubscribe"));
+        assertThat(unsubscribe.get("params").get(0).asText(), is("sub-1"));
+        assertThat(server.messages.poll(200, TimeUnit.MILLISECONDS), is(nullValue()));
+    }
+
+    @Test
+    public void testUnsubscribeIsSentOnceForSeveralDisposers() throws Exception {
+        Observable<BlockNotification> notifications = neow3j.blockNotifications();
+        Disposable first = notifications.subscribe();
+        Disposable second = notifications.subscribe();
+
+        JsonNode subscribe = server.nextMessage();
+        server.reply("{\"jsonrpc\":\"2.0\",\"id\":" + subscribe.get("id").asLong()
+                + ",\"result\":\"sub-1\"}");
+        // Wait until the reply is processed by sending a request after it.
+        CompletableFuture<NeoBlockCount> blockCount = neow3j.getBlockCount().sendAsync();
+        JsonNode request = server.nextMessage();
+        server.reply("{\"jsonrpc\":\"2.0\",\"id\":" + request.get("id").asLong()
+                + ",\"result\":1}");
+        blockCount.get(10, TimeUnit.SECONDS);
+
+        first.dispose();
+        second.dispose();
+
+        assertThat(server.nextMessage().get("method").asText(), is("unsubscribe"));
+        assertThat(server.messages.poll(200, TimeUnit.MILLISECONDS), is(nullValue()));
+    }
+
+    @Test
+    public void testTimeoutIsCancelledOnReply() throws Exception {
+        CompletableFuture<NeoBlockCount> future = neow3j.getBlockCount().sendAsync();
+        JsonNode request = server.nextMessage();
+        server.reply("{\"jsonrpc\":\"2.0\",\"id\":" + request.get("id").asLong()
+                + ",\"result\":1234}");
+
+        future.get(10, TimeUnit.SECONDS);
+        assertTrue(executor.getQueue().isEmpty());
+    }
+
+    @Test
+    public void testSubscriptionError() throws Exception {
+        CompletableFuture<Throwable> error = new CompletableFuture<>();
+        neow3j.blockNotifications().subscribe(n -> fail(), error::complete);
+
+        JsonNode subscribe = server.nextMessage();
+        server.reply("{\"jsonrpc\":\"2.0\",\"id\":" + subscribe.get("id").asLong()
+                + ",\"error\":{\"code\":-32601,\"message\":\"Method not found\"}}");
+
+        assertThat(error.get(10, TimeUnit.SECONDS).getMessage(),
+                is("Subscription request returned error: Method not found"));
+    }
+
+    @Test
+    public void testPendingRequestsFailWhenConnectionCloses() throws Exception {
+        CompletableFuture<NeoBlockCount> future = neow3j.getBlockCount().sendAsync();
+        server.nextMessage();
+
+        server.stop();
+
+        try {
+            future.get(10, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(IOException.class));
+            assertThat(e.getCause().getMessage(), is("Connection was closed"));
+        }
+    }
+
+    private static String blockEvent(String subscription, long index) {
+        return "{\"jsonrpc\":\"2.0\",\"method\":\"block_added\",\"params\":{"
+                + "\"subscription\":\"" + subscription + "\","
+                + "\"result\":{\"hash\":\"0x1234\",\"index\":" + index + "}}}";
+    }
+
+    private static class StubServer extends WebSocketServer {
+
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+        private volatile WebSocket connection;
+
+        StubServer(int port) {
+            super(new InetSocketAddress("localhost", port));
+        }
+
+        JsonNode nextMessage() throws Exception {
+            String message = messages.poll(10, TimeUnit.SECONDS);
+            if (message == null) {
+                fail("No message received");
+            }
+            return MAPPER.readTree(message);
+        }
+
+        void reply(String message) {
+            connection.send(message);
+        }
+
+        @Override
+        public void onOpen(WebSocket conn, ClientHandshake handshake) {
+            connection = conn;
+        }
+
+        @Override
+        public void onClose(WebSocket conn, int code, String reason, boolean remote) {
+        }
+
+        @Override
+        public void onMessage(WebSocket conn, String message) {
+            messages.add(message);
+        }
+
+        @Override
+        public void onError(WebSocket conn, Exception ex) {
+        }
+
+        @Override
+        public void onStart() {
+            started.countDown();
+        }
+    }
+}
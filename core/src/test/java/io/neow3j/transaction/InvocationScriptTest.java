@@ -11,12 +11,14 @@ import io.neow3j.crypto.ECKeyPair;
 import io.neow3j.crypto.Sign;
 import io.neow3j.io.NeoSerializableInterface;
 import io.neow3j.io.exceptions.DeserializationException;
+import io.neow3j.transaction.exceptions.ScriptFormatException;
 import io.neow3j.utils.ArrayUtils;
 import io.neow3j.utils.Numeric;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.NoSuchAlgorithmException;
 import java.security.NoSuchProviderException;
 import java.util.Arrays;
+import java.util.List;
 import org.junit.Test;
 
 public class InvocationScriptTest {
@@ -117,4 +119,31 @@ public class InvocationScriptTest {
         assertThat(s.getSize(), is(1 + 64)); // byte for script length and actual length.
     }
 
-}
\ No newline at end of file
+    @Test
+    public void getSignatures() throws InvalidAlgorithmParameterException,
+            NoSuchAlgorithmException, NoSuchProviderException {
+
+        byte[] message = new byte[10];
+        ECKeyPair keyPair = ECKeyPair.createEcKeyPair();
+        Sign.SignatureData sig1 = Sign.signMessage(message, keyPair);
+        Sign.SignatureData sig2 = Sign.signMessage(new byte[]{1}, keyPair);
+        InvocationScript invScript = InvocationScript.fromSignatures(Arrays.asList(sig1, sig2));
+
+        List<Sign.SignatureData> signatures = invScript.getSignatures();
+        assertThat(signatures.size(), is(2));
+        assertArrayEquals(sig1.getConcatenated(), signatures.get(0).getConcatenated());
+        assertArrayEquals(sig2.getConcatenated(), signatures.get(1).getConcatenated());
+    }
+
+    @Test(expected = ScriptFormatException.class)
+    public void getSignaturesFromScriptWithOtherData() {
+        new InvocationScript(Numeric.hexStringToByteArray(PUSHDATA1.toString() + "020102"))
+                .getSignatures();
+    }
+
+    @Test(expected = ScriptFormatException.class)
+    public void getSignaturesFromScriptWithOtherOpCode() {
+        new InvocationScript(new byte[]{(byte) OpCode.PUSH1.getCode()}).getSignatures();
+    }
+
+}
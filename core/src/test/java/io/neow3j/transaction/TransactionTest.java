@@ -8,6 +8,7 @@ import static org.junit.Assert.assertThat;
 
 import io.neow3j.constants.OpCode;
 import io.neow3j.contract.ScriptHash;
+import io.neow3j.crypto.Hash;
 import io.neow3j.io.NeoSerializableInterface;
 import io.neow3j.io.exceptions.DeserializationException;
 import io.neow3j.model.NeoConfig;
@@ -275,4 +276,62 @@ public class TransactionTest {
         byte[] expectedData = ArrayUtils.concatenate(magicNumber, txHexWithoutWitness);
         assertThat(tx.getHashData(), is(expectedData));
     }
+
+    @Test
+    public void serializedFormIsUpdatedWhenWitnessIsAdded() {
+        List<Signer> signers = new ArrayList<>();
+        signers.add(Signer.feeOnly(account1));
+        Transaction tx = new Transaction(neow, (byte) 0, 0L, 0L, signers, 0L, 0L,
+                new ArrayList<>(), new byte[]{1, 2, 3}, new ArrayList<>());
+        String txId = tx.getTxId();
+        byte[] unsigned = tx.toArray();
+
+        tx.addWitness(new Witness(new byte[]{0x00}, new byte[]{0x00}));
+
+        byte[] signed = tx.toArray();
+        assertThat(signed.length, is(unsigned.length + 4));
+        assertThat(Arrays.copyOf(signed, unsigned.length - 1),
+                is(Arrays.copyOf(unsigned, unsigned.length - 1)));
+        assertThat(tx.getTxId(), is(txId));
+    }
+
+    @Test
+    public void changingTheListsOfTheCallerDoesNotChangeTheTransaction() {
+        List<Signer> signers = new ArrayList<>();
+        signers.add(Signer.feeOnly(account1));
+        List<TransactionAttribute> attributes = new ArrayList<>();
+        List<Witness> witnesses = new ArrayList<>();
+        Transaction tx = new Transaction(neow, (byte) 0, 0L, 0L, signers, 0L, 0L,
+                attributes, new byte[]{1, 2, 3}, witnesses);
+        String txId = tx.getTxId();
+        byte[] bytes = tx.toArray();
+
+        signers.add(Signer.calledByEntry(account2));
+        witnesses.add(new Witness(new byte[]{0x00}, new byte[]{0x00}));
+
+        assertThat(tx.getSigners(), hasSize(1));
+        assertThat(tx.getWitnesses(), hasSize(0));
+        assertThat(tx.getTxId(), is(txId));
+        assertThat(tx.toArray(), is(bytes));
+    }
+
+    @Test
+    public void txIdDependsOnMagicNumber() {
+        List<Signer> signers = new ArrayList<>();
+        signers.add(Signer.feeOnly(account1));
+        Transaction tx = new Transaction(neow, (byte) 0, 0L, 0L, signers, 0L, 0L,
+                new ArrayList<>(), new byte[]{1, 2, 3}, new ArrayList<>());
+
+        NeoConfig.setMagicNumber(new byte[]{0x4e, 0x45, 0x4F, 0x00});
+        String txId = tx.getTxId();
+        assertThat(txId, is(Numeric.toHexStringNoPrefix(
+                ArrayUtils.reverseArray(Hash.hash256(tx.getHashData())))));
+
+        NeoConfig.setMagicNumber(new byte[]{0x01, 0x03, 0x00, 0x0});
+        String otherTxId = tx.getTxId();
+        assertThat(otherTxId, is(Numeric.toHexStringNoPrefix(
+                ArrayUtils.reverseArray(Hash.hash256(tx.getHashData())))));
+        assertThat(otherTxId.equals(txId), is(false));
+        NeoConfig.setMagicNumber(new byte[]{0x4e, 0x45, 0x4F, 0x00});
+    }
 }
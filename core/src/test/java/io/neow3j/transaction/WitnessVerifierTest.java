@@ -0,0 +1,217 @@
+package io.neow3j.transaction;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import io.neow3j.constants.OpCode;
+import io.neow3j.contract.ScriptHash;
+import io.neow3j.crypto.ECKeyPair;
+import io.neow3j.crypto.ECKeyPair.ECPublicKey;
+import io.neow3j.crypto.Sign;
+import io.neow3j.crypto.Sign.SignatureData;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.http.HttpService;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.Before;
+import org.junit.Test;
+
+public class WitnessVerifierTest {
+
+    private Neow3j neow = Neow3j.build(new HttpService("http://localhost:40332"));
+
+    private ECKeyPair keyPair1;
+    private ECKeyPair keyPair2;
+    private ECKeyPair keyPair3;
+
+    @Before
+    public void setUp() {
+        keyPair1 = ECKeyPair.create(BigInteger.valueOf(1001));
+        keyPair2 = ECKeyPair.create(BigInteger.valueOf(1002));
+        keyPair3 = ECKeyPair.create(BigInteger.valueOf(1003));
+    }
+
+    @Test
+    public void verifySingleSigWitness() {
+        Transaction tx = buildTransaction(scriptHash(keyPair1), 1);
+        tx.addWitness(Witness.createWitness(tx.getHashData(), keyPair1));
+
+        assertThat(new WitnessVerifier().verify(tx), is(true));
+        assertThat(tx.verifyWitnesses(), is(true));
+    }
+
+    @Test
+    public void failWithWitnessOfOtherTransaction() {
+        Transaction tx = buildTransaction(scriptHash(keyPair1), 1);
+        Transaction other = buildTransaction(scriptHash(keyPair1), 2);
+        tx.addWitness(Witness.createWitness(other.getHashData(), keyPair1));
+
+        assertThat(tx.verifyWitnesses(), is(false));
+    }
+
+    @Test
+    public void failWithoutWitnessForSigner() {
+        Transaction tx = buildTransaction(scriptHash(keyPair1), 1);
+        tx.addWitness(Witness.createWitness(tx.getHashData(), keyPair2));
+
+        assertThat(tx.verifyWitnesses(), is(false));
+    }
+
+    @Test
+    public void failWithSignatureOfOtherKey() {
+        Transaction tx = buildTransaction(scriptHash(keyPair1), 1);
+        InvocationScript invocationScript =
+                InvocationScript.fromMessageAndKeyPair(tx.getHashData(), keyPair2);
+        tx.addWitness(new Witness(invocationScript,
+                new VerificationScript(keyPair1.getPublicKey())));
+
+        assertThat(tx.verifyWitnesses(), is(false));
+    }
+
+    @Test
+    public void verifyMultiSigWitness() {
+        VerificationScript verificationScript = multiSigScript(2);
+        Transaction tx = buildTransaction(verificationScript.getScriptHash(), 1);
+        List<ECKeyPair> signers = keyPairsInScriptOrder(verificationScript);
+        List<SignatureData> signatures = Arrays.asList(
+                Sign.signMessage(tx.getHashData(), signers.get(0)),
+                Sign.signMessage(tx.getHashData(), signers.get(2)));
+        tx.addWitness(Witness.createMultiSigWitness(signatures, verificationScript));
+
+        assertThat(tx.verifyWitnesses(), is(true));
+    }
+
+    @Test
+    public void failMultiSigWitnessBelowThreshold() {
+        VerificationScript verificationScript = multiSigScript(2);
+        Transaction tx = buildTransaction(verificationScript.getScriptHash(), 1);
+        List<ECKeyPair> signers = keyPairsInScriptOrder(verificationScript);
+        InvocationScript invocationScript = InvocationScript.fromSignatures(
+                Collections.singletonList(Sign.signMessage(tx.getHashData(), signers.get(0))));
+        tx.addWitness(new Witness(invocationScript, verificationScript));
+
+        assertThat(tx.verifyWitnesses(), is(false));
+    }
+
+    @Test
+    public void failMultiSigWitnessWithSignaturesOutOfOrder() {
+        VerificationScript verificationScript = multiSigScript(2);
+        Transaction tx = buildTransaction(verificationScript.getScriptHash(), 1);
+        List<ECKeyPair> signers = keyPairsInScriptOrder(verificationScript);
+        InvocationScript invocationScript = InvocationScript.fromSignatures(Arrays.asList(
+                Sign.signMessage(tx.getHashData(), signers.get(2)),
+                Sign.signMessage(tx.getHashData(), signers.get(0))));
+        tx.addWitness(new Witness(invocationScript, verificationScript));
+
+        assertThat(tx.verifyWitnesses(), is(false));
+    }
+
+    @Test
+    public void failMultiSigWitnessWithDuplicateSignature() {
+        VerificationScript verificationScript = multiSigScript(2);
+        Transaction tx = buildTransaction(verificationScript.getScriptHash(), 1);
+        SignatureData signature =
+                Sign.signMessage(tx.getHashData(), keyPairsInScriptOrder(verificationScript).get(0));
+        InvocationScript invocationScript =
+                InvocationScript.fromSignatures(Arrays.asList(signature, signature));
+        tx.addWitness(new Witness(invocationScript, verificationScript));
+
+        assertThat(tx.verifyWitnesses(), is(false));
+    }
+
+    @Test
+    public void failWithCustomVerificationScript() {
+        byte[] script = new byte[]{(byte) OpCode.PUSH1.getCode()};
+        Transaction tx = buildTransaction(ScriptHash.fromScript(script), 1);
+        tx.addWitness(new Witness(new byte[0], script));
+
+        assertThat(tx.verifyWitnesses(), is(false));
+    }
+
+    @Test
+    public void verifyAllInParallel() {
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 0; i < 2 * WitnessVerifier.DEFAULT_PARALLELISM_THRESHOLD; i++) {
+            Transaction tx = buildTransaction(scriptHash(keyPair1), i);
+            // Every third transaction is signed by the wrong key.
+            ECKeyPair signer = i % 3 == 0 ? keyPair2 : keyPair1;
+            tx.addWitness(new Witness(
+                    InvocationScript.fromMessageAndKeyPair(tx.getHashData(), signer),
+                    new VerificationScript(keyPair1.getPublicKey())));
+            transactions.add(tx);
+        }
+
+        boolean[] results = new WitnessVerifier(new ForkJoinPool(4)).verifyAll(transactions);
+        for (int i = 0; i < transactions.size(); i++) {
+            assertThat(results[i], is(i % 3 != 0));
+        }
+    }
+
+    @Test
+    public void verifyAllMultiSigWitnessesInParallel() {
+        VerificationScript verificationScript = multiSigScript(2);
+        List<ECKeyPair> keyPairs = keyPairsInScriptOrder(verificationScript);
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 0; i < 2 * WitnessVerifier.DEFAULT_PARALLELISM_THRESHOLD; i++) {
+            Transaction tx = buildTransaction(verificationScript.getScriptHash(), i);
+            // Every third transaction has its signatures out of order.
+            List<SignatureData> signatures = new ArrayList<>(Arrays.asList(
+                    Sign.signMessage(tx.getHashData(), keyPairs.get(0)),
+                    Sign.signMessage(tx.getHashData(), keyPairs.get(1))));
+            if (i % 3 == 0) {
+                Collections.reverse(signatures);
+            }
+            tx.addWitness(new Witness(InvocationScript.fromSignatures(signatures),
+                    new VerificationScript(verificationScript.getScript())));
+            transactions.add(tx);
+        }
+
+        boolean[] results = new WitnessVerifier(new ForkJoinPool(4)).verifyAll(transactions);
+        for (int i = 0; i < transactions.size(); i++) {
+            assertThat(results[i], is(i % 3 != 0));
+        }
+    }
+
+    private Transaction buildTransaction(ScriptHash signer, long nonce) {
+        List<Signer> signers = new ArrayList<>();
+        signers.add(Signer.calledByEntry(signer));
+        return new Transaction(neow,
+                (byte) 0,
+                nonce,
+                1000L,
+                signers,
+                1L,
+                1L,
+                new ArrayList<>(),
+                new byte[]{(byte) OpCode.PUSH1.getCode()},
+                new ArrayList<>());
+    }
+
+    private ScriptHash scriptHash(ECKeyPair keyPair) {
+        return new VerificationScript(keyPair.getPublicKey()).getScriptHash();
+    }
+
+    private VerificationScript multiSigScript(int signingThreshold) {
+        return new VerificationScript(Arrays.asList(keyPair1.getPublicKey(),
+                keyPair2.getPublicKey(), keyPair3.getPublicKey()), signingThreshold);
+    }
+
+    // The verification script sorts the public keys. Multi-sig witnesses have to provide their
+    // signatures in that order.
+    private List<ECKeyPair> keyPairsInScriptOrder(VerificationScript verificationScript) {
+        List<ECKeyPair> keyPairs = new ArrayList<>();
+        for (ECPublicKey publicKey : verificationScript.getPublicKeys()) {
+            for (ECKeyPair keyPair : Arrays.asList(keyPair1, keyPair2, keyPair3)) {
+                if (keyPair.getPublicKey().equals(publicKey)) {
+                    keyPairs.add(keyPair);
+                }
+            }
+        }
+        return keyPairs;
+    }
+}
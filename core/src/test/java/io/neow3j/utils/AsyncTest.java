@@ -2,10 +2,17 @@ package io.neow3j.utils;
 
 import org.junit.Test;
 
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.fail;
 
 public class AsyncTest {
 
@@ -24,4 +31,58 @@ public class AsyncTest {
         }).get();
     }
 
+    @Test
+    public void testBoundedExecutor() throws Exception {
+        MeteredThreadPoolExecutor executor = Async.newBoundedExecutor(1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        Async.run(() -> release.await(10, TimeUnit.SECONDS), executor);
+        Async.run(() -> "queued", executor);
+
+        try {
+            Async.run(() -> "rejected", executor).get();
+            fail();
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(RejectedExecutionException.class));
+        }
+        assertThat(executor.getQueueSize(), is(1));
+        assertThat(executor.getPeakQueueSize(), is(1));
+        assertThat(executor.getRejectedTaskCount(), is(1L));
+
+        release.countDown();
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        assertThat(executor.getCompletedTaskCount(), is(2L));
+    }
+
+    @Test
+    public void testSetDefaultExecutor() throws Exception {
+        MeteredThreadPoolExecutor executor = Async.newBoundedExecutor(1, 10);
+        try {
+            Async.setDefaultExecutor(executor);
+            assertThat(Async.getDefaultExecutor(), sameInstance(executor));
+            assertThat(Async.run(() -> Thread.currentThread().getName()).get(),
+                    is("neow3j-async-1"));
+        } finally {
+            Async.setDefaultExecutor(null);
+            executor.shutdown();
+        }
+        assertThat(Async.getDefaultExecutor() == executor, is(false));
+    }
+
+    @Test
+    public void testVirtualThreadExecutor() throws Exception {
+        if (Async.isVirtualThreadSupported()) {
+            ExecutorService executor = Async.newVirtualThreadExecutor();
+            assertThat(Async.run(() -> "anything", executor).get(), is("anything"));
+            executor.shutdown();
+        } else {
+            try {
+                Async.newVirtualThreadExecutor();
+                fail();
+            } catch (UnsupportedOperationException e) {
+                assertThat(e.getMessage(), is("Virtual threads are not supported by this JVM."));
+            }
+        }
+    }
+
 }
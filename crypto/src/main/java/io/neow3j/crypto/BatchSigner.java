@@ -0,0 +1,131 @@
+package io.neow3j.crypto;
+
+import io.neow3j.constants.NeoConstants;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import org.bouncycastle.math.ec.FixedPointUtil;
+
+/**
+ * <p>Signs many hashes with the same private key.</p>
+ * <br>
+ * <p>The signer keeps the key parameters of its key pair, and the fixed-base comb table of the
+ * secp256r1 generator point is computed once when the class is loaded. Signing a hash therefore
+ * only costs the nonce derivation and one multiplication of the generator point. The signatures
+ * are deterministic (RFC 6979) and equal to the ones of {@link ECKeyPair#sign(byte[])}. They
+ * are {@link RecoverableECDSASigner.RecoverableSignature}s that carry their recovery id.</p>
+ * <br>
+ * <p>{@link #signAll(List)} splits large batches into tasks that sign in parallel on a
+ * {@link ForkJoinPool}. Instances of this class are thread-safe.</p>
+ */
+public class BatchSigner {
+
+    /**
+     * The minimum number of hashes for which signing is split into parallel tasks.
+     */
+    public static final int DEFAULT_PARALLELISM_THRESHOLD = 64;
+
+    // The number of hashes below which a task does not split any further.
+    private static final int MIN_TASK_SIZE = 16;
+
+    static {
+        FixedPointUtil.precompute(NeoConstants.CURVE.getG());
+    }
+
+    private final RecoverableECDSASigner signer;
+    private final ForkJoinPool pool;
+    private final int parallelismThreshold;
+
+    /**
+     * Creates a signer that signs large batches in parallel on the common pool.
+     *
+     * @param keyPair the key pair to sign with.
+     */
+    public BatchSigner(ECKeyPair keyPair) {
+        this(keyPair, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a signer that signs large batches in parallel on the given pool.
+     *
+     * @param keyPair the key pair to sign with.
+     * @param pool    the pool to sign on.
+     */
+    public BatchSigner(ECKeyPair keyPair, ForkJoinPool pool) {
+        this(keyPair, pool, DEFAULT_PARALLELISM_THRESHOLD);
+    }
+
+    /**
+     * Creates a signer that signs large batches in parallel on the given pool.
+     *
+     * @param keyPair              the key pair to sign with.
+     * @param pool                 the pool to sign on.
+     * @param parallelismThreshold the minimum number of hashes to sign them in parallel.
+     */
+    public BatchSigner(ECKeyPair keyPair, ForkJoinPool pool, int parallelismThreshold) {
+        this.signer = new RecoverableECDSASigner(keyPair);
+        this.pool = pool;
+        this.parallelismThreshold = parallelismThreshold;
+    }
+
+    /**
+     * Signs the given hash.
+     *
+     * @param hash the hash to sign.
+     * @return the signature.
+     */
+    public ECDSASignature sign(byte[] hash) {
+        return signer.sign(hash);
+    }
+
+    /**
+     * Signs the given hashes.
+     *
+     * @param hashes the hashes to sign.
+     * @return the signatures in the order of the hashes.
+     */
+    public List<ECDSASignature> signAll(List<byte[]> hashes) {
+        ECDSASignature[] signatures = new ECDSASignature[hashes.size()];
+        SignTask task = new SignTask(hashes, signatures, 0, hashes.size());
+        if (pool != null && hashes.size() >= parallelismThreshold) {
+            pool.invoke(task);
+        } else {
+            task.signRange();
+        }
+        return Arrays.asList(signatures);
+    }
+
+    private class SignTask extends RecursiveAction {
+
+        private final List<byte[]> hashes;
+        private final ECDSASignature[] signatures;
+        private final int from;
+        private final int to;
+
+        SignTask(List<byte[]> hashes, ECDSASignature[] signatures, int from, int to) {
+            this.hashes = hashes;
+            this.signatures = signatures;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= MIN_TASK_SIZE) {
+                signRange();
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new SignTask(hashes, signatures, from, middle),
+                    new SignTask(hashes, signatures, middle, to));
+        }
+
+        void signRange() {
+            for (int i = from; i < to; i++) {
+                signatures[i] = signer.sign(hashes.get(i));
+            }
+        }
+    }
+}
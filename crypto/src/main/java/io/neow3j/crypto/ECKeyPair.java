@@ -335,6 +335,13 @@ public class ECKeyPair {
             return ecPoint.getEncoded(compressed);
         }
 
+        /**
+         * @return the elliptic curve point of this public key.
+         */
+        ECPoint getPoint() {
+            return ecPoint;
+        }
+
         public java.security.spec.ECPoint getECPoint() {
             ECPoint normPoint = this.ecPoint.normalize();
             return new java.security.spec.ECPoint(
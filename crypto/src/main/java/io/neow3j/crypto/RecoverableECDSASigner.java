@@ -0,0 +1,90 @@
+package io.neow3j.crypto;
+
+import io.neow3j.constants.NeoConstants;
+
+import java.math.BigInteger;
+import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.crypto.signers.HMacDSAKCalculator;
+import org.bouncycastle.math.ec.ECMultiplier;
+import org.bouncycastle.math.ec.ECPoint;
+import org.bouncycastle.math.ec.FixedPointCombMultiplier;
+
+/**
+ * <p>A deterministic ECDSA signer (RFC 6979) that also returns the recovery id of each
+ * signature.</p>
+ * <br>
+ * <p>The recovery id is derived from the nonce point R that is computed while signing, i.e.,
+ * from the parity of its y-coordinate and from whether its x-coordinate exceeds the curve order.
+ * This avoids recovering up to four public keys from the signature to find the matching one.
+ * The signatures are equal to the ones of {@link ECKeyPair#sign(byte[])}.</p>
+ * <br>
+ * <p>Instances of this class are thread-safe.</p>
+ */
+public class RecoverableECDSASigner {
+
+    private static final ECMultiplier BASE_POINT_MULTIPLIER = new FixedPointCombMultiplier();
+
+    private final BigInteger privateKey;
+
+    /**
+     * Creates a signer for the private key of the given key pair.
+     *
+     * @param keyPair the key pair to sign with.
+     */
+    public RecoverableECDSASigner(ECKeyPair keyPair) {
+        this.privateKey = keyPair.getPrivateKey().getInt();
+    }
+
+    /**
+     * Signs the given hash.
+     *
+     * @param hash the hash to sign.
+     * @return the signature and its recovery id.
+     */
+    public RecoverableSignature sign(byte[] hash) {
+        BigInteger n = NeoConstants.CURVE.getN();
+        BigInteger e = calculateE(n, hash);
+        HMacDSAKCalculator kCalculator = new HMacDSAKCalculator(new SHA256Digest());
+        kCalculator.init(n, privateKey, hash);
+        while (true) {
+            BigInteger k = kCalculator.nextK();
+            ECPoint p = BASE_POINT_MULTIPLIER.multiply(NeoConstants.CURVE.getG(), k).normalize();
+            BigInteger x = p.getAffineXCoord().toBigInteger();
+            BigInteger r = x.mod(n);
+            if (r.signum() == 0) {
+                continue;
+            }
+            BigInteger s = k.modInverse(n).multiply(e.add(privateKey.multiply(r))).mod(n);
+            if (s.signum() == 0) {
+                continue;
+            }
+            int recId = (p.getAffineYCoord().testBitZero() ? 1 : 0)
+                    | (x.compareTo(n) >= 0 ? 2 : 0);
+            return new RecoverableSignature(r, s, recId);
+        }
+    }
+
+    // Converts the hash to an integer with at most the bit length of the curve order.
+    static BigInteger calculateE(BigInteger n, byte[] hash) {
+        int messageBitLength = hash.length * 8;
+        BigInteger e = new BigInteger(1, hash);
+        if (n.bitLength() < messageBitLength) {
+            e = e.shiftRight(messageBitLength - n.bitLength());
+        }
+        return e;
+    }
+
+    /**
+     * An ECDSA signature together with the id needed to recover the public key from it with
+     * {@link Sign#recoverFromSignature(int, ECDSASignature, byte[])}.
+     */
+    public static class RecoverableSignature extends ECDSASignature {
+
+        public final int recId;
+
+        public RecoverableSignature(BigInteger r, BigInteger s, int recId) {
+            super(r, s);
+            this.recId = recId;
+        }
+    }
+}
@@ -6,11 +6,15 @@ import io.neow3j.constants.NeoConstants;
 import io.neow3j.contract.ScriptHash;
 import io.neow3j.crypto.ECKeyPair.ECPrivateKey;
 import io.neow3j.crypto.ECKeyPair.ECPublicKey;
+import io.neow3j.crypto.RecoverableECDSASigner.RecoverableSignature;
 import io.neow3j.utils.ArrayUtils;
 import io.neow3j.utils.Numeric;
 import java.math.BigInteger;
 import java.security.SignatureException;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import org.bouncycastle.asn1.x9.X9IntegerConverter;
 import org.bouncycastle.math.ec.ECAlgorithms;
 import org.bouncycastle.math.ec.ECPoint;
@@ -30,6 +34,15 @@ public class Sign {
 
     private static final int LOWER_REAL_V = 27;
 
+    /**
+     * The minimum number of signatures for which {@link #verifyAll(List, ForkJoinPool)} verifies
+     * in parallel.
+     */
+    public static final int VERIFY_PARALLELISM_THRESHOLD = 32;
+
+    // The number of signatures below which a verification task does not split any further.
+    private static final int MIN_VERIFY_TASK_SIZE = 8;
+
     public static SignatureData signMessage(byte[] message, ECKeyPair keyPair) {
         return signMessage(message, keyPair, true);
     }
@@ -42,22 +55,9 @@ public class Sign {
             messageHash = message;
         }
 
-        ECDSASignature sig = keyPair.signAndGetECDSASignature(messageHash);
-        // Now we have to work backwards to figure out the recId needed to recover the signature.
-        int recId = -1;
-        for (int i = 0; i < 4; i++) {
-            ECPublicKey k = recoverFromSignature(i, sig, messageHash);
-            if (k != null && k.equals(keyPair.getPublicKey())) {
-                recId = i;
-                break;
-            }
-        }
-        if (recId == -1) {
-            throw new RuntimeException(
-                    "Could not construct a recoverable key. This should never happen.");
-        }
-
-        int headerByte = recId + 27;
+        // The recovery id is derived while signing, so no public keys need to be recovered.
+        RecoverableSignature sig = new RecoverableECDSASigner(keyPair).sign(messageHash);
+        int headerByte = sig.recId + 27;
 
         // 1 header + 32 bytes for R + 32 bytes for S
         byte v = (byte) headerByte;
@@ -197,6 +197,86 @@ public class Sign {
         return key;
     }
 
+    /**
+     * Verifies the signature of the given message. The message is hashed with SHA-256 before
+     * verification, in the same way as by {@link #signMessage(byte[], ECKeyPair)}.
+     *
+     * @param message       the signed message.
+     * @param signatureData the signature. Its recovery id is ignored.
+     * @param publicKey     the public key of the signer.
+     * @return true if the signature is valid. False, otherwise.
+     */
+    public static boolean verifySignature(byte[] message, SignatureData signatureData,
+            ECPublicKey publicKey) {
+
+        ECDSASignature signature = new ECDSASignature(
+                new BigInteger(1, signatureData.getR()),
+                new BigInteger(1, signatureData.getS()));
+        return verify(Hash.sha256(message), signature, publicKey);
+    }
+
+    /**
+     * Verifies the signature of the given hash.
+     *
+     * @param hash      the signed hash.
+     * @param signature the signature.
+     * @param publicKey the public key of the signer.
+     * @return true if the signature is valid. False, otherwise.
+     */
+    public static boolean verify(byte[] hash, ECDSASignature signature, ECPublicKey publicKey) {
+        BigInteger n = NeoConstants.CURVE.getN();
+        BigInteger r = signature.r;
+        BigInteger s = signature.s;
+        if (r.signum() <= 0 || r.compareTo(n) >= 0 || s.signum() <= 0 || s.compareTo(n) >= 0) {
+            return false;
+        }
+        BigInteger e = RecoverableECDSASigner.calculateE(n, hash);
+        BigInteger c = s.modInverse(n);
+        BigInteger u1 = e.multiply(c).mod(n);
+        BigInteger u2 = r.multiply(c).mod(n);
+        // The precomputations for the generator and the public key are cached on their points,
+        // so they are shared by all verifications with the same key objects.
+        ECPoint point = ECAlgorithms.sumOfTwoMultiplies(NeoConstants.CURVE.getG(), u1,
+                publicKey.getPoint(), u2).normalize();
+        if (point.isInfinity()) {
+            return false;
+        }
+        return point.getAffineXCoord().toBigInteger().mod(n).equals(r);
+    }
+
+    /**
+     * Verifies the given signatures in parallel on the common pool.
+     *
+     * @param verifications the signatures to verify.
+     * @return whether each signature is valid, in the order of the given verifications.
+     */
+    public static boolean[] verifyAll(List<Verification> verifications) {
+        return verifyAll(verifications, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Verifies the given signatures. If there are at least
+     * {@link #VERIFY_PARALLELISM_THRESHOLD} signatures, they are verified in parallel on the given
+     * pool.
+     * <p>
+     * Verifications that use the same {@link ECPublicKey} object share the precomputation for
+     * that public key.
+     *
+     * @param verifications the signatures to verify.
+     * @param pool          the pool to verify on, or null to verify on the calling thread.
+     * @return whether each signature is valid, in the order of the given verifications.
+     */
+    public static boolean[] verifyAll(List<Verification> verifications, ForkJoinPool pool) {
+        boolean[] results = new boolean[verifications.size()];
+        VerifyTask task = new VerifyTask(verifications, results, 0, verifications.size());
+        if (pool != null && verifications.size() >= VERIFY_PARALLELISM_THRESHOLD) {
+            pool.invoke(task);
+        } else {
+            task.verifyRange();
+        }
+        return results;
+    }
+
     /**
      * Returns public key from the given private key.
      *
@@ -261,6 +341,67 @@ public class Sign {
         return (byte) (realV + inc);
     }
 
+    /**
+     * A signature to verify together with the signed hash and the public key of the signer.
+     */
+    public static class Verification {
+
+        private final byte[] hash;
+        private final ECDSASignature signature;
+        private final ECPublicKey publicKey;
+
+        public Verification(byte[] hash, ECDSASignature signature, ECPublicKey publicKey) {
+            this.hash = hash;
+            this.signature = signature;
+            this.publicKey = publicKey;
+        }
+
+        public byte[] getHash() {
+            return hash;
+        }
+
+        public ECDSASignature getSignature() {
+            return signature;
+        }
+
+        public ECPublicKey getPublicKey() {
+            return publicKey;
+        }
+    }
+
+    private static class VerifyTask extends RecursiveAction {
+
+        private final List<Verification> verifications;
+        private final boolean[] results;
+        private final int from;
+        private final int to;
+
+        VerifyTask(List<Verification> verifications, boolean[] results, int from, int to) {
+            this.verifications = verifications;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= MIN_VERIFY_TASK_SIZE) {
+                verifyRange();
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new VerifyTask(verifications, results, from, middle),
+                    new VerifyTask(verifications, results, middle, to));
+        }
+
+        void verifyRange() {
+            for (int i = from; i < to; i++) {
+                Verification v = verifications.get(i);
+                results[i] = verify(v.getHash(), v.getSignature(), v.getPublicKey());
+            }
+        }
+    }
+
     public static class SignatureData {
         private final byte v;
         private final byte[] r;
@@ -0,0 +1,68 @@
+package io.neow3j.crypto;
+
+import static io.neow3j.crypto.SignTest.KEY_PAIR;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.Test;
+
+public class BatchSignerTest {
+
+    private static final byte[] HASH = Hash.sha256("A test message".getBytes());
+
+    @Test
+    public void signEqualsKeyPairSignature() {
+        ECDSASignature signature = new BatchSigner(KEY_PAIR).sign(HASH);
+        ECDSASignature expected = KEY_PAIR.signAndGetECDSASignature(HASH);
+
+        assertThat(signature.r, is(expected.r));
+        assertThat(signature.s, is(expected.s));
+    }
+
+    @Test
+    public void signAllInParallel() {
+        List<byte[]> hashes = createHashes(100);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<ECDSASignature> signatures = new BatchSigner(KEY_PAIR, pool, 10).signAll(hashes);
+            assertSignatures(hashes, signatures);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void signAllSequentiallyBelowThreshold() {
+        List<byte[]> hashes = createHashes(5);
+        List<ECDSASignature> signatures = new BatchSigner(KEY_PAIR).signAll(hashes);
+
+        assertSignatures(hashes, signatures);
+    }
+
+    @Test
+    public void signAllWithoutHashes() {
+        assertThat(new BatchSigner(KEY_PAIR).signAll(Collections.emptyList()).isEmpty(),
+                is(true));
+    }
+
+    private static List<byte[]> createHashes(int count) {
+        List<byte[]> hashes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            hashes.add(Hash.sha256(new byte[]{(byte) i}));
+        }
+        return hashes;
+    }
+
+    private static void assertSignatures(List<byte[]> hashes, List<ECDSASignature> signatures) {
+        assertThat(signatures.size(), is(hashes.size()));
+        for (int i = 0; i < hashes.size(); i++) {
+            ECDSASignature expected = KEY_PAIR.signAndGetECDSASignature(hashes.get(i));
+            assertThat(signatures.get(i).r, is(expected.r));
+            assertThat(signatures.get(i).s, is(expected.s));
+        }
+    }
+}
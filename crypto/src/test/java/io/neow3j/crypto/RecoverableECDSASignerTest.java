@@ -0,0 +1,40 @@
+package io.neow3j.crypto;
+
+import static io.neow3j.crypto.SignTest.KEY_PAIR;
+import static io.neow3j.crypto.SignTest.PUBLIC_KEY;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import io.neow3j.crypto.RecoverableECDSASigner.RecoverableSignature;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.Test;
+
+public class RecoverableECDSASignerTest {
+
+    @Test
+    public void signEqualsKeyPairSignature() {
+        byte[] hash = Hash.sha256("A test message".getBytes());
+        RecoverableSignature signature = new RecoverableECDSASigner(KEY_PAIR).sign(hash);
+        ECDSASignature expected = KEY_PAIR.signAndGetECDSASignature(hash);
+
+        assertThat(signature.r, is(expected.r));
+        assertThat(signature.s, is(expected.s));
+    }
+
+    @Test
+    public void recIdRecoversPublicKey() {
+        RecoverableECDSASigner signer = new RecoverableECDSASigner(KEY_PAIR);
+        Set<Integer> recIds = new HashSet<>();
+        for (int i = 0; i < 20; i++) {
+            byte[] hash = Hash.sha256(new byte[]{(byte) i});
+            RecoverableSignature signature = signer.sign(hash);
+            recIds.add(signature.recId);
+
+            assertThat(Sign.recoverFromSignature(signature.recId, signature, hash),
+                    is(PUBLIC_KEY));
+        }
+        // Both parities of the y-coordinate of R are covered.
+        assertThat(recIds.contains(0) && recIds.contains(1), is(true));
+    }
+}
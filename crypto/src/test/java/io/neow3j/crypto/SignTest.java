@@ -4,10 +4,16 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.core.IsEqual.equalTo;
 import static org.junit.Assert.assertThat;
 
+import io.neow3j.constants.NeoConstants;
 import io.neow3j.crypto.ECKeyPair.ECPrivateKey;
 import io.neow3j.crypto.ECKeyPair.ECPublicKey;
+import io.neow3j.crypto.Sign.Verification;
 import io.neow3j.utils.Numeric;
+import java.math.BigInteger;
 import java.security.SignatureException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import org.junit.Test;
 
 public class SignTest {
@@ -52,4 +58,55 @@ public class SignTest {
         Sign.signedMessageToKey(
                 TEST_MESSAGE, new Sign.SignatureData((byte) 27, new byte[]{1}, new byte[]{0}));
     }
+
+    @Test
+    public void testVerifySignature() {
+        Sign.SignatureData signatureData = Sign.signMessage(TEST_MESSAGE, KEY_PAIR);
+
+        assertThat(Sign.verifySignature(TEST_MESSAGE, signatureData, PUBLIC_KEY), is(true));
+        assertThat(Sign.verifySignature("Another message".getBytes(), signatureData, PUBLIC_KEY),
+                is(false));
+    }
+
+    @Test
+    public void testVerifyWithWrongPublicKey() {
+        byte[] hash = Hash.sha256(TEST_MESSAGE);
+        ECDSASignature signature = KEY_PAIR.signAndGetECDSASignature(hash);
+        ECPublicKey otherKey = Sign.publicKeyFromPrivate(new ECPrivateKey(BigInteger.TEN));
+
+        assertThat(Sign.verify(hash, signature, PUBLIC_KEY), is(true));
+        assertThat(Sign.verify(hash, signature, otherKey), is(false));
+    }
+
+    @Test
+    public void testVerifySignatureOutOfRange() {
+        byte[] hash = Hash.sha256(TEST_MESSAGE);
+        ECDSASignature signature = KEY_PAIR.signAndGetECDSASignature(hash);
+
+        assertThat(Sign.verify(hash, new ECDSASignature(BigInteger.ZERO, signature.s), PUBLIC_KEY),
+                is(false));
+        assertThat(Sign.verify(hash, new ECDSASignature(signature.r,
+                signature.s.add(NeoConstants.CURVE.getN())), PUBLIC_KEY), is(false));
+    }
+
+    @Test
+    public void testVerifyAll() {
+        List<Verification> verifications = new ArrayList<>();
+        for (int i = 0; i < 2 * Sign.VERIFY_PARALLELISM_THRESHOLD; i++) {
+            byte[] hash = Hash.sha256(new byte[]{(byte) i});
+            ECDSASignature signature = KEY_PAIR.signAndGetECDSASignature(hash);
+            if (i % 3 == 0) {
+                // Verify against a different hash.
+                hash = Hash.sha256(new byte[]{(byte) (i + 1)});
+            }
+            verifications.add(new Verification(hash, signature, PUBLIC_KEY));
+        }
+
+        boolean[] parallel = Sign.verifyAll(verifications, new ForkJoinPool(4));
+        boolean[] sequential = Sign.verifyAll(verifications, null);
+        for (int i = 0; i < verifications.size(); i++) {
+            assertThat(parallel[i], is(i % 3 != 0));
+            assertThat(sequential[i], is(i % 3 != 0));
+        }
+    }
 }
@@ -4,6 +4,7 @@ import io.neow3j.constants.InteropServiceCode;
 import io.neow3j.constants.OpCode;
 import io.neow3j.constants.OperandSize;
 import io.neow3j.io.BinaryReader;
+import io.neow3j.io.ByteBufferReader;
 import io.neow3j.utils.Numeric;
 import java.io.IOException;
 import java.util.HashMap;
@@ -48,7 +49,7 @@ public class ScriptReader {
      * @return the OpCode representation of the script.
      */
     public static String convertToOpCodeString(byte[] script) {
-        BinaryReader r = new BinaryReader(script);
+        BinaryReader r = new ByteBufferReader(script);
         StringBuilder builder = new StringBuilder();
         try {
             while (r.getPosition() < script.length) {
@@ -3,19 +3,46 @@ package io.neow3j.crypto;
 import io.neow3j.utils.Numeric;
 import org.bouncycastle.jcajce.provider.digest.Keccak;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 
 /**
- * Cryptographic hash functions.
+ * <p>Cryptographic hash functions.</p>
+ * <br>
+ * <p>The SHA-256 and RIPEMD-160 digests are kept per thread and reused, so that hashing does
+ * not look up a provider and create a new digest on every call. Besides byte arrays, slices of
+ * arrays and {@link ByteBuffer}s can be hashed without copying them, and hashes can be written
+ * into caller-supplied arrays.</p>
  */
 public class Hash {
 
+    /**
+     * The size of SHA-256 and hash256 hashes in bytes.
+     */
+    public static final int SHA256_SIZE = 32;
+
+    /**
+     * The size of RIPEMD-160 hashes in bytes.
+     */
+    public static final int RIPEMD160_SIZE = 20;
+
     static {
         SecurityProviderChecker.addBouncyCastle();
     }
 
+    private static final ThreadLocal<MessageDigest> SHA256 =
+            ThreadLocal.withInitial(() -> newDigest("SHA-256"));
+
+    private static final ThreadLocal<MessageDigest> RIPEMD160 =
+            ThreadLocal.withInitial(() -> newDigest("RipeMD160"));
+
+    // Holds the intermediate SHA-256 hash of hash256 and sha256AndThenRipemd160.
+    private static final ThreadLocal<byte[]> INTERMEDIATE =
+            ThreadLocal.withInitial(() -> new byte[SHA256_SIZE]);
+
     private Hash() {
     }
 
@@ -26,8 +53,29 @@ public class Hash {
      * @return hash value as byte array
      */
     public static byte[] sha256AndThenRipemd160(byte[] input) {
-        byte[] sha256 = sha256(input);
-        return ripemd160(sha256);
+        byte[] result = new byte[RIPEMD160_SIZE];
+        sha256AndThenRipemd160(input, 0, input.length, result, 0);
+        return result;
+    }
+
+    /**
+     * Performs a SHA256 followed by a RIPEMD160 on a slice of the input and writes the hash into
+     * the given output array.
+     *
+     * @param input        the input to hash.
+     * @param offset       the offset at which the slice starts.
+     * @param length       the length of the slice to hash.
+     * @param output       the array to write the hash into.
+     * @param outputOffset the offset at which the hash is written.
+     */
+    public static void sha256AndThenRipemd160(byte[] input, int offset, int length,
+            byte[] output, int outputOffset) {
+
+        byte[] sha256 = INTERMEDIATE.get();
+        sha256(input, offset, length, sha256, 0);
+        MessageDigest ripemd160 = ripemd160Digest();
+        ripemd160.update(sha256, 0, SHA256_SIZE);
+        digest(ripemd160, output, outputOffset);
     }
 
     /**
@@ -50,12 +98,7 @@ public class Hash {
      * @throws RuntimeException If we couldn't find any RipeMD160 provider
      */
     public static byte[] ripemd160(byte[] input) {
-        try {
-            MessageDigest md = MessageDigest.getInstance("RipeMD160");
-            return md.digest(input);
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("Couldn't find a RipeMD160 provider", e);
-        }
+        return ripemd160Digest().digest(input);
     }
 
     /**
@@ -112,21 +155,44 @@ public class Hash {
      * @throws RuntimeException If we couldn't find any SHA-256 provider
      */
     public static byte[] sha256(byte[] input) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            return digest.digest(input);
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("Couldn't find a SHA-256 provider", e);
-        }
+        return sha256Digest().digest(input);
     }
 
     public static byte[] sha256(byte[] input, int offset, int length) {
-        if (offset != 0 || length != input.length) {
-            byte[] array = new byte[length];
-            System.arraycopy(input, offset, array, 0, length);
-            input = array;
-        }
-        return sha256(input);
+        MessageDigest sha256 = sha256Digest();
+        sha256.update(input, offset, length);
+        return sha256.digest();
+    }
+
+    /**
+     * Generates the SHA-256 digest of the remaining bytes of the given buffer. The position of
+     * the buffer is not changed.
+     *
+     * @param input the input to digest.
+     * @return the hash value.
+     */
+    public static byte[] sha256(ByteBuffer input) {
+        MessageDigest sha256 = sha256Digest();
+        sha256.update(input.duplicate());
+        return sha256.digest();
+    }
+
+    /**
+     * Generates the SHA-256 digest of a slice of the input and writes it into the given output
+     * array.
+     *
+     * @param input        the input to digest.
+     * @param offset       the offset at which the slice starts.
+     * @param length       the length of the slice to digest.
+     * @param output       the array to write the hash into.
+     * @param outputOffset the offset at which the hash is written.
+     */
+    public static void sha256(byte[] input, int offset, int length, byte[] output,
+            int outputOffset) {
+
+        MessageDigest sha256 = sha256Digest();
+        sha256.update(input, offset, length);
+        digest(sha256, output, outputOffset);
     }
 
     /**
@@ -138,7 +204,7 @@ public class Hash {
      * @return the hash value for the given input.
      */
     public static byte[] hash256(byte[] input) {
-        return sha256(sha256(input));
+        return hash256(input, 0, input.length);
     }
 
     /**
@@ -153,6 +219,94 @@ public class Hash {
      * @return the hash value.
      */
     public static byte[] hash256(byte[] input, int offset, int length) {
-        return sha256(sha256(input, offset, length));
+        byte[] result = new byte[SHA256_SIZE];
+        hash256(input, offset, length, result, 0);
+        return result;
+    }
+
+    /**
+     * Applies SHA-256 twice to the remaining bytes of the given buffer. The position of the
+     * buffer is not changed.
+     * <p>
+     * Neo uses the name {@code hash256} for hashes created in this way.
+     *
+     * @param input The input to hash.
+     * @return the hash value.
+     */
+    public static byte[] hash256(ByteBuffer input) {
+        MessageDigest sha256 = sha256Digest();
+        sha256.update(input.duplicate());
+        byte[] result = new byte[SHA256_SIZE];
+        digest(sha256, result, 0);
+        sha256.update(result);
+        digest(sha256, result, 0);
+        return result;
+    }
+
+    /**
+     * Applies SHA-256 twice to a slice of the input and writes the hash into the given output
+     * array.
+     * <p>
+     * Neo uses the name {@code hash256} for hashes created in this way.
+     *
+     * @param input        the input to hash.
+     * @param offset       the offset at which the slice starts.
+     * @param length       the length of the slice to hash.
+     * @param output       the array to write the hash into.
+     * @param outputOffset the offset at which the hash is written.
+     */
+    public static void hash256(byte[] input, int offset, int length, byte[] output,
+            int outputOffset) {
+
+        byte[] intermediate = INTERMEDIATE.get();
+        sha256(input, offset, length, intermediate, 0);
+        sha256(intermediate, 0, SHA256_SIZE, output, outputOffset);
+    }
+
+    private static MessageDigest sha256Digest() {
+        MessageDigest digest = SHA256.get();
+        digest.reset();
+        return digest;
+    }
+
+    private static MessageDigest ripemd160Digest() {
+        MessageDigest digest = RIPEMD160.get();
+        digest.reset();
+        return digest;
+    }
+
+    // Completes the digest and writes the hash into the output at the given offset.
+    private static void digest(MessageDigest digest, byte[] output, int offset) {
+        int length = digest.getDigestLength();
+        if (offset < 0 || output.length - offset < length) {
+            throw new IllegalArgumentException("The output array has not enough space for a "
+                    + length + " byte hash.");
+        }
+        try {
+            digest.digest(output, offset, length);
+        } catch (DigestException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Creates a new SHA-256 digest that is not shared with the hash functions of this class.
+     *
+     * @return the digest.
+     */
+    static MessageDigest newSha256Digest() {
+        try {
+            return (MessageDigest) SHA256.get().clone();
+        } catch (CloneNotSupportedException e) {
+            return newDigest("SHA-256");
+        }
+    }
+
+    private static MessageDigest newDigest(String algorithm) {
+        try {
+            return MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Couldn't find a " + algorithm + " provider", e);
+        }
     }
 }
@@ -0,0 +1,110 @@
+package io.neow3j.crypto;
+
+import io.neow3j.io.BinaryWriter;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.security.DigestException;
+import java.security.MessageDigest;
+
+/**
+ * <p>A {@link BinaryWriter} that feeds the written bytes into a SHA-256 digest instead of
+ * storing them.</p>
+ * <br>
+ * <p>This allows hashing a serializable without first serializing it into a byte array. E.g.,
+ * writing the network magic number followed by the unsigned fields of a transaction and then
+ * calling {@link #hash256()} produces the transaction hash. The writer is reset after each hash
+ * and can be reused.</p>
+ */
+public class HashWriter extends BinaryWriter {
+
+    private final MessageDigest digest;
+    private final byte[] array = new byte[Hash.SHA256_SIZE];
+    private final ByteBuffer buffer = ByteBuffer.wrap(array).order(ByteOrder.LITTLE_ENDIAN);
+
+    public HashWriter() {
+        this.digest = Hash.newSha256Digest();
+        this.digest.reset();
+    }
+
+    /**
+     * Completes the SHA-256 hash of the written bytes and resets the writer.
+     *
+     * @return the hash.
+     */
+    public byte[] sha256() {
+        return digest.digest();
+    }
+
+    /**
+     * Completes the hash256, i.e., the double SHA-256 hash, of the written bytes and resets the
+     * writer.
+     *
+     * @return the hash.
+     */
+    public byte[] hash256() {
+        try {
+            digest.digest(array, 0, Hash.SHA256_SIZE);
+        } catch (DigestException e) {
+            throw new IllegalStateException(e);
+        }
+        return digest.digest(array);
+    }
+
+    /**
+     * Discards the written bytes.
+     */
+    public void reset() {
+        digest.reset();
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void write(byte[] buffer) {
+        digest.update(buffer);
+    }
+
+    @Override
+    public void write(byte[] buffer, int index, int length) {
+        digest.update(buffer, index, length);
+    }
+
+    @Override
+    public void writeBoolean(boolean v) {
+        writeByte((byte) (v ? 1 : 0));
+    }
+
+    @Override
+    public void writeByte(byte v) {
+        digest.update(v);
+    }
+
+    @Override
+    public void writeDouble(double v) {
+        writeInt64(Double.doubleToRawLongBits(v));
+    }
+
+    @Override
+    public void writeFloat(float v) {
+        writeInt32(Float.floatToRawIntBits(v));
+    }
+
+    @Override
+    public void writeInt32(int v) {
+        buffer.putInt(0, v);
+        digest.update(array, 0, Integer.BYTES);
+    }
+
+    @Override
+    public void writeInt64(long v) {
+        buffer.putLong(0, v);
+        digest.update(array, 0, Long.BYTES);
+    }
+}
@@ -38,6 +38,7 @@ import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 import org.bouncycastle.math.ec.ECPoint;
 
 public class BinaryReader implements AutoCloseable {
@@ -52,6 +53,13 @@ public class BinaryReader implements AutoCloseable {
         this.reader = new DataInputStream(stream);
     }
 
+    /**
+     * Constructor for readers that do not read from an {@link InputStream}. Such readers must
+     * override all methods that read from the stream.
+     */
+    protected BinaryReader() {
+    }
+
     public BinaryReader(byte[] input) {
         this(new ByteArrayInputStream(input, 0, input.length));
     }
@@ -136,12 +144,10 @@ public class BinaryReader implements AutoCloseable {
     public byte[] readEncodedECPoint() throws DeserializationException {
         byte[] ecPoint = new byte[33];
         try {
-            byte encoded = reader.readByte();
-            position += Byte.BYTES;
+            byte encoded = readByte();
             if (encoded == 0x02 || encoded == 0x03) {
                 ecPoint[0] = encoded;
-                reader.readFully(ecPoint, 1, 32);
-                position += 32;
+                read(ecPoint, 1, 32);
                 return ecPoint;
             }
         } catch (IOException e) {
@@ -153,8 +159,7 @@ public class BinaryReader implements AutoCloseable {
     public ECPoint readECPoint() throws IOException {
         // based on: https://tools.ietf.org/html/rfc5480#section-2.2
         byte[] encoded;
-        byte fb = reader.readByte();
-        position += Byte.BYTES;
+        byte fb = readByte();
         switch (fb) {
             case 0x00:
                 encoded = new byte[1];
@@ -163,14 +168,12 @@ public class BinaryReader implements AutoCloseable {
             case 0x03:
                 encoded = new byte[33];
                 encoded[0] = fb;
-                reader.readFully(encoded, 1, 32);
-                position += 32;
+                read(encoded, 1, 32);
                 break;
             case 0x04:
                 encoded = new byte[65];
                 encoded[0] = fb;
-                reader.readFully(encoded, 1, 64);
-                position += 64;
+                read(encoded, 1, 64);
                 break;
             default:
                 throw new IOException();
@@ -282,6 +285,75 @@ public class BinaryReader implements AutoCloseable {
         }
     }
 
+    /**
+     * Reads a serializable that is created by the given factory. Unlike
+     * {@link #readSerializable(Class)}, this does not instantiate the serializable reflectively.
+     *
+     * @param factory creates an empty instance of the serializable, e.g., its no-arg
+     *                constructor.
+     * @param <T>     the type of the serializable.
+     * @return the serializable.
+     * @throws DeserializationException if the serializable cannot be read.
+     */
+    public <T extends NeoSerializable> T readSerializable(Supplier<T> factory)
+            throws DeserializationException {
+
+        T obj = factory.get();
+        obj.deserialize(this);
+        return obj;
+    }
+
+    /**
+     * Reads a list of serializables that is prefixed with its size in bytes.
+     *
+     * @param factory creates an empty instance of the serializables.
+     * @param <T>     the type of the serializables.
+     * @return the list.
+     * @throws DeserializationException if the list cannot be read.
+     * @see #readSerializable(Supplier)
+     */
+    public <T extends NeoSerializable> List<T> readSerializableListVarBytes(Supplier<T> factory)
+            throws DeserializationException {
+
+        try {
+            int length = (int) readVarInt(0x10000000);
+            int bytesRead = 0;
+            int initialOffset = getPosition();
+            List<T> list = new ArrayList<>();
+            while (bytesRead < length) {
+                list.add(readSerializable(factory));
+                bytesRead = getPosition() - initialOffset;
+            }
+            return list;
+        } catch (IOException e) {
+            throw new DeserializationException(e);
+        }
+    }
+
+    /**
+     * Reads a list of serializables that is prefixed with its number of elements.
+     *
+     * @param factory creates an empty instance of the serializables.
+     * @param <T>     the type of the serializables.
+     * @return the list.
+     * @throws DeserializationException if the list cannot be read.
+     * @see #readSerializable(Supplier)
+     */
+    public <T extends NeoSerializable> List<T> readSerializableList(Supplier<T> factory)
+            throws DeserializationException {
+
+        try {
+            int length = (int) readVarInt(0x10000000);
+            List<T> list = new ArrayList<>(length);
+            for (int i = 0; i < length; i++) {
+                list.add(readSerializable(factory));
+            }
+            return list;
+        } catch (IOException e) {
+            throw new DeserializationException(e);
+        }
+    }
+
     public short readShort() throws IOException {
         reader.readFully(array, 0, 2);
         position += 2;
@@ -325,6 +397,32 @@ public class BinaryReader implements AutoCloseable {
         return readBytes((int) readVarInt(max));
     }
 
+    /**
+     * Reads the given number of bytes into a little-endian {@link ByteBuffer}.
+     * <p>
+     * Readers that are backed by a buffer return a view of their content instead of a copy (see
+     * {@link ByteBufferReader}).
+     *
+     * @param count the number of bytes.
+     * @return the buffer with the bytes between its position and its limit.
+     * @throws IOException if an I/O exception occurs.
+     */
+    public ByteBuffer readByteBuffer(int count) throws IOException {
+        return ByteBuffer.wrap(readBytes(count)).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Reads a variable length byte array into a little-endian {@link ByteBuffer}.
+     *
+     * @param max the maximum length of the array.
+     * @return the buffer with the bytes between its position and its limit.
+     * @throws IOException if an I/O exception occurs or the array is longer than the maximum.
+     * @see #readByteBuffer(int)
+     */
+    public ByteBuffer readVarByteBuffer(int max) throws IOException {
+        return readByteBuffer((int) readVarInt(max));
+    }
+
     public long readVarInt() throws IOException {
         return readVarInt(Long.MAX_VALUE);
     }
@@ -381,12 +479,10 @@ public class BinaryReader implements AutoCloseable {
 
 
     public static int readUInt16(byte[] bytes) {
-        try (ByteArrayInputStream ms = new ByteArrayInputStream(bytes)) {
-            try (BinaryReader reader = new BinaryReader(ms)) {
-                return reader.readUInt16();
-            }
+        try {
+            return new ByteBufferReader(bytes).readUInt16();
         } catch (IOException e) {
-            // Shouldn't happen because the underlying stream is a ByteArrayInputStream.
+            // Only happens if the array is too short.
             throw new RuntimeException(e);
         }
     }
@@ -44,6 +44,13 @@ public class BinaryWriter implements AutoCloseable {
         this.writer = new DataOutputStream(stream);
     }
 
+    /**
+     * Constructor for subclasses that do not write to an output stream. Such subclasses need to
+     * override all methods that access the stream directly.
+     */
+    protected BinaryWriter() {
+    }
+
     @Override
     public void close() throws IOException {
         writer.close();
@@ -75,7 +82,7 @@ public class BinaryWriter implements AutoCloseable {
     }
 
     public void writeECPoint(ECPoint v) throws IOException {
-        writer.write(v.getEncoded(true));
+        write(v.getEncoded(true));
     }
 
     public void writeFixedString(String v, int length) throws IOException {
@@ -89,9 +96,9 @@ public class BinaryWriter implements AutoCloseable {
         if (bytes.length > length) {
             throw new IllegalArgumentException();
         }
-        writer.write(bytes);
+        write(bytes);
         if (bytes.length < length) {
-            writer.write(new byte[length - bytes.length]);
+            write(new byte[length - bytes.length]);
         }
     }
 
@@ -132,8 +139,7 @@ public class BinaryWriter implements AutoCloseable {
             throw new IllegalArgumentException("Value of 32-bit unsigned integer was not in " +
                     "interval [0, 2^32).");
         }
-        buffer.putLong(0, v);
-        writer.write(array, 0, 4);
+        writeInt32((int) v);
     }
 
     public void writeSerializableVariableBytes(NeoSerializable v) throws IOException {
@@ -182,12 +188,12 @@ public class BinaryWriter implements AutoCloseable {
                     "interval [0, 2^16).");
         }
         buffer.putInt(0, v);
-        writer.write(array, 0, 2);
+        write(array, 0, 2);
     }
 
     public void writeVarBytes(byte[] v) throws IOException {
         writeVarInt(v.length);
-        writer.write(v);
+        write(v);
     }
 
     public void writeVarInt(long v) throws IOException {
@@ -0,0 +1,177 @@
+package io.neow3j.io;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * <p>A {@link BinaryReader} that reads directly from a {@link ByteBuffer}.</p>
+ * <br>
+ * <p>Primitives are read from the buffer in little-endian order without going through a stream
+ * or a scratch buffer. Heap buffers as well as direct and memory-mapped buffers are
+ * supported.</p>
+ * <br>
+ * <p>The reader reads from a duplicate of the given buffer, starting at its position and ending
+ * at its limit. The position of the given buffer is not changed. {@link #readByteBuffer(int)}
+ * and {@link #readVarByteBuffer(int)} return views of the content of the buffer instead of
+ * copies. Changes to the content of the buffer are visible in these views.</p>
+ */
+public class ByteBufferReader extends BinaryReader {
+
+    private final ByteBuffer buffer;
+    private final int start;
+    // The number of bytes read with readByteKeepPosition()
+    private int uncounted = 0;
+    private int markIndex = -1;
+    private int markUncounted = 0;
+
+    public ByteBufferReader(ByteBuffer buffer) {
+        this.buffer = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        this.start = buffer.position();
+    }
+
+    public ByteBufferReader(byte[] input) {
+        this(ByteBuffer.wrap(input));
+    }
+
+    public ByteBufferReader(byte[] input, int offset, int length) {
+        this(ByteBuffer.wrap(input, offset, length));
+    }
+
+    /**
+     * @return the number of bytes that were not read yet.
+     */
+    public int remaining() {
+        return buffer.remaining();
+    }
+
+    @Override
+    public int getPosition() {
+        return buffer.position() - start - uncounted;
+    }
+
+    @Override
+    public int getMark() {
+        return markIndex < 0 ? -1 : markIndex - start - markUncounted;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public void mark(int readlimit) {
+        markIndex = buffer.position();
+        markUncounted = uncounted;
+    }
+
+    @Override
+    public void reset() throws IOException {
+        if (markIndex < 0) {
+            throw new IOException("The reader was not marked.");
+        }
+        buffer.position(markIndex);
+        uncounted = markUncounted;
+    }
+
+    @Override
+    public void read(byte[] buffer) throws IOException {
+        read(buffer, 0, buffer.length);
+    }
+
+    @Override
+    public void read(byte[] buffer, int index, int length) throws IOException {
+        require(length);
+        this.buffer.get(buffer, index, length);
+    }
+
+    @Override
+    public boolean readBoolean() throws IOException {
+        return readByte() != 0;
+    }
+
+    @Override
+    public int readUnsignedByte() throws IOException {
+        return Byte.toUnsignedInt(readByte());
+    }
+
+    @Override
+    public byte readByteKeepPosition() throws IOException {
+        byte result = readByte();
+        uncounted++;
+        return result;
+    }
+
+    @Override
+    public byte readByte() throws IOException {
+        require(Byte.BYTES);
+        return buffer.get();
+    }
+
+    @Override
+    public byte[] readBytes(int count) throws IOException {
+        require(count);
+        byte[] result = new byte[count];
+        buffer.get(result);
+        return result;
+    }
+
+    @Override
+    public ByteBuffer readByteBuffer(int count) throws IOException {
+        require(count);
+        ByteBuffer view = buffer.slice();
+        view.limit(count);
+        buffer.position(buffer.position() + count);
+        return view.order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    @Override
+    public double readDouble() throws IOException {
+        require(Double.BYTES);
+        return buffer.getDouble();
+    }
+
+    @Override
+    public float readFloat() throws IOException {
+        require(Float.BYTES);
+        return buffer.getFloat();
+    }
+
+    @Override
+    public int readInt() throws IOException {
+        require(Integer.BYTES);
+        return buffer.getInt();
+    }
+
+    @Override
+    public int readUInt16() throws IOException {
+        return Short.toUnsignedInt(readShort());
+    }
+
+    @Override
+    public long readUInt32() throws IOException {
+        return Integer.toUnsignedLong(readInt());
+    }
+
+    @Override
+    public long readInt64() throws IOException {
+        require(Long.BYTES);
+        return buffer.getLong();
+    }
+
+    @Override
+    public short readShort() throws IOException {
+        require(Short.BYTES);
+        return buffer.getShort();
+    }
+
+    private void require(int count) throws IOException {
+        if (count < 0) {
+            throw new IOException("Cannot read a negative number of bytes.");
+        }
+        if (count > buffer.remaining()) {
+            throw new EOFException();
+        }
+    }
+}
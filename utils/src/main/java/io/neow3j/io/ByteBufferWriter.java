@@ -0,0 +1,208 @@
+package io.neow3j.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * <p>A {@link BinaryWriter} that writes directly into a {@link ByteBuffer}.</p>
+ * <br>
+ * <p>Primitives are written in little-endian order without going through a stream or a scratch
+ * buffer. A writer created with {@link #ByteBufferWriter()} writes into a heap buffer that grows
+ * as needed and can be reused after {@link #reset()}. A writer created with
+ * {@link #ByteBufferWriter(ByteBuffer)} writes into the given buffer, starting at its position,
+ * and advances that position. It does not grow the buffer and fails with an
+ * {@link IOException} if the buffer has not enough space left.</p>
+ * <br>
+ * <p>{@link #toByteArray(Serialization)} serializes with a writer that is reused by the calling
+ * thread, so that repeated serializations do not allocate a new stream and writer each time.</p>
+ */
+public class ByteBufferWriter extends BinaryWriter {
+
+    /**
+     * The initial capacity of growable writers.
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    // Pooled writers that grew beyond this capacity are discarded after use, so that a thread
+    // does not hold on to the buffer of an exceptionally large serialization.
+    private static final int MAX_POOLED_CAPACITY = 1024 * 1024;
+
+    private static final ThreadLocal<ByteBufferWriter> POOL =
+            ThreadLocal.withInitial(ByteBufferWriter::new);
+
+    private ByteBuffer buffer;
+    private final boolean growable;
+    private final int start;
+    private final boolean littleEndian;
+    private boolean inUse = false;
+
+    /**
+     * Creates a writer that writes into a growable buffer.
+     */
+    public ByteBufferWriter() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a writer that writes into a growable buffer.
+     *
+     * @param initialCapacity the initial capacity of the buffer.
+     */
+    public ByteBufferWriter(int initialCapacity) {
+        this.buffer = ByteBuffer.allocate(initialCapacity).order(ByteOrder.LITTLE_ENDIAN);
+        this.growable = true;
+        this.start = 0;
+        this.littleEndian = true;
+    }
+
+    /**
+     * Creates a writer that writes into the given buffer, starting at its position. The byte
+     * order of the given buffer is not changed and does not affect the written bytes.
+     *
+     * @param target the buffer to write into.
+     */
+    public ByteBufferWriter(ByteBuffer target) {
+        this.buffer = target;
+        this.growable = false;
+        this.start = target.position();
+        this.littleEndian = target.order() == ByteOrder.LITTLE_ENDIAN;
+    }
+
+    /**
+     * Serializes with the writer of the calling thread and returns a copy of the written bytes.
+     * <p>
+     * If the writer of the calling thread is already in use, e.g., because a serializable calls
+     * {@link NeoSerializableInterface#toArray()} on one of its fields while it is serialized, a
+     * new writer is used instead.
+     *
+     * @param serialization the serialization to perform.
+     * @return the written bytes.
+     * @throws IOException if the serialization fails.
+     */
+    public static byte[] toByteArray(Serialization serialization) throws IOException {
+        ByteBufferWriter writer = POOL.get();
+        if (writer.inUse) {
+            writer = new ByteBufferWriter();
+            serialization.serialize(writer);
+            return writer.toByteArray();
+        }
+        writer.inUse = true;
+        try {
+            writer.reset();
+            serialization.serialize(writer);
+            return writer.toByteArray();
+        } finally {
+            writer.inUse = false;
+            if (writer.buffer.capacity() > MAX_POOLED_CAPACITY) {
+                POOL.remove();
+            }
+        }
+    }
+
+    /**
+     * @return the number of bytes written since the writer was created or last reset.
+     */
+    public int size() {
+        return buffer.position() - start;
+    }
+
+    /**
+     * @return a copy of the bytes written since the writer was created or last reset.
+     */
+    public byte[] toByteArray() {
+        if (buffer.hasArray()) {
+            int offset = buffer.arrayOffset() + start;
+            return Arrays.copyOfRange(buffer.array(), offset, offset + size());
+        }
+        ByteBuffer written = buffer.duplicate();
+        written.flip().position(start);
+        byte[] result = new byte[written.remaining()];
+        written.get(result);
+        return result;
+    }
+
+    /**
+     * Discards the written bytes, so that the writer can be reused.
+     */
+    public void reset() {
+        buffer.position(start);
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void write(byte[] buffer) throws IOException {
+        write(buffer, 0, buffer.length);
+    }
+
+    @Override
+    public void write(byte[] buffer, int index, int length) throws IOException {
+        require(length);
+        this.buffer.put(buffer, index, length);
+    }
+
+    @Override
+    public void writeBoolean(boolean v) throws IOException {
+        writeByte((byte) (v ? 1 : 0));
+    }
+
+    @Override
+    public void writeByte(byte v) throws IOException {
+        require(Byte.BYTES);
+        buffer.put(v);
+    }
+
+    @Override
+    public void writeDouble(double v) throws IOException {
+        writeInt64(Double.doubleToRawLongBits(v));
+    }
+
+    @Override
+    public void writeFloat(float v) throws IOException {
+        writeInt32(Float.floatToRawIntBits(v));
+    }
+
+    @Override
+    public void writeInt32(int v) throws IOException {
+        require(Integer.BYTES);
+        buffer.putInt(littleEndian ? v : Integer.reverseBytes(v));
+    }
+
+    @Override
+    public void writeInt64(long v) throws IOException {
+        require(Long.BYTES);
+        buffer.putLong(littleEndian ? v : Long.reverseBytes(v));
+    }
+
+    private void require(int count) throws IOException {
+        if (count <= buffer.remaining()) {
+            return;
+        }
+        if (!growable) {
+            throw new IOException("Not enough space left in the buffer to write " + count
+                    + " bytes.");
+        }
+        int capacity = Math.max(buffer.capacity() * 2, buffer.position() + count);
+        ByteBuffer grown = ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.flip();
+        grown.put(buffer);
+        buffer = grown;
+    }
+
+    /**
+     * A serialization that writes to a {@link BinaryWriter}.
+     */
+    @FunctionalInterface
+    public interface Serialization {
+
+        void serialize(BinaryWriter writer) throws IOException;
+    }
+}
@@ -0,0 +1,116 @@
+package io.neow3j.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * <p>An input stream that decodes the bytes of a hexadecimal string while it is read.</p>
+ * <br>
+ * <p>The characters are decoded directly from the given array, so that neither a String nor a
+ * byte array of the decoded data is created. The stream expects an even number of hexadecimal
+ * digits, optionally prefixed with "0x".</p>
+ */
+public class HexInputStream extends InputStream {
+
+    private final char[] chars;
+    private final int end;
+    private int position;
+    private int mark;
+
+    /**
+     * Creates a stream that decodes all characters of the given array.
+     *
+     * @param chars the hexadecimal characters.
+     */
+    public HexInputStream(char[] chars) {
+        this(chars, 0, chars.length);
+    }
+
+    /**
+     * Creates a stream that decodes a range of the given array.
+     *
+     * @param chars  the array containing the hexadecimal characters.
+     * @param offset the index of the first character.
+     * @param length the number of characters.
+     */
+    public HexInputStream(char[] chars, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > chars.length) {
+            throw new IndexOutOfBoundsException("The range exceeds the character array.");
+        }
+        this.chars = chars;
+        this.end = offset + length;
+        if (length >= 2 && chars[offset] == '0' && (chars[offset + 1] == 'x'
+                || chars[offset + 1] == 'X')) {
+            offset += 2;
+        }
+        this.position = offset;
+        this.mark = offset;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (position >= end) {
+            return -1;
+        }
+        return decodeByte();
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (off < 0 || len < 0 || len > b.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (len == 0) {
+            return 0;
+        }
+        if (position >= end) {
+            return -1;
+        }
+        int count = Math.min(len, available());
+        for (int i = 0; i < count; i++) {
+            b[off + i] = (byte) decodeByte();
+        }
+        return count;
+    }
+
+    @Override
+    public long skip(long n) {
+        long skipped = Math.max(0, Math.min(n, available()));
+        position += 2 * skipped;
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        return (end - position) / 2;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+        mark = position;
+    }
+
+    @Override
+    public synchronized void reset() {
+        position = mark;
+    }
+
+    private int decodeByte() throws IOException {
+        if (position + 1 >= end) {
+            throw new IOException("Hexadecimal string has an odd number of digits.");
+        }
+        int high = Character.digit(chars[position], 16);
+        int low = Character.digit(chars[position + 1], 16);
+        if (high < 0 || low < 0) {
+            throw new IOException("Invalid hexadecimal digit at position " + position + ".");
+        }
+        position += 2;
+        return (high << 4) | low;
+    }
+
+}
@@ -2,9 +2,8 @@ package io.neow3j.io;
 
 import io.neow3j.io.exceptions.DeserializationException;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.List;
 
 public interface NeoSerializableInterface {
@@ -22,39 +21,32 @@ public interface NeoSerializableInterface {
     int getSize();
 
     default byte[] toArray() {
-        try (ByteArrayOutputStream ms = new ByteArrayOutputStream()) {
-            try (BinaryWriter writer = new BinaryWriter(ms)) {
-                serialize(writer);
-                writer.flush();
-                return ms.toByteArray();
-            }
+        try {
+            return ByteBufferWriter.toByteArray(this::serialize);
         } catch (IOException ex) {
             throw new UnsupportedOperationException(ex);
         }
     }
 
+    /**
+     * Serializes this serializable into the given buffer, starting at its position. The position
+     * of the buffer is advanced by the number of written bytes.
+     *
+     * @param target the buffer.
+     * @throws IOException if the buffer has not enough space left.
+     */
+    default void writeTo(ByteBuffer target) throws IOException {
+        serialize(new ByteBufferWriter(target));
+    }
+
     static <T extends NeoSerializable> T from(byte[] value, Class<T> t)
             throws DeserializationException {
-
-        try (ByteArrayInputStream ms = new ByteArrayInputStream(value)) {
-            try (BinaryReader reader = new BinaryReader(ms)) {
-                return reader.readSerializable(t);
-            }
-        } catch (IOException e) {
-            throw new DeserializationException(e);
-        }
+        return new ByteBufferReader(value).readSerializable(t);
     }
 
     static <T extends NeoSerializable> List<T> fromAsList(byte[] value, Class<T> t)
             throws DeserializationException {
-
-        try (ByteArrayInputStream ms = new ByteArrayInputStream(value)) {
-            try (BinaryReader reader = new BinaryReader(ms)) {
-                return reader.readSerializableListVarBytes(t);
-            }
-        } catch (IOException e) {
-            throw new DeserializationException(e);
-        }
+        return new ByteBufferReader(value).readSerializableListVarBytes(t);
     }
 
 }
@@ -3,6 +3,9 @@ package io.neow3j.crypto;
 import io.neow3j.utils.Numeric;
 import org.junit.Test;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
@@ -104,4 +107,57 @@ public class HashTest {
         final String result = Hash.ripemd160(hexStringToHash);
         assertThat(result, is(expected));
     }
+
+    @Test
+    public void testSha256() {
+        assertThat(Numeric.toHexStringNoPrefix(Hash.sha256("abc".getBytes())),
+                is("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad"));
+    }
+
+    @Test
+    public void testSha256OfSliceAndBuffer() {
+        byte[] input = "xxabcyy".getBytes();
+        byte[] expected = Hash.sha256("abc".getBytes());
+
+        assertThat(Hash.sha256(input, 2, 3), is(expected));
+        assertThat(Hash.sha256(ByteBuffer.wrap(input, 2, 3)), is(expected));
+
+        byte[] output = new byte[Hash.SHA256_SIZE + 1];
+        Hash.sha256(input, 2, 3, output, 1);
+        assertThat(Arrays.copyOfRange(output, 1, output.length), is(expected));
+    }
+
+    @Test
+    public void testHash256OfSliceAndBuffer() {
+        byte[] input = "xxabcyy".getBytes();
+        byte[] expected = Hash.sha256(Hash.sha256("abc".getBytes()));
+
+        assertThat(Hash.hash256("abc".getBytes()), is(expected));
+        assertThat(Hash.hash256(input, 2, 3), is(expected));
+
+        ByteBuffer buffer = ByteBuffer.wrap(input, 2, 3);
+        assertThat(Hash.hash256(buffer), is(expected));
+        assertThat(buffer.position(), is(2));
+
+        byte[] output = new byte[Hash.SHA256_SIZE];
+        Hash.hash256(input, 2, 3, output, 0);
+        assertThat(output, is(expected));
+    }
+
+    @Test
+    public void testSha256AndThenRipemd160() {
+        byte[] input = "Hello World.".getBytes();
+        byte[] expected = Hash.ripemd160(Hash.sha256(input));
+
+        assertThat(Hash.sha256AndThenRipemd160(input), is(expected));
+
+        byte[] output = new byte[Hash.RIPEMD160_SIZE + 2];
+        Hash.sha256AndThenRipemd160(input, 0, input.length, output, 2);
+        assertThat(Arrays.copyOfRange(output, 2, output.length), is(expected));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testHash256IntoTooSmallOutput() {
+        Hash.hash256(new byte[]{1}, 0, 1, new byte[Hash.SHA256_SIZE], 1);
+    }
 }
@@ -0,0 +1,53 @@
+package io.neow3j.crypto;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import io.neow3j.io.BinaryWriter;
+import io.neow3j.io.ByteBufferWriter;
+
+import java.io.IOException;
+import org.junit.Test;
+
+public class HashWriterTest {
+
+    @Test
+    public void hashWrittenPrimitives() throws IOException {
+        HashWriter hashWriter = new HashWriter();
+        writePrimitives(hashWriter);
+        ByteBufferWriter writer = new ByteBufferWriter();
+        writePrimitives(writer);
+
+        assertThat(hashWriter.hash256(), is(Hash.hash256(writer.toByteArray())));
+    }
+
+    @Test
+    public void resetAfterHash() throws IOException {
+        HashWriter writer = new HashWriter();
+        writer.writeVarBytes(new byte[]{1, 2, 3});
+        writer.sha256();
+        writer.write(new byte[]{1, 2, 3});
+
+        assertThat(writer.sha256(), is(Hash.sha256(new byte[]{1, 2, 3})));
+    }
+
+    @Test
+    public void reset() {
+        HashWriter writer = new HashWriter();
+        writer.writeByte((byte) 1);
+        writer.reset();
+
+        assertThat(writer.hash256(), is(Hash.hash256(new byte[0])));
+    }
+
+    private void writePrimitives(BinaryWriter writer) throws IOException {
+        writer.writeByte((byte) 1);
+        writer.writeBoolean(true);
+        writer.writeUInt16(0x1234);
+        writer.writeInt32(-2);
+        writer.writeUInt32(0xffffffffL);
+        writer.writeInt64(0x0102030405060708L);
+        writer.writeVarInt(0x100);
+        writer.writeVarBytes(new byte[]{0x01, 0x02});
+    }
+}
@@ -3,10 +3,13 @@ package io.neow3j.io;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertThat;
 
+import io.neow3j.contract.ScriptHash;
 import io.neow3j.io.exceptions.DeserializationException;
+import io.neow3j.utils.Numeric;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.math.BigInteger;
+import java.util.List;
 import org.junit.Test;
 
 public class BinaryReaderTest extends TestBinaryUtils {
@@ -295,6 +298,30 @@ public class BinaryReaderTest extends TestBinaryUtils {
         assertThat(value, is(749_675_361_041L));
     }
 
+    @Test
+    public void readSerializableListWithFactory() throws DeserializationException {
+        byte[] data = Numeric.hexStringToByteArray("02"
+                + "0101010101010101010101010101010101010101"
+                + "0202020202020202020202020202020202020202");
+        buildBinaryReader(data);
+        List<ScriptHash> list = this.testBinaryReader.readSerializableList(ScriptHash::new);
+        assertThat(list.size(), is(2));
+        assertThat(list.get(1).toString(), is("0202020202020202020202020202020202020202"));
+    }
+
+    @Test
+    public void readSerializableListVarBytesWithFactory() throws DeserializationException {
+        byte[] data = Numeric.hexStringToByteArray("28"
+                + "0101010101010101010101010101010101010101"
+                + "0202020202020202020202020202020202020202");
+        buildBinaryReader(data);
+        List<ScriptHash> list =
+                this.testBinaryReader.readSerializableListVarBytes(ScriptHash::new);
+        List<ScriptHash> reflective = new BinaryReader(new ByteArrayInputStream(data))
+                .readSerializableListVarBytes(ScriptHash.class);
+        assertThat(list, is(reflective));
+    }
+
     private void buildBinaryReader(byte[] data) {
         this.testBinaryReader = new BinaryReader(new ByteArrayInputStream(data));
     }
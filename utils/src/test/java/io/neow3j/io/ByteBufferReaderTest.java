@@ -0,0 +1,169 @@
+package io.neow3j.io;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import io.neow3j.utils.Numeric;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import org.junit.Test;
+
+public class ByteBufferReaderTest {
+
+    private static final byte[] PRIMITIVES = Numeric.hexStringToByteArray(""
+            + "01" // byte
+            + "3412" // short
+            + "feffffff" // int
+            + "ffffffff" // uint32
+            + "0807060504030201" // int64
+            + "fd0001" // var int
+    );
+
+    @Test
+    public void readPrimitives() throws IOException {
+        assertPrimitives(new ByteBufferReader(PRIMITIVES));
+    }
+
+    @Test
+    public void readPrimitivesFromDirectBuffer() throws IOException {
+        ByteBuffer direct = ByteBuffer.allocateDirect(PRIMITIVES.length);
+        direct.put(PRIMITIVES);
+        direct.flip();
+
+        assertPrimitives(new ByteBufferReader(direct));
+    }
+
+    @Test
+    public void readPrimitivesFromBigEndianBuffer() throws IOException {
+        assertPrimitives(new ByteBufferReader(
+                ByteBuffer.wrap(PRIMITIVES).order(ByteOrder.BIG_ENDIAN)));
+    }
+
+    @Test
+    public void readFromPartOfArray() throws IOException {
+        byte[] array = Numeric.hexStringToByteArray("aabb0102cc");
+        ByteBufferReader reader = new ByteBufferReader(array, 2, 2);
+
+        assertThat(reader.readUInt16(), is(0x0201));
+        assertThat(reader.getPosition(), is(2));
+        assertThat(reader.remaining(), is(0));
+    }
+
+    @Test
+    public void doesNotChangePositionOfGivenBuffer() throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(PRIMITIVES);
+        buffer.position(1);
+        ByteBufferReader reader = new ByteBufferReader(buffer);
+
+        assertThat(reader.readShort(), is((short) 0x1234));
+        assertThat(reader.getPosition(), is(2));
+        assertThat(buffer.position(), is(1));
+    }
+
+    @Test
+    public void readVarByteBufferReturnsView() throws IOException {
+        byte[] array = Numeric.hexStringToByteArray("0301020304");
+        ByteBufferReader reader = new ByteBufferReader(array);
+
+        ByteBuffer view = reader.readVarByteBuffer(10);
+        assertThat(view.remaining(), is(3));
+        assertThat(view.order(), is(ByteOrder.LITTLE_ENDIAN));
+        assertThat(reader.readByte(), is((byte) 0x04));
+
+        array[1] = 0x7f;
+        assertThat(view.get(0), is((byte) 0x7f));
+    }
+
+    @Test
+    public void readVarBytesReturnsCopy() throws IOException {
+        byte[] array = Numeric.hexStringToByteArray("03010203");
+        ByteBufferReader reader = new ByteBufferReader(array);
+
+        byte[] bytes = reader.readVarBytes();
+        array[1] = 0x7f;
+        assertArrayEquals(new byte[]{0x01, 0x02, 0x03}, bytes);
+    }
+
+    @Test
+    public void readByteBufferFromStreamReader() throws IOException {
+        BinaryReader reader = new BinaryReader(Numeric.hexStringToByteArray("020102"));
+
+        ByteBuffer buffer = reader.readVarByteBuffer(10);
+        assertThat(buffer.remaining(), is(2));
+        assertThat(buffer.getShort(), is((short) 0x0201));
+    }
+
+    @Test
+    public void markAndReset() throws IOException {
+        ByteBufferReader reader = new ByteBufferReader(PRIMITIVES);
+        reader.readByte();
+        reader.mark(0);
+        assertThat(reader.getMark(), is(1));
+        reader.readInt64();
+
+        reader.reset();
+        assertThat(reader.getPosition(), is(1));
+        assertThat(reader.readShort(), is((short) 0x1234));
+    }
+
+    @Test(expected = IOException.class)
+    public void resetWithoutMark() throws IOException {
+        new ByteBufferReader(PRIMITIVES).reset();
+    }
+
+    @Test
+    public void readBeyondEnd() throws IOException {
+        ByteBufferReader reader = new ByteBufferReader(new byte[]{0x01, 0x02, 0x03});
+        try {
+            reader.readInt();
+        } catch (EOFException e) {
+            // The reader did not move.
+            assertThat(reader.getPosition(), is(0));
+            assertThat(reader.readUInt16(), is(0x0201));
+            return;
+        }
+        throw new AssertionError("Expected an EOFException.");
+    }
+
+    @Test(expected = EOFException.class)
+    public void readVarBytesBeyondEnd() throws IOException {
+        new ByteBufferReader(Numeric.hexStringToByteArray("050102")).readVarByteBuffer(10);
+    }
+
+    @Test
+    public void readEncodedECPoint() throws Exception {
+        String point = "03b209fd4f53a7170ea4444e0cb0a6bb6a53c2bd016926989cf85f9b0fba17a70c";
+        ByteBufferReader reader = new ByteBufferReader(Numeric.hexStringToByteArray(point));
+
+        assertArrayEquals(Numeric.hexStringToByteArray(point), reader.readEncodedECPoint());
+        assertThat(reader.getPosition(), is(33));
+        assertThat(reader.remaining(), is(0));
+    }
+
+    @Test
+    public void readSameAsStreamReader() throws Exception {
+        BinaryReader streamReader = new BinaryReader(PRIMITIVES);
+        ByteBufferReader bufferReader = new ByteBufferReader(PRIMITIVES);
+        while (streamReader.getPosition() < PRIMITIVES.length) {
+            assertThat(bufferReader.readByte(), is(streamReader.readByte()));
+            assertThat(bufferReader.getPosition(), is(streamReader.getPosition()));
+        }
+        assertTrue(bufferReader.remaining() == 0);
+    }
+
+    private static void assertPrimitives(ByteBufferReader reader) throws IOException {
+        assertThat(reader.readByte(), is((byte) 0x01));
+        assertThat(reader.readShort(), is((short) 0x1234));
+        assertThat(reader.readInt(), is(-2));
+        assertThat(reader.readUInt32(), is(0xffffffffL));
+        assertThat(reader.readInt64(), is(0x0102030405060708L));
+        assertThat(reader.readVarInt(), is(256L));
+        assertThat(reader.getPosition(), is(PRIMITIVES.length));
+        assertThat(reader.remaining(), is(0));
+    }
+}
@@ -0,0 +1,132 @@
+package io.neow3j.io;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+
+import io.neow3j.utils.Numeric;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import org.junit.Test;
+
+public class ByteBufferWriterTest {
+
+    private static final byte[] PRIMITIVES = Numeric.hexStringToByteArray(""
+            + "01" // byte
+            + "01" // boolean
+            + "3412" // uint16
+            + "feffffff" // int
+            + "ffffffff" // uint32
+            + "0807060504030201" // int64
+            + "fd0001" // var int
+            + "020102" // var bytes
+    );
+
+    @Test
+    public void writePrimitives() throws IOException {
+        ByteBufferWriter writer = new ByteBufferWriter();
+        writePrimitives(writer);
+
+        assertArrayEquals(PRIMITIVES, writer.toByteArray());
+        assertThat(writer.size(), is(PRIMITIVES.length));
+    }
+
+    @Test
+    public void writeSameBytesAsStreamWriter() throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        BinaryWriter streamWriter = new BinaryWriter(stream);
+        streamWriter.writeDouble(1.5);
+        streamWriter.writeFixedString("neo", 5);
+        streamWriter.writeVarInt(0x1_0000_0000L);
+
+        ByteBufferWriter writer = new ByteBufferWriter();
+        writer.writeDouble(1.5);
+        writer.writeFixedString("neo", 5);
+        writer.writeVarInt(0x1_0000_0000L);
+
+        assertArrayEquals(stream.toByteArray(), writer.toByteArray());
+    }
+
+    @Test
+    public void growBuffer() throws IOException {
+        ByteBufferWriter writer = new ByteBufferWriter(1);
+        writer.writeInt64(0x0102030405060708L);
+        writer.write(new byte[300]);
+
+        assertThat(writer.size(), is(308));
+        assertThat(writer.toByteArray()[0], is((byte) 0x08));
+    }
+
+    @Test
+    public void reset() throws IOException {
+        ByteBufferWriter writer = new ByteBufferWriter();
+        writer.writeInt32(1);
+        writer.reset();
+        writer.writeByte((byte) 2);
+
+        assertArrayEquals(new byte[]{0x02}, writer.toByteArray());
+    }
+
+    @Test
+    public void writeIntoGivenBuffer() throws IOException {
+        ByteBuffer target = ByteBuffer.allocate(PRIMITIVES.length + 2);
+        target.position(2);
+        ByteBufferWriter writer = new ByteBufferWriter(target);
+        writePrimitives(writer);
+
+        assertThat(target.position(), is(PRIMITIVES.length + 2));
+        assertThat(target.order(), is(ByteOrder.BIG_ENDIAN));
+        assertArrayEquals(PRIMITIVES, writer.toByteArray());
+    }
+
+    @Test
+    public void writeIntoDirectBuffer() throws IOException {
+        ByteBuffer target = ByteBuffer.allocateDirect(PRIMITIVES.length)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        writePrimitives(new ByteBufferWriter(target));
+
+        target.flip();
+        byte[] written = new byte[target.remaining()];
+        target.get(written);
+        assertArrayEquals(PRIMITIVES, written);
+    }
+
+    @Test(expected = IOException.class)
+    public void failIfGivenBufferIsFull() throws IOException {
+        new ByteBufferWriter(ByteBuffer.allocate(3)).writeInt32(1);
+    }
+
+    @Test
+    public void toByteArrayWithPooledWriter() throws IOException {
+        byte[] first = ByteBufferWriter.toByteArray(this::writePrimitives);
+        byte[] second = ByteBufferWriter.toByteArray(w -> w.writeByte((byte) 1));
+
+        assertArrayEquals(PRIMITIVES, first);
+        assertArrayEquals(new byte[]{0x01}, second);
+    }
+
+    @Test
+    public void toByteArrayWithNestedSerialization() throws IOException {
+        byte[] result = ByteBufferWriter.toByteArray(w -> {
+            w.writeByte((byte) 1);
+            w.writeVarBytes(ByteBufferWriter.toByteArray(inner -> inner.writeUInt16(0x0302)));
+            w.writeByte((byte) 4);
+        });
+
+        assertArrayEquals(Numeric.hexStringToByteArray("0102020304"), result);
+    }
+
+    private void writePrimitives(BinaryWriter writer) throws IOException {
+        writer.writeByte((byte) 1);
+        writer.writeBoolean(true);
+        writer.writeUInt16(0x1234);
+        writer.writeInt32(-2);
+        writer.writeUInt32(0xffffffffL);
+        writer.writeInt64(0x0102030405060708L);
+        writer.writeVarInt(0x100);
+        writer.writeVarBytes(new byte[]{0x01, 0x02});
+    }
+}
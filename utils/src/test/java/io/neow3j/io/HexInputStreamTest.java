@@ -0,0 +1,67 @@
+package io.neow3j.io;
+
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+
+public class HexInputStreamTest {
+
+    @Test
+    public void testRead() throws IOException {
+        HexInputStream stream = new HexInputStream("00ff7Fa0".toCharArray());
+
+        assertThat(stream.available(), is(4));
+        assertThat(stream.read(), is(0x00));
+        byte[] bytes = new byte[5];
+        assertThat(stream.read(bytes, 1, 4), is(3));
+        assertArrayEquals(new byte[]{0, (byte) 0xff, 0x7f, (byte) 0xa0, 0}, bytes);
+        assertThat(stream.read(), is(-1));
+        assertThat(stream.read(bytes, 0, 1), is(-1));
+    }
+
+    @Test
+    public void testReadRangeWithPrefix() throws IOException {
+        char[] chars = "\"0x0102\"".toCharArray();
+        HexInputStream stream = new HexInputStream(chars, 1, 6);
+
+        assertThat(stream.read(), is(1));
+        assertThat(stream.read(), is(2));
+        assertThat(stream.read(), is(-1));
+    }
+
+    @Test
+    public void testSkipAndReset() throws IOException {
+        HexInputStream stream = new HexInputStream("010203".toCharArray());
+        stream.mark(0);
+
+        assertThat(stream.skip(2), is(2L));
+        assertThat(stream.read(), is(3));
+        stream.reset();
+        assertThat(stream.read(), is(1));
+    }
+
+    @Test
+    public void testReadWithBinaryReader() throws IOException {
+        BinaryReader reader = new BinaryReader(new HexInputStream("040000000261620c".toCharArray()));
+
+        assertThat(reader.readUInt32(), is(4L));
+        assertArrayEquals(new byte[]{'a', 'b'}, reader.readVarBytes());
+    }
+
+    @Test(expected = IOException.class)
+    public void testInvalidDigit() throws IOException {
+        new HexInputStream("0g".toCharArray()).read();
+    }
+
+    @Test(expected = IOException.class)
+    public void testOddNumberOfDigits() throws IOException {
+        HexInputStream stream = new HexInputStream("010".toCharArray());
+        stream.read();
+        stream.read();
+    }
+
+}